@@ -4244,6 +4244,13 @@ CREATE INDEX selected_lb_networth_idx ON public.selected_lb USING btree (networt
 CREATE INDEX selected_lb_username_idx ON public.selected_lb USING gist (username public.gist_trgm_ops);
 
 
+--
+-- Name: stranded_lb_last_updated_idx; Type: INDEX; Schema: public
+--
+
+CREATE INDEX stranded_lb_last_updated_idx ON public.stranded_lb USING btree (last_updated, uuid);
+
+
 --
 -- Name: stranded_lb_networth_idx; Type: INDEX; Schema: public
 --
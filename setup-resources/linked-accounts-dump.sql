@@ -71,3 +71,10 @@ ALTER TABLE ONLY public.linked_account
 
 ALTER TABLE ONLY public.linked_account
     ADD CONSTRAINT linked_account_uuid_key UNIQUE (uuid);
+
+
+--
+-- Name: linked_account_last_updated_idx; Type: INDEX; Schema: public
+--
+
+CREATE INDEX linked_account_last_updated_idx ON public.linked_account USING btree (last_updated);
@@ -35,13 +35,18 @@ import com.skyblockplus.price.AuctionTracker;
 import com.skyblockplus.utils.ApiHandler;
 import com.skyblockplus.utils.AuctionFlipper;
 import com.skyblockplus.utils.Constants;
+import com.skyblockplus.utils.DataSnapshot;
+import com.skyblockplus.utils.EndedAuctionsFeed;
+import com.skyblockplus.utils.command.InteractionRouter;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandClient;
 import com.skyblockplus.utils.database.Database;
 import com.skyblockplus.utils.exceptionhandler.ExceptionEventListener;
 import com.skyblockplus.utils.exceptionhandler.GlobalExceptionHandler;
 import com.skyblockplus.utils.oauth.OAuthClient;
+import com.skyblockplus.utils.rendering.ChestRenderer;
 import com.skyblockplus.utils.utils.HttpUtils;
+import com.skyblockplus.utils.utils.JsonUtils;
 import com.skyblockplus.utils.utils.Utils;
 import jakarta.annotation.PreDestroy;
 import net.dv8tion.jda.api.JDA;
@@ -84,6 +89,7 @@ public class Main {
 		Message.suppressContentIntentWarning();
 
 		Utils.initialize();
+		DataSnapshot.initialize();
 		Constants.initialize();
 		botStatusWebhook =
 			new WebhookClientBuilder(BOT_STATUS_WEBHOOK).setExecutorService(scheduler).setHttpClient(okHttpClient).buildJDA();
@@ -93,6 +99,7 @@ public class Main {
 		springContext = springApplication.run(args);
 		database = springContext.getBean(Database.class);
 		waiter = new EventWaiter(scheduler, true);
+		interactionRouter = new InteractionRouter(scheduler);
 		client =
 			new CommandClientBuilder()
 				.setPrefix(PREFIX)
@@ -142,6 +149,7 @@ public class Main {
 			.createDefault(BOT_TOKEN)
 			.setStatus(OnlineStatus.DO_NOT_DISTURB)
 			.addEventListeners(
+				new ExceptionEventListener(interactionRouter),
 				new ExceptionEventListener(waiter),
 				client,
 				new ExceptionEventListener(slashCommandClient),
@@ -183,8 +191,11 @@ public class Main {
 
 			try {
 				ApiHandler.initialize();
+				JsonUtils.initializePriceFeeds();
+				ChestRenderer.initialize();
 				AuctionTracker.initialize();
 				AuctionFlipper.initialize(!IS_DEV);
+				EndedAuctionsFeed.initialize();
 				ApiController.initialize();
 				FetchurHandler.initialize();
 				scheduler.scheduleWithFixedDelay(MayorHandler::initialize, 1, 5, TimeUnit.MINUTES);
@@ -91,6 +91,11 @@ public class ApiController {
 		);
 	}
 
+	@GetMapping(value = "/private/metrics", produces = "text/plain; version=0.0.4")
+	public ResponseEntity<?> getCommandMetrics() {
+		return new ResponseEntity<>(slashCommandClient.getCommandMetrics().toPrometheus(), HttpStatus.OK);
+	}
+
 	@GetMapping("/sbg/data")
 	public ResponseEntity<?> getSbgEventData() {
 		if (guildMap.containsKey("602137436490956820")) {
@@ -23,7 +23,6 @@ import com.google.gson.JsonElement;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.command.*;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
-import com.skyblockplus.utils.utils.StringUtils;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -32,7 +31,6 @@ import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -58,10 +56,7 @@ public class EssenceSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			event.replyClosestMatch(
-				event.getFocusedOption().getValue(),
-				ESSENCE_ITEM_NAMES.stream().map(StringUtils::idToName).distinct().collect(Collectors.toCollection(ArrayList::new))
-			);
+			event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), ESSENCE_ITEM_NAMES);
 		} else if (event.getFocusedOption().getName().equals("player")) {
 			event.replyClosestPlayer();
 		}
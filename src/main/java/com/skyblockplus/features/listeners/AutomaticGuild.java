@@ -41,6 +41,7 @@ import com.skyblockplus.miscellaneous.RolesSlashCommand;
 import com.skyblockplus.miscellaneous.networth.NetworthExecute;
 import com.skyblockplus.price.AuctionTracker;
 import com.skyblockplus.utils.Player;
+import com.skyblockplus.utils.database.LinkedAccountIndex;
 import com.skyblockplus.utils.structs.HypixelResponse;
 import com.skyblockplus.utils.structs.ModifyMemberRecord;
 import groovy.lang.Tuple2;
@@ -86,10 +87,9 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -114,21 +114,9 @@ public class AutomaticGuild {
 		5,
 		TimeUnit.MINUTES
 	);
+	private static final GuildSyncScheduler guildSyncScheduler = new GuildSyncScheduler(60, TimeUnit.MINUTES, 60);
 	private static final ScheduledFuture<?> updateGuildFuture = scheduler.scheduleAtFixedRate(
-		() ->
-			guildMap
-				.values()
-				.forEach(g -> {
-					try {
-						// updateGuild freezes sometimes for some reason
-						if (executor.submit(g::updateGuild).get(1, TimeUnit.MINUTES)) {
-							// Only sleep if an update was actually performed
-							TimeUnit.SECONDS.sleep(1);
-						}
-					} catch (Exception e) {
-						log.error("updateGuild - " + g.guildId, e);
-					}
-				}),
+		guildSyncScheduler::scheduleRound,
 		5,
 		60,
 		TimeUnit.MINUTES
@@ -456,13 +444,18 @@ public class AutomaticGuild {
 	}
 
 	/* Automated Guild Methods */
-	public boolean updateGuild() {
+	/**
+	 * Loads the settings and members of this guild without blocking a thread while members are retrieved
+	 *
+	 * @return future completing with the sync to apply or null if there is nothing to sync
+	 */
+	public CompletableFuture<GuildSync> prepareGuildSync() {
 		try {
 			long startTime = System.currentTimeMillis();
 
 			Guild guild = jda.getGuildById(guildId);
 			if (guild == null) {
-				return false;
+				return CompletableFuture.completedFuture(null);
 			}
 
 			JsonElement serverSettings = database.getServerSettings(guild.getId());
@@ -470,13 +463,12 @@ public class AutomaticGuild {
 
 			// Should only happen if the server settings don't exist
 			if (serverSettings == null || guildSettings == null) {
-				return false;
+				return CompletableFuture.completedFuture(null);
 			}
 
 			boolean verifyEnabled = higherDepth(serverSettings, "automatedVerify.enableAutomaticSync", false);
 			boolean rolesEnabled = higherDepth(serverSettings, "automatedRoles.enableAutomaticSync", false);
 
-			JsonElement rolesSettings = higherDepth(serverSettings, "automatedRoles");
 			guildSettings.removeIf(g -> g == null || g.getGuildName() == null);
 
 			// Filtered for role, rank, or member count enabled
@@ -493,418 +485,500 @@ public class AutomaticGuild {
 			}
 
 			if (filteredGuildSettings.isEmpty() && !verifyEnabled && !rolesEnabled) {
-				return false;
+				return CompletableFuture.completedFuture(null);
 			}
 
-			List<String> blacklist = streamJsonArray(guildMap.get(guildId).getBlacklist())
-				.map(u -> higherDepth(u, "uuid").getAsString())
-				.collect(Collectors.toCollection(ArrayList::new));
-
-			List<Member> linkedMembers = new ArrayList<>();
-			List<Member> notLinkedMembers = new ArrayList<>();
-			Map<String, LinkedAccount> discordToUuid = new HashMap<>();
-			int counterUpdate = 0;
-			if (roleOrRankEnabled || verifyEnabled || rolesEnabled) {
-				discordToUuid.putAll(
-					database
-						.getAllLinkedAccountsCached()
-						.stream()
-						.filter(o -> !isBlacklistFeatureEnabled("verify") || !blacklist.contains(o.uuid()))
-						.collect(Collectors.toMap(LinkedAccount::discord, Function.identity()))
-				);
-
-				CountDownLatch latch = new CountDownLatch(1);
-				guild
-					.loadMembers(m -> {
-						if (discordToUuid.containsKey(m.getId())) {
-							linkedMembers.add(m);
-						} else if (!m.getUser().isBot()) {
-							notLinkedMembers.add(m);
-						}
-					})
-					.onSuccess(ignored -> latch.countDown())
-					.onError(ignored -> latch.countDown());
+			GuildSync guildSync = new GuildSync(
+				startTime,
+				guild,
+				serverSettings,
+				guildSettings,
+				filteredGuildSettings,
+				verifyEnabled,
+				rolesEnabled,
+				roleOrRankEnabled
+			);
+			if (!roleOrRankEnabled && !verifyEnabled && !rolesEnabled) {
+				return CompletableFuture.completedFuture(guildSync);
+			}
 
-				try {
-					if (!latch.await(15, TimeUnit.SECONDS)) {
-						log.error("Retrieve linked members latch timeout - " + guildId);
+			Set<String> blacklist = isBlacklistFeatureEnabled("verify")
+				? streamJsonArray(guildMap.get(guildId).getBlacklist())
+					.map(u -> higherDepth(u, "uuid").getAsString())
+					.collect(Collectors.toSet())
+				: Set.of();
+			LinkedAccountIndex linkedAccounts = database.getLinkedAccountIndex();
+
+			CompletableFuture<GuildSync> future = new CompletableFuture<>();
+			guild
+				.loadMembers(m -> {
+					LinkedAccount linkedAccount = linkedAccounts.getByDiscord(m.getId());
+					if (linkedAccount != null && !blacklist.contains(linkedAccount.uuid())) {
+						guildSync.discordToUuid.put(m.getId(), linkedAccount);
+						guildSync.linkedMembers.add(m);
+					} else if (!m.getUser().isBot()) {
+						guildSync.notLinkedMembers.add(m);
 					}
-				} catch (Exception ignored) {}
+				})
+				.onSuccess(ignored -> future.complete(guildSync))
+				.onError(e -> {
+					log.error("Retrieve linked members - " + guildId, e);
+					future.complete(guildSync);
+				});
+
+			// Members may still be loading into the lists, so skip this guild instead of syncing a partial list
+			return future.completeOnTimeout(null, 15, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			log.error("updateGuild - " + guildId, e);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	/** Settings and members of a guild which were loaded by {@link #prepareGuildSync()} */
+	public class GuildSync {
+
+		private final long startTime;
+		private final Guild guild;
+		private final JsonElement serverSettings;
+		private final List<AutomatedGuild> guildSettings;
+		private final List<AutomatedGuild> filteredGuildSettings;
+		private final boolean verifyEnabled;
+		private final boolean rolesEnabled;
+		private final boolean roleOrRankEnabled;
+		private final List<Member> linkedMembers = new ArrayList<>();
+		private final List<Member> notLinkedMembers = new ArrayList<>();
+		private final Map<String, LinkedAccount> discordToUuid = new HashMap<>();
+		private Set<String> uuidsToRequest;
+
+		private GuildSync(
+			long startTime,
+			Guild guild,
+			JsonElement serverSettings,
+			List<AutomatedGuild> guildSettings,
+			List<AutomatedGuild> filteredGuildSettings,
+			boolean verifyEnabled,
+			boolean rolesEnabled,
+			boolean roleOrRankEnabled
+		) {
+			this.startTime = startTime;
+			this.guild = guild;
+			this.serverSettings = serverSettings;
+			this.guildSettings = guildSettings;
+			this.filteredGuildSettings = filteredGuildSettings;
+			this.verifyEnabled = verifyEnabled;
+			this.rolesEnabled = rolesEnabled;
+			this.roleOrRankEnabled = roleOrRankEnabled;
+		}
+
+		public String getGuildId() {
+			return guildId;
+		}
+
+		/**
+		 * @return uuids of linked members whose cached leaderboard entries are needed for nicknames or roles
+		 */
+		public Set<String> getUuidsToRequest() {
+			if (uuidsToRequest != null) {
+				return uuidsToRequest;
 			}
 
-			Map<String, HypixelResponse> guildResponses = null;
-			Map<Member, ModifyMemberRecord> memberToRoleChanges = new HashMap<>();
-			if (verifyEnabled || rolesEnabled) {
-				List<Role> verifyRolesAdd = new ArrayList<>();
-				List<Role> verifyRolesRemove = new ArrayList<>();
-				if (verifyEnabled) {
-					streamJsonArray(higherDepth(serverSettings, "automatedVerify.verifiedRoles"))
-						.map(e -> guild.getRoleById(e.getAsString()))
-						.filter(Objects::nonNull)
-						.forEach(verifyRolesAdd::add);
-					try {
-						verifyRolesRemove.add(
-							guild.getRoleById(higherDepth(serverSettings, "automatedVerify.verifiedRemoveRole").getAsString())
-						);
-					} catch (Exception ignored) {}
-				}
+			uuidsToRequest = new HashSet<>();
+			if (!verifyEnabled && !rolesEnabled) {
+				return uuidsToRequest;
+			}
 
-				boolean canModifyNicknames = guild.getSelfMember().hasPermission(Permission.NICKNAME_MANAGE);
-				boolean checkVerify = false; // If nickname needs profiles to be fetched
-				if (verifyEnabled) {
-					String nicknameTemplate = higherDepth(serverSettings, "automatedVerify.verifiedNickname").getAsString();
-					if (nicknameTemplate.contains("[IGN]") && canModifyNicknames) {
-						Matcher matcher = nicknameTemplatePattern.matcher(nicknameTemplate);
-						while (matcher.find()) {
-							String category = matcher.group(1).toUpperCase();
-							String type = matcher.group(2).toUpperCase();
-							if (
-								category.equals("PLAYER") &&
-								(type.equals("SKILLS") ||
-									type.equals("CATACOMBS") ||
-									type.equals("SLAYER") ||
-									type.equals("WEIGHT") ||
-									type.equals("CLASS") ||
-									type.equals("LEVEL") ||
-									type.equals("IRONMAN") ||
-									type.equals("EMBLEM"))
-							) {
-								checkVerify = true;
-								break;
-							}
+			boolean canModifyNicknames = guild.getSelfMember().hasPermission(Permission.NICKNAME_MANAGE);
+			boolean checkVerify = false; // If nickname needs profiles to be fetched
+			if (verifyEnabled) {
+				String nicknameTemplate = higherDepth(serverSettings, "automatedVerify.verifiedNickname").getAsString();
+				if (nicknameTemplate.contains("[IGN]") && canModifyNicknames) {
+					Matcher matcher = nicknameTemplatePattern.matcher(nicknameTemplate);
+					while (matcher.find()) {
+						String category = matcher.group(1).toUpperCase();
+						String type = matcher.group(2).toUpperCase();
+						if (
+							category.equals("PLAYER") &&
+							(type.equals("SKILLS") ||
+								type.equals("CATACOMBS") ||
+								type.equals("SLAYER") ||
+								type.equals("WEIGHT") ||
+								type.equals("CLASS") ||
+								type.equals("LEVEL") ||
+								type.equals("IRONMAN") ||
+								type.equals("EMBLEM"))
+						) {
+							checkVerify = true;
+							break;
 						}
 					}
 				}
-				List<String> uuidsToRequest = new ArrayList<>();
-				for (Member linkedMember : linkedMembers) {
-					LinkedAccount linkedAccount = discordToUuid.get(linkedMember.getId());
-					if ((checkVerify && guild.getSelfMember().canInteract(linkedMember)) || rolesEnabled) {
-						uuidsToRequest.add(linkedAccount.uuid());
-					}
+			}
+			for (Member linkedMember : linkedMembers) {
+				LinkedAccount linkedAccount = discordToUuid.get(linkedMember.getId());
+				if ((checkVerify && guild.getSelfMember().canInteract(linkedMember)) || rolesEnabled) {
+					uuidsToRequest.add(linkedAccount.uuid());
 				}
-				Map<String, DataObject> uuidToPlayer = leaderboardDatabase
-					.getCachedPlayers(LinkSlashCommand.lbTypes, Player.Gamemode.SELECTED, uuidsToRequest)
-					.stream()
-					.collect(Collectors.toMap(e -> e.getString("uuid"), e -> e));
-
-				for (Member linkedMember : linkedMembers) {
-					LinkedAccount linkedAccount = discordToUuid.get(linkedMember.getId());
-					List<Role> toAddRoles = new ArrayList<>();
-					List<Role> toRemoveRoles = new ArrayList<>();
-					String nickname = null;
-					DataObject player = uuidToPlayer.getOrDefault(linkedAccount.uuid(), null);
+			}
+			return uuidsToRequest;
+		}
 
+		/**
+		 * Applies role, nickname, and counter changes to this guild
+		 *
+		 * @param uuidToPlayer cached leaderboard entries which must include {@link #getUuidsToRequest()}
+		 * @return true if any member or counter was updated
+		 */
+		public boolean apply(Map<String, DataObject> uuidToPlayer) {
+			try {
+				getUuidsToRequest();
+				JsonElement rolesSettings = higherDepth(serverSettings, "automatedRoles");
+				int counterUpdate = 0;
+
+				Map<String, HypixelResponse> guildResponses = null;
+				Map<Member, ModifyMemberRecord> memberToRoleChanges = new HashMap<>();
+				if (verifyEnabled || rolesEnabled) {
+					List<Role> verifyRolesAdd = new ArrayList<>();
+					List<Role> verifyRolesRemove = new ArrayList<>();
 					if (verifyEnabled) {
-						toAddRoles.addAll(verifyRolesAdd);
-						toRemoveRoles.addAll(verifyRolesRemove);
-
-						String nicknameTemplate = higherDepth(serverSettings, "automatedVerify.verifiedNickname").getAsString();
-						// Last AND condition: player wasn't requested or they were requested successfully
-						// So that any players who were requested unsuccessfully are ignored
-						if (
-							nicknameTemplate.contains("[IGN]") &&
-							canModifyNicknames &&
-							guild.getSelfMember().canInteract(linkedMember) &&
-							(!uuidsToRequest.contains(linkedAccount.uuid()) || uuidToPlayer.containsKey(linkedAccount.uuid()))
-						) {
-							nicknameTemplate = nicknameTemplate.replace("[IGN]", linkedAccount.username());
-
-							Matcher matcher = nicknameTemplatePattern.matcher(nicknameTemplate);
-							while (matcher.find()) {
-								String category = matcher.group(1).toUpperCase();
-								String type = matcher.group(2).toUpperCase();
-								String extra = matcher.group(3) == null ? "" : matcher.group(3);
-
-								if (
-									category.equals("GUILD") &&
-									(type.equals("NAME") || type.equals("TAG") || type.equals("RANK")) &&
-									!guildSettings.isEmpty()
-								) {
-									if (guildResponses == null) {
-										guildResponses =
-											guildSettings
-												.stream()
-												.collect(Collectors.toMap(AutomatedGuild::getGuildId, g -> getGuildFromId(g.getGuildId())));
-									}
+						streamJsonArray(higherDepth(serverSettings, "automatedVerify.verifiedRoles"))
+							.map(e -> guild.getRoleById(e.getAsString()))
+							.filter(Objects::nonNull)
+							.forEach(verifyRolesAdd::add);
+						try {
+							verifyRolesRemove.add(
+								guild.getRoleById(higherDepth(serverSettings, "automatedVerify.verifiedRemoveRole").getAsString())
+							);
+						} catch (Exception ignored) {}
+					}
 
-									HypixelResponse guildResponse = guildResponses
-										.values()
-										.stream()
-										.filter(g ->
-											streamJsonArray(g.get("members"))
-												.anyMatch(m -> higherDepth(m, "uuid", "").equals(linkedAccount.uuid()))
-										)
-										.findFirst()
-										.orElse(null);
-
-									if (guildResponse != null && guildResponse.isValid()) {
-										nicknameTemplate =
-											nicknameTemplate.replace(
-												matcher.group(0),
-												switch (type) {
-													case "NAME" -> guildResponse.get("name").getAsString();
-													case "RANK" -> higherDepth(
-														streamJsonArray(guildResponse.get("members"))
-															.filter(g -> higherDepth(g, "uuid", "").equals(linkedAccount.uuid()))
-															.findFirst()
-															.orElse(null),
-														"rank",
-														""
-													);
-													default -> guildResponse.get("tag").getAsString();
-												} +
-												extra
-											);
-									} else {
-										nicknameTemplate = nicknameTemplate.replace(matcher.group(0), "");
-									}
-								} else if (
-									category.equals("PLAYER") &&
-									(type.equals("SKILLS") ||
-										type.equals("CATACOMBS") ||
-										type.equals("SLAYER") ||
-										type.equals("WEIGHT") ||
-										type.equals("CLASS") ||
-										type.equals("LEVEL") ||
-										type.equals("IRONMAN") ||
-										type.equals("EMBLEM"))
-								) {
-									if (player != null) {
-										nicknameTemplate =
-											nicknameTemplate.replace(
-												matcher.group(0),
-												switch (type) {
-													case "SKILLS", "WEIGHT", "CATACOMBS", "LEVEL" -> formatNumber(
-														(int) player.getDouble(type.toLowerCase())
+					boolean canModifyNicknames = guild.getSelfMember().hasPermission(Permission.NICKNAME_MANAGE);
+					for (Member linkedMember : linkedMembers) {
+						LinkedAccount linkedAccount = discordToUuid.get(linkedMember.getId());
+						List<Role> toAddRoles = new ArrayList<>();
+						List<Role> toRemoveRoles = new ArrayList<>();
+						String nickname = null;
+						DataObject player = uuidToPlayer.getOrDefault(linkedAccount.uuid(), null);
+
+						if (verifyEnabled) {
+							toAddRoles.addAll(verifyRolesAdd);
+							toRemoveRoles.addAll(verifyRolesRemove);
+
+							String nicknameTemplate = higherDepth(serverSettings, "automatedVerify.verifiedNickname").getAsString();
+							// Last AND condition: player wasn't requested or they were requested successfully
+							// So that any players who were requested unsuccessfully are ignored
+							if (
+								nicknameTemplate.contains("[IGN]") &&
+								canModifyNicknames &&
+								guild.getSelfMember().canInteract(linkedMember) &&
+								(!uuidsToRequest.contains(linkedAccount.uuid()) || uuidToPlayer.containsKey(linkedAccount.uuid()))
+							) {
+								nicknameTemplate = nicknameTemplate.replace("[IGN]", linkedAccount.username());
+
+								Matcher matcher = nicknameTemplatePattern.matcher(nicknameTemplate);
+								while (matcher.find()) {
+									String category = matcher.group(1).toUpperCase();
+									String type = matcher.group(2).toUpperCase();
+									String extra = matcher.group(3) == null ? "" : matcher.group(3);
+
+									if (
+										category.equals("GUILD") &&
+										(type.equals("NAME") || type.equals("TAG") || type.equals("RANK")) &&
+										!guildSettings.isEmpty()
+									) {
+										if (guildResponses == null) {
+											guildResponses =
+												guildSettings
+													.stream()
+													.collect(
+														Collectors.toMap(AutomatedGuild::getGuildId, g -> getGuildFromId(g.getGuildId()))
 													);
-													case "SLAYER" -> simplifyNumber((long) player.getDouble("slayer"));
-													case "CLASS" -> player.getDouble("selected_class") == -1
-														? ""
-														: "" +
-														DUNGEON_CLASS_NAMES
-															.get((int) player.getDouble("selected_class"))
-															.toUpperCase()
-															.charAt(0);
-													case "IRONMAN" -> Player.Gamemode.values()[(int) player.getDouble("gamemode")] ==
-														Player.Gamemode.IRONMAN
-														? "\u267B️"
-														: "";
-													case "EMBLEM" -> player.getDouble("emblem") == -1
-														? ""
-														: new ArrayList<>(EMBLEM_NAME_TO_ICON.values())
-															.get((int) player.getDouble("emblem"));
-													default -> throw new IllegalStateException("Unexpected value: " + type);
-												} +
-												extra
-											);
+										}
+
+										HypixelResponse guildResponse = guildResponses
+											.values()
+											.stream()
+											.filter(g ->
+												streamJsonArray(g.get("members"))
+													.anyMatch(m -> higherDepth(m, "uuid", "").equals(linkedAccount.uuid()))
+											)
+											.findFirst()
+											.orElse(null);
+
+										if (guildResponse != null && guildResponse.isValid()) {
+											nicknameTemplate =
+												nicknameTemplate.replace(
+													matcher.group(0),
+													switch (type) {
+														case "NAME" -> guildResponse.get("name").getAsString();
+														case "RANK" -> higherDepth(
+															streamJsonArray(guildResponse.get("members"))
+																.filter(g -> higherDepth(g, "uuid", "").equals(linkedAccount.uuid()))
+																.findFirst()
+																.orElse(null),
+															"rank",
+															""
+														);
+														default -> guildResponse.get("tag").getAsString();
+													} +
+													extra
+												);
+										} else {
+											nicknameTemplate = nicknameTemplate.replace(matcher.group(0), "");
+										}
+									} else if (
+										category.equals("PLAYER") &&
+										(type.equals("SKILLS") ||
+											type.equals("CATACOMBS") ||
+											type.equals("SLAYER") ||
+											type.equals("WEIGHT") ||
+											type.equals("CLASS") ||
+											type.equals("LEVEL") ||
+											type.equals("IRONMAN") ||
+											type.equals("EMBLEM"))
+									) {
+										if (player != null) {
+											nicknameTemplate =
+												nicknameTemplate.replace(
+													matcher.group(0),
+													switch (type) {
+														case "SKILLS", "WEIGHT", "CATACOMBS", "LEVEL" -> formatNumber(
+															(int) player.getDouble(type.toLowerCase())
+														);
+														case "SLAYER" -> simplifyNumber((long) player.getDouble("slayer"));
+														case "CLASS" -> player.getDouble("selected_class") == -1
+															? ""
+															: "" +
+															DUNGEON_CLASS_NAMES
+																.get((int) player.getDouble("selected_class"))
+																.toUpperCase()
+																.charAt(0);
+														case "IRONMAN" -> Player.Gamemode.values()[(int) player.getDouble("gamemode")] ==
+															Player.Gamemode.IRONMAN
+															? "\u267B️"
+															: "";
+														case "EMBLEM" -> player.getDouble("emblem") == -1
+															? ""
+															: new ArrayList<>(EMBLEM_NAME_TO_ICON.values())
+																.get((int) player.getDouble("emblem"));
+														default -> throw new IllegalStateException("Unexpected value: " + type);
+													} +
+													extra
+												);
+										}
 									}
 								}
+
+								nickname = nicknameTemplate;
 							}
+						}
 
-							nickname = nicknameTemplate;
+						if (rolesEnabled && player != null) {
+							try {
+								Tuple3<EmbedBuilder, List<Role>, List<Role>> out = RolesSlashCommand.ClaimSubcommand.updateRoles(
+									null,
+									player,
+									linkedMember,
+									rolesSettings,
+									true
+								);
+								toAddRoles.addAll(out.getV2());
+								toRemoveRoles.addAll(out.getV3());
+							} catch (Exception ignored) {}
 						}
-					}
 
-					if (rolesEnabled && player != null) {
-						try {
-							Tuple3<EmbedBuilder, List<Role>, List<Role>> out = RolesSlashCommand.ClaimSubcommand.updateRoles(
-								null,
-								player,
+						if (!toAddRoles.isEmpty() || !toRemoveRoles.isEmpty() || nickname != null) {
+							String finalNickname = nickname;
+							memberToRoleChanges.compute(
 								linkedMember,
-								rolesSettings,
-								true
+								(k, v) ->
+									(v == null ? new ModifyMemberRecord() : v).update(
+											guild.getSelfMember(),
+											toAddRoles,
+											toRemoveRoles,
+											finalNickname
+										)
 							);
-							toAddRoles.addAll(out.getV2());
-							toRemoveRoles.addAll(out.getV3());
-						} catch (Exception ignored) {}
-					}
-
-					if (!toAddRoles.isEmpty() || !toRemoveRoles.isEmpty() || nickname != null) {
-						String finalNickname = nickname;
-						memberToRoleChanges.compute(
-							linkedMember,
-							(k, v) ->
-								(v == null ? new ModifyMemberRecord() : v).update(
-										guild.getSelfMember(),
-										toAddRoles,
-										toRemoveRoles,
-										finalNickname
-									)
-						);
+						}
 					}
 				}
-			}
-
-			if (!filteredGuildSettings.isEmpty()) {
-				Set<String> inGuild = new HashSet<>();
-				for (AutomatedGuild currentSetting : filteredGuildSettings) {
-					HypixelResponse response = guildResponses != null && guildResponses.containsKey(currentSetting.getGuildId())
-						? guildResponses.get(currentSetting.getGuildId())
-						: getGuildFromId(currentSetting.getGuildId());
-					if (!response.isValid()) {
-						continue;
-					}
 
-					JsonArray guildMembers = response.get("members").getAsJsonArray();
-					boolean enableGuildRole = Objects.equals(currentSetting.getGuildMemberRoleEnable(), "true");
-					boolean enableGuildRanks = Objects.equals(currentSetting.getGuildRanksEnable(), "true");
-					if (enableGuildRole || enableGuildRanks) {
-						Map<String, String> uuidToRankMap = new HashMap<>();
-						for (JsonElement guildMember : guildMembers) {
-							uuidToRankMap.put(
-								higherDepth(guildMember, "uuid").getAsString(),
-								higherDepth(guildMember, "rank").getAsString().replace(" ", "_")
-							);
+				if (!filteredGuildSettings.isEmpty()) {
+					Set<String> inGuild = new HashSet<>();
+					for (AutomatedGuild currentSetting : filteredGuildSettings) {
+						HypixelResponse response = guildResponses != null && guildResponses.containsKey(currentSetting.getGuildId())
+							? guildResponses.get(currentSetting.getGuildId())
+							: getGuildFromId(currentSetting.getGuildId());
+						if (!response.isValid()) {
+							continue;
 						}
 
-						Role guildMemberRole = enableGuildRole ? guild.getRoleById(currentSetting.getGuildMemberRole()) : null;
-						Role applyGuestRole = guildMap.get(guildId).applyGuestRole;
-						for (Member linkedMember : linkedMembers) {
-							List<Role> rolesToAdd = new ArrayList<>();
-							List<Role> rolesToRemove = new ArrayList<>();
-
-							if (enableGuildRole) {
-								if (uuidToRankMap.containsKey(discordToUuid.get(linkedMember.getId()).uuid())) {
-									rolesToAdd.add(guildMemberRole);
-									if (applyGuestRole != null && !inGuild.contains(linkedMember.getId())) {
-										inGuild.add(linkedMember.getId());
-										rolesToRemove.add(applyGuestRole);
-									}
-								} else {
-									rolesToRemove.add(guildMemberRole);
-									if (applyGuestRole != null && !inGuild.contains(linkedMember.getId())) {
-										rolesToAdd.add(applyGuestRole);
-									}
-								}
+						JsonArray guildMembers = response.get("members").getAsJsonArray();
+						boolean enableGuildRole = Objects.equals(currentSetting.getGuildMemberRoleEnable(), "true");
+						boolean enableGuildRanks = Objects.equals(currentSetting.getGuildRanksEnable(), "true");
+						if (enableGuildRole || enableGuildRanks) {
+							Map<String, String> uuidToRankMap = new HashMap<>();
+							for (JsonElement guildMember : guildMembers) {
+								uuidToRankMap.put(
+									higherDepth(guildMember, "uuid").getAsString(),
+									higherDepth(guildMember, "rank").getAsString().replace(" ", "_")
+								);
 							}
 
-							if (enableGuildRanks) {
-								List<RoleObject> guildRanksArr = currentSetting.getGuildRanks();
-								if (!uuidToRankMap.containsKey(discordToUuid.get(linkedMember.getId()).uuid())) {
-									for (RoleObject guildRank : guildRanksArr) {
-										rolesToRemove.add(guild.getRoleById(guildRank.getRoleId()));
+							Role guildMemberRole = enableGuildRole ? guild.getRoleById(currentSetting.getGuildMemberRole()) : null;
+							Role applyGuestRole = guildMap.get(guildId).applyGuestRole;
+							for (Member linkedMember : linkedMembers) {
+								List<Role> rolesToAdd = new ArrayList<>();
+								List<Role> rolesToRemove = new ArrayList<>();
+
+								if (enableGuildRole) {
+									if (uuidToRankMap.containsKey(discordToUuid.get(linkedMember.getId()).uuid())) {
+										rolesToAdd.add(guildMemberRole);
+										if (applyGuestRole != null && !inGuild.contains(linkedMember.getId())) {
+											inGuild.add(linkedMember.getId());
+											rolesToRemove.add(applyGuestRole);
+										}
+									} else {
+										rolesToRemove.add(guildMemberRole);
+										if (applyGuestRole != null && !inGuild.contains(linkedMember.getId())) {
+											rolesToAdd.add(applyGuestRole);
+										}
 									}
-								} else {
-									String currentRank = uuidToRankMap.get(discordToUuid.get(linkedMember.getId()).uuid());
-									for (RoleObject guildRank : guildRanksArr) {
-										Role currentRankRole = guild.getRoleById(guildRank.getRoleId());
-										if (guildRank.getValue().equalsIgnoreCase(currentRank)) {
-											rolesToAdd.add(currentRankRole);
-										} else {
-											rolesToRemove.add(currentRankRole);
+								}
+
+								if (enableGuildRanks) {
+									List<RoleObject> guildRanksArr = currentSetting.getGuildRanks();
+									if (!uuidToRankMap.containsKey(discordToUuid.get(linkedMember.getId()).uuid())) {
+										for (RoleObject guildRank : guildRanksArr) {
+											rolesToRemove.add(guild.getRoleById(guildRank.getRoleId()));
+										}
+									} else {
+										String currentRank = uuidToRankMap.get(discordToUuid.get(linkedMember.getId()).uuid());
+										for (RoleObject guildRank : guildRanksArr) {
+											Role currentRankRole = guild.getRoleById(guildRank.getRoleId());
+											if (guildRank.getValue().equalsIgnoreCase(currentRank)) {
+												rolesToAdd.add(currentRankRole);
+											} else {
+												rolesToRemove.add(currentRankRole);
+											}
 										}
 									}
 								}
-							}
 
-							if (!rolesToAdd.isEmpty() || !rolesToRemove.isEmpty()) {
-								memberToRoleChanges.compute(
-									linkedMember,
-									(k, v) ->
-										(v == null ? new ModifyMemberRecord() : v).update(guild.getSelfMember(), rolesToAdd, rolesToRemove)
-								);
+								if (!rolesToAdd.isEmpty() || !rolesToRemove.isEmpty()) {
+									memberToRoleChanges.compute(
+										linkedMember,
+										(k, v) ->
+											(v == null ? new ModifyMemberRecord() : v).update(
+												guild.getSelfMember(),
+												rolesToAdd,
+												rolesToRemove
+											)
+									);
+								}
 							}
 						}
-					}
 
-					if (Objects.equals(currentSetting.getGuildCounterEnable(), "true")) {
-						try {
-							VoiceChannel curVc = guild.getVoiceChannelById(currentSetting.getGuildCounterChannel());
-							if (curVc.getName().contains(guildMembers.size() + "/125")) {
-								continue;
-							}
+						if (Objects.equals(currentSetting.getGuildCounterEnable(), "true")) {
+							try {
+								VoiceChannel curVc = guild.getVoiceChannelById(currentSetting.getGuildCounterChannel());
+								if (curVc.getName().contains(guildMembers.size() + "/125")) {
+									continue;
+								}
 
-							curVc
-								.getManager()
-								.setName(
-									curVc.getName().split(":").length == 2
-										? curVc.getName().split(":")[0].trim() + ": " + guildMembers.size() + "/125"
-										: response.get("name").getAsString() + " Members: " + guildMembers.size() + "/125"
-								)
-								.queue();
+								curVc
+									.getManager()
+									.setName(
+										curVc.getName().split(":").length == 2
+											? curVc.getName().split(":")[0].trim() + ": " + guildMembers.size() + "/125"
+											: response.get("name").getAsString() + " Members: " + guildMembers.size() + "/125"
+									)
+									.queue();
 
-							counterUpdate++;
-						} catch (Exception e) {
-							currentSetting.setGuildCounterEnable("false");
-							database.setGuildSettings(guild.getId(), gson.toJsonTree(currentSetting));
+								counterUpdate++;
+							} catch (Exception e) {
+								currentSetting.setGuildCounterEnable("false");
+								database.setGuildSettings(guild.getId(), gson.toJsonTree(currentSetting));
+							}
 						}
 					}
 				}
-			}
 
-			if (higherDepth(serverSettings, "syncUnlinkedMembers", true) && !notLinkedMembers.isEmpty()) {
-				Tuple2<List<Role>, List<Role>> roleChanges = UnlinkSlashCommand.unlinkRoleChanges(
-					guild,
-					serverSettings,
-					verifyEnabled,
-					rolesEnabled,
-					roleOrRankEnabled
-				);
-				if (!roleChanges.getV1().isEmpty() || !roleChanges.getV2().isEmpty()) {
-					for (Member member : notLinkedMembers) {
-						memberToRoleChanges.compute(
-							member,
-							(k, v) ->
-								(v == null ? new ModifyMemberRecord() : v).update(
-										guild.getSelfMember(),
-										roleChanges.getV1(),
-										roleChanges.getV2()
-									)
-						);
+				if (higherDepth(serverSettings, "syncUnlinkedMembers", true) && !notLinkedMembers.isEmpty()) {
+					Tuple2<List<Role>, List<Role>> roleChanges = UnlinkSlashCommand.unlinkRoleChanges(
+						guild,
+						serverSettings,
+						verifyEnabled,
+						rolesEnabled,
+						roleOrRankEnabled
+					);
+					if (!roleChanges.getV1().isEmpty() || !roleChanges.getV2().isEmpty()) {
+						for (Member member : notLinkedMembers) {
+							memberToRoleChanges.compute(
+								member,
+								(k, v) ->
+									(v == null ? new ModifyMemberRecord() : v).update(
+											guild.getSelfMember(),
+											roleChanges.getV1(),
+											roleChanges.getV2()
+										)
+							);
+						}
 					}
 				}
-			}
 
-			int updateCount = 0;
-			int updateLimit = rolesEnabled ? 45 : 160;
-			for (Map.Entry<Member, ModifyMemberRecord> entry : memberToRoleChanges.entrySet()) {
-				if (updateCount >= updateLimit) {
-					break;
-				}
+				int updateCount = 0;
+				int updateLimit = rolesEnabled ? 45 : 160;
+				for (Map.Entry<Member, ModifyMemberRecord> entry : memberToRoleChanges.entrySet()) {
+					if (updateCount >= updateLimit) {
+						break;
+					}
 
-				if (entry.getValue().queue(entry.getKey())) {
-					updateCount++;
+					if (entry.getValue().queue(entry.getKey())) {
+						updateCount++;
+					}
 				}
+
+				System.out.println(
+					"Update Guild | " +
+					guild.getId() +
+					" | Time (" +
+					roundAndFormat((System.currentTimeMillis() - startTime) / 1000.0) +
+					"s)" +
+					(!memberToRoleChanges.isEmpty()
+							? " | Users (" + updateCount + "/" + updateLimit + "/" + memberToRoleChanges.size() + ")"
+							: "") +
+					(counterUpdate > 0 ? " | Counters (" + counterUpdate + ")" : "")
+				);
+				logAction(
+					"guild_sync",
+					defaultEmbed("Automatic Guild Update")
+						.setDescription(
+							(verifyEnabled ? client.getSuccess() : client.getError()) +
+							" Verification sync " +
+							(verifyEnabled ? "enabled" : "disabled") +
+							"\n" +
+							(rolesEnabled ? client.getSuccess() : client.getError()) +
+							" Roles claim sync " +
+							(rolesEnabled ? "enabled" : "disabled") +
+							"\n" +
+							(!filteredGuildSettings.isEmpty() ? client.getSuccess() : client.getError()) +
+							" Guild member/ranks/counter sync " +
+							(!filteredGuildSettings.isEmpty() ? "enabled" : "disabled") +
+							"\n\n• Checked " +
+							formatNumber(memberToRoleChanges.size()) +
+							" linked members\n• " +
+							(updateCount == 0 ? "All linked members updated" : "Updated " + formatNumber(updateCount) + " linked members") +
+							(counterUpdate > 0 ? "\n• Updated " + counterUpdate + " counter" + (counterUpdate > 1 ? "s" : "") : "")
+						)
+				);
+
+				return updateCount > 0 || counterUpdate > 0;
+			} catch (Exception e) {
+				log.error("updateGuild - " + guildId, e);
 			}
 
-			System.out.println(
-				"Update Guild | " +
-				guild.getId() +
-				" | Time (" +
-				roundAndFormat((System.currentTimeMillis() - startTime) / 1000.0) +
-				"s)" +
-				(!memberToRoleChanges.isEmpty()
-						? " | Users (" + updateCount + "/" + updateLimit + "/" + memberToRoleChanges.size() + ")"
-						: "") +
-				(counterUpdate > 0 ? " | Counters (" + counterUpdate + ")" : "")
-			);
-			logAction(
-				"guild_sync",
-				defaultEmbed("Automatic Guild Update")
-					.setDescription(
-						(verifyEnabled ? client.getSuccess() : client.getError()) +
-						" Verification sync " +
-						(verifyEnabled ? "enabled" : "disabled") +
-						"\n" +
-						(rolesEnabled ? client.getSuccess() : client.getError()) +
-						" Roles claim sync " +
-						(rolesEnabled ? "enabled" : "disabled") +
-						"\n" +
-						(!filteredGuildSettings.isEmpty() ? client.getSuccess() : client.getError()) +
-						" Guild member/ranks/counter sync " +
-						(!filteredGuildSettings.isEmpty() ? "enabled" : "disabled") +
-						"\n\n• Checked " +
-						formatNumber(memberToRoleChanges.size()) +
-						" linked members\n• " +
-						(updateCount == 0 ? "All linked members updated" : "Updated " + formatNumber(updateCount) + " linked members") +
-						(counterUpdate > 0 ? "\n• Updated " + counterUpdate + " counter" + (counterUpdate > 1 ? "s" : "") : "")
-					)
-			);
-		} catch (Exception e) {
-			log.error("updateGuild - " + guildId, e);
+			return false;
 		}
-
-		return true;
 	}
 
 	/* Fetchur */
@@ -0,0 +1,167 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.features.listeners;
+
+import com.skyblockplus.general.LinkSlashCommand;
+import com.skyblockplus.utils.HypixelRequestScheduler;
+import com.skyblockplus.utils.Player;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.utils.data.DataObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.skyblockplus.features.listeners.MainListener.guildMap;
+import static com.skyblockplus.utils.ApiHandler.leaderboardDatabase;
+import static com.skyblockplus.utils.utils.Utils.*;
+
+/**
+ * Spreads automatic guild syncs across the slots of a round. Guilds are balanced by member count, with recently changed
+ * guilds placed in earlier slots. Guilds in the same slot load their members concurrently and share one cached player
+ * lookup.
+ */
+public class GuildSyncScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(GuildSyncScheduler.class);
+
+	private final int numSlots;
+	private final long slotLengthMillis;
+	/** Last time a sync changed a member or counter in each guild */
+	private final Map<String, Long> lastChangeTimes = new ConcurrentHashMap<>();
+	private final Set<String> syncingGuilds = ConcurrentHashMap.newKeySet();
+
+	public GuildSyncScheduler(long roundLength, TimeUnit unit, int numSlots) {
+		this.numSlots = numSlots;
+		this.slotLengthMillis = unit.toMillis(roundLength) / numSlots;
+	}
+
+	/** Assigns every guild to a slot and schedules the slots of this round */
+	public void scheduleRound() {
+		try {
+			Map<AutomaticGuild, Integer> memberCounts = new HashMap<>();
+			for (AutomaticGuild automaticGuild : guildMap.values()) {
+				Guild guild = jda.getGuildById(automaticGuild.guildId);
+				if (guild != null) {
+					memberCounts.put(automaticGuild, guild.getMemberCount());
+				}
+			}
+
+			List<AutomaticGuild> guilds = new ArrayList<>(memberCounts.keySet());
+			guilds.sort(
+				Comparator
+					.comparingLong((AutomaticGuild g) -> -lastChangeTimes.getOrDefault(g.guildId, 0L))
+					.thenComparingInt(g -> -memberCounts.get(g))
+			);
+
+			// Greedily place each guild in the slot with the fewest members, ties going to the earliest slot
+			List<List<AutomaticGuild>> slots = new ArrayList<>();
+			long[] slotMemberCounts = new long[numSlots];
+			for (int i = 0; i < numSlots; i++) {
+				slots.add(new ArrayList<>());
+			}
+			for (AutomaticGuild guild : guilds) {
+				int minSlot = 0;
+				for (int i = 1; i < numSlots; i++) {
+					if (slotMemberCounts[i] < slotMemberCounts[minSlot]) {
+						minSlot = i;
+					}
+				}
+				slots.get(minSlot).add(guild);
+				slotMemberCounts[minSlot] += memberCounts.get(guild);
+			}
+
+			for (int i = 0; i < numSlots; i++) {
+				List<AutomaticGuild> slot = slots.get(i);
+				if (!slot.isEmpty()) {
+					// Only the timing is on the shared scheduler since preparing a slot makes blocking database calls
+					scheduler.schedule(() -> executor.execute(() -> runSlot(slot)), i * slotLengthMillis, TimeUnit.MILLISECONDS);
+				}
+			}
+		} catch (Exception e) {
+			log.error("Failed to schedule guild sync round", e);
+		}
+	}
+
+	private void runSlot(List<AutomaticGuild> slot) {
+		List<CompletableFuture<AutomaticGuild.GuildSync>> futures = new ArrayList<>();
+		for (AutomaticGuild guild : slot) {
+			// Skip guilds whose previous sync is still running
+			if (syncingGuilds.add(guild.guildId)) {
+				futures.add(
+					guild
+						.prepareGuildSync()
+						.whenComplete((guildSync, e) -> {
+							if (guildSync == null) {
+								syncingGuilds.remove(guild.guildId);
+							}
+						})
+				);
+			}
+		}
+
+		CompletableFuture
+			.allOf(futures.toArray(new CompletableFuture<?>[0]))
+			.thenRunAsync(
+				() ->
+					HypixelRequestScheduler.runWithPriority(
+						HypixelRequestScheduler.Priority.BACKGROUND,
+						() -> applySlot(futures.stream().map(CompletableFuture::join).filter(Objects::nonNull).collect(Collectors.toList()))
+					),
+				executor
+			);
+	}
+
+	private void applySlot(List<AutomaticGuild.GuildSync> guildSyncs) {
+		try {
+			Set<String> uuids = new HashSet<>();
+			for (AutomaticGuild.GuildSync guildSync : guildSyncs) {
+				uuids.addAll(guildSync.getUuidsToRequest());
+			}
+
+			Map<String, DataObject> uuidToPlayer = new HashMap<>();
+			if (!uuids.isEmpty()) {
+				for (DataObject player : leaderboardDatabase.getCachedPlayers(
+					LinkSlashCommand.lbTypes,
+					Player.Gamemode.SELECTED,
+					new ArrayList<>(uuids)
+				)) {
+					uuidToPlayer.put(player.getString("uuid"), player);
+				}
+			}
+
+			for (AutomaticGuild.GuildSync guildSync : guildSyncs) {
+				try {
+					if (guildSync.apply(uuidToPlayer)) {
+						lastChangeTimes.put(guildSync.getGuildId(), System.currentTimeMillis());
+					}
+				} finally {
+					syncingGuilds.remove(guildSync.getGuildId());
+				}
+			}
+		} catch (Exception e) {
+			log.error("Failed to apply guild sync slot", e);
+			guildSyncs.forEach(g -> syncingGuilds.remove(g.getGuildId()));
+		}
+	}
+}
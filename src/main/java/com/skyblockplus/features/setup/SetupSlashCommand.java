@@ -18,6 +18,7 @@
 
 package com.skyblockplus.features.setup;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.Permission;
@@ -33,6 +34,7 @@ public class SetupSlashCommand extends SlashCommand {
 	public SetupSlashCommand() {
 		this.name = "setup";
 		this.userPermissions = new Permission[] { Permission.ADMINISTRATOR };
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	@Override
@@ -582,7 +582,8 @@ public class SkyblockEventHandler {
 	}
 
 	public void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			message,
 			GenericInteractionCreateEvent.class,
 			this::condition,
 			this::action,
@@ -18,6 +18,7 @@
 
 package com.skyblockplus.general;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.sun.management.OperatingSystemMXBean;
@@ -41,6 +42,7 @@ public class InformationSlashCommand extends SlashCommand {
 
 	public InformationSlashCommand() {
 		this.name = "information";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static void getInformation(SlashCommandEvent event) {
@@ -18,6 +18,7 @@
 
 package com.skyblockplus.general;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -29,6 +30,7 @@ public class InviteSlashCommand extends SlashCommand {
 
 	public InviteSlashCommand() {
 		this.name = "invite";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	@Override
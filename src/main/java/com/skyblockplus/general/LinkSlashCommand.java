@@ -22,6 +22,7 @@ import com.google.gson.JsonElement;
 import com.skyblockplus.api.linkedaccounts.LinkedAccount;
 import com.skyblockplus.miscellaneous.RolesSlashCommand;
 import com.skyblockplus.utils.Player;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.oauth.TokenData;
@@ -109,6 +110,7 @@ public class LinkSlashCommand extends SlashCommand {
 
 	public LinkSlashCommand() {
 		this.name = "link";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static Object linkAccount(String username, Member member, Guild guild) {
@@ -19,6 +19,7 @@
 package com.skyblockplus.general;
 
 import com.google.gson.JsonElement;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import groovy.lang.Tuple2;
@@ -43,6 +44,7 @@ public class UnlinkSlashCommand extends SlashCommand {
 
 	public UnlinkSlashCommand() {
 		this.name = "unlink";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static Tuple2<List<Role>, List<Role>> unlinkRoleChanges(
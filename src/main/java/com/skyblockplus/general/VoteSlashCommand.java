@@ -18,6 +18,7 @@
 
 package com.skyblockplus.general;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -33,6 +34,7 @@ public class VoteSlashCommand extends SlashCommand {
 
 	public VoteSlashCommand() {
 		this.name = "vote";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	@Override
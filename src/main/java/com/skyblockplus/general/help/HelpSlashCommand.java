@@ -18,6 +18,7 @@
 
 package com.skyblockplus.general.help;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.CustomPaginator;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
@@ -81,6 +82,7 @@ public class HelpSlashCommand extends SlashCommand {
 
 	public HelpSlashCommand() {
 		this.name = "help";
+		this.executionClass = CommandExecutionClass.FAST;
 
 		setHelpList();
 		helpDataList.stream().map(this::commandToNames).forEach(helpNameList::addAll);
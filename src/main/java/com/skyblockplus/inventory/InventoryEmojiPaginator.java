@@ -112,7 +112,8 @@ public class InventoryEmojiPaginator {
 	}
 
 	private void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			pagePart2,
 			ButtonInteractionEvent.class,
 			this::condition,
 			this::action,
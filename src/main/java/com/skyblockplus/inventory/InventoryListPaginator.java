@@ -37,9 +37,8 @@ import net.dv8tion.jda.api.requests.restaction.WebhookMessageEditAction;
 import net.dv8tion.jda.api.requests.restaction.interactions.MessageEditCallbackAction;
 import net.dv8tion.jda.api.utils.FileUpload;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -260,7 +259,8 @@ public class InventoryListPaginator {
 	}
 
 	private void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			message,
 			GenericInteractionCreateEvent.class,
 			this::condition,
 			this::action,
@@ -293,10 +293,9 @@ public class InventoryListPaginator {
 		loreWithName.add(item.getName(false));
 		loreWithName.addAll(item.getLore());
 
-		BufferedImage bufferedImage = LoreRenderer.renderLore(loreWithName);
 		File file = new File(rendersDirectory + "/" + key + pageNumber + ".png");
 		try {
-			ImageIO.write(bufferedImage, "png", file);
+			Files.write(file.toPath(), LoreRenderer.renderLorePng(loreWithName));
 			return file.getPath();
 		} catch (Exception e) {
 			return null;
@@ -19,6 +19,7 @@
 package com.skyblockplus.inventory;
 
 import com.skyblockplus.utils.Player;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.command.Subcommand;
@@ -43,6 +44,7 @@ public class InventorySlashCommand extends SlashCommand {
 
 	public InventorySlashCommand() {
 		this.name = "inventory";
+		this.executionClass = CommandExecutionClass.HYPIXEL;
 	}
 
 	@Override
@@ -20,6 +20,7 @@ package com.skyblockplus.inventory;
 
 import com.google.gson.JsonArray;
 import com.skyblockplus.utils.Player;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.User;
@@ -37,12 +38,10 @@ import net.dv8tion.jda.api.utils.messages.MessageEditData;
 import org.apache.groovy.util.Maps;
 
 import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.awt.Image;
 import java.io.File;
 import java.time.Instant;
 import java.util.*;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.skyblockplus.utils.rendering.ChestRenderer.*;
@@ -199,42 +198,14 @@ public class MuseumPaginator {
 
 	private String computeRenderedPage() {
 		try {
-			int idx = pageNumber * 28;
-			JsonArray categoryItems = getMuseumCategoriesJson().getAsJsonArray(category);
-			List<Image> slots = new ArrayList<>();
+			List<Image> itemImages = getItemImages(getPageItemIds(pageNumber));
+			File file = new File(rendersDirectory + "/" + key + "_" + category + "_" + pageNumber + ".png");
+			CommandExecutionClass.render(() -> ImageIO.write(renderChest(itemImages), "png", file));
 
-			for (int j = 0; j < CHEST_ROWS; j++) {
-				for (int i = 0; i < CHEST_COLUMNS; i++) {
-					String itemId = null;
-					if (i == 4 && j == 0) {
-						itemId = categoryToEmoji.get(category);
-					} else if (j == 5 && ((pageNumber > 0 && i == 0) || (i == 3) || (pageNumber < maxPageNumber - 1 && i == 8))) {
-						itemId = "ARROW"; // Left, go back, right arrows
-					} else if (i == 4 && j == 5) {
-						itemId = "BARRIER"; // Close
-					} else if (i == 0 || i == CHEST_COLUMNS - 1 || j == 0 || j == CHEST_ROWS - 1) {
-						itemId = "STAINED_GLASS_PANE:15"; // Boundary
-					} else {
-						if (idx < categoryItems.size()) {
-							itemId = categoryItems.get(idx).getAsString();
-							if (items.contains(itemId)) {
-								itemId = higherDepth(getMuseumCategoriesJson(), "armor_to_id." + itemId, itemId);
-							} else if (bypassedItems.contains(itemId)) {
-								itemId = "INK_SACK:10";
-							} else {
-								itemId = "INK_SACK:8";
-							}
-						}
-						idx++;
-					}
-					slots.add(itemId == null ? null : getItemImage(itemId));
-				}
+			if (pageNumber < maxPageNumber) {
+				prefetchItemImages(getPageItemIds(pageNumber + 1));
 			}
 
-			BufferedImage chestRender = renderChest(slots);
-			File file = new File(rendersDirectory + "/" + key + "_" + category + "_" + pageNumber + ".png");
-			ImageIO.write(chestRender, "png", file);
-
 			return file.getPath();
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -242,8 +213,48 @@ public class MuseumPaginator {
 		}
 	}
 
+	/**
+	 * @return item id of each chest slot on the page or null for empty slots
+	 */
+	private List<String> getPageItemIds(int pageNumber) {
+		int idx = pageNumber * 28;
+		JsonArray categoryItems = getMuseumCategoriesJson().getAsJsonArray(category);
+		List<String> itemIds = new ArrayList<>();
+
+		for (int j = 0; j < CHEST_ROWS; j++) {
+			for (int i = 0; i < CHEST_COLUMNS; i++) {
+				String itemId = null;
+				if (i == 4 && j == 0) {
+					itemId = categoryToEmoji.get(category);
+				} else if (j == 5 && ((pageNumber > 0 && i == 0) || (i == 3) || (pageNumber < maxPageNumber - 1 && i == 8))) {
+					itemId = "ARROW"; // Left, go back, right arrows
+				} else if (i == 4 && j == 5) {
+					itemId = "BARRIER"; // Close
+				} else if (i == 0 || i == CHEST_COLUMNS - 1 || j == 0 || j == CHEST_ROWS - 1) {
+					itemId = "STAINED_GLASS_PANE:15"; // Boundary
+				} else {
+					if (idx < categoryItems.size()) {
+						itemId = categoryItems.get(idx).getAsString();
+						if (items.contains(itemId)) {
+							itemId = higherDepth(getMuseumCategoriesJson(), "armor_to_id." + itemId, itemId);
+						} else if (bypassedItems.contains(itemId)) {
+							itemId = "INK_SACK:10";
+						} else {
+							itemId = "INK_SACK:8";
+						}
+					}
+					idx++;
+				}
+				itemIds.add(itemId);
+			}
+		}
+
+		return itemIds;
+	}
+
 	private void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			message,
 			GenericComponentInteractionCreateEvent.class,
 			this::condition,
 			this::action,
@@ -62,6 +62,7 @@ public class MuseumSlashCommand extends SlashCommand {
 
 		public ViewSubcommand() {
 			this.name = "view";
+			this.executionClass = CommandExecutionClass.HYPIXEL;
 		}
 
 		@Override
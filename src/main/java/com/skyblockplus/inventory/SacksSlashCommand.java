@@ -18,7 +18,7 @@
 
 package com.skyblockplus.inventory;
 
-import com.google.gson.JsonElement;
+import com.skyblockplus.utils.MarketSnapshot;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.command.CustomPaginator;
 import com.skyblockplus.utils.command.SlashCommand;
@@ -63,7 +63,7 @@ public class SacksSlashCommand extends SlashCommand {
 
 		CustomPaginator.Builder paginateBuilder = player.defaultPlayerPaginator(event.getUser()).setItemsPerPage(20);
 
-		JsonElement bazaarPrices = getBazaarJson();
+		MarketSnapshot market = MarketSnapshot.get();
 
 		// {bazaar, npc}
 		final double[] total = { 0, 0 };
@@ -73,7 +73,7 @@ public class SacksSlashCommand extends SlashCommand {
 			.filter(entry -> entry.getValue() > 0)
 			.sorted(
 				Comparator.comparingDouble(entry -> {
-					double bazaarPrice = higherDepth(bazaarPrices, entry.getKey() + ".sell_summary", 0.0);
+					double bazaarPrice = market.getBazaarSell(entry.getKey(), 0);
 					double npcPrice = Math.max(getNpcSellPrice(entry.getKey()), 0);
 
 					return -(
@@ -87,7 +87,7 @@ public class SacksSlashCommand extends SlashCommand {
 				})
 			)
 			.forEach(entry -> {
-				double bazaarPrice = higherDepth(bazaarPrices, entry.getKey() + ".sell_summary", 0.0);
+				double bazaarPrice = market.getBazaarSell(entry.getKey(), 0);
 				double npcPrice = Math.max(getNpcSellPrice(entry.getKey()), 0);
 
 				int loc = 0;
@@ -18,6 +18,7 @@
 
 package com.skyblockplus.miscellaneous;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -63,6 +64,7 @@ public class CalendarSlashCommand extends SlashCommand {
 
 	public CalendarSlashCommand() {
 		this.name = "calendar";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static EmbedBuilder getCalendar() {
@@ -18,6 +18,7 @@
 
 package com.skyblockplus.miscellaneous;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -37,6 +38,7 @@ public class FetchurSlashCommand extends SlashCommand {
 
 	public FetchurSlashCommand() {
 		this.name = "fetchur";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static EmbedBuilder getFetchurItem() {
@@ -316,7 +316,8 @@ public class LeaderboardPaginator {
 	}
 
 	public void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			message,
 			GenericInteractionCreateEvent.class,
 			this::condition,
 			this::action,
@@ -19,6 +19,7 @@
 package com.skyblockplus.miscellaneous;
 
 import com.skyblockplus.features.mayor.MayorHandler;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -30,6 +31,7 @@ public class MayorSlashCommand extends SlashCommand {
 
 	public MayorSlashCommand() {
 		this.name = "mayor";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	@Override
@@ -22,7 +22,6 @@ import com.google.gson.JsonElement;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
-import com.skyblockplus.utils.utils.StringUtils;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -103,10 +102,7 @@ public class RecipeSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			event.replyClosestMatch(
-				event.getFocusedOption().getValue(),
-				allRecipeIds.stream().map(StringUtils::idToName).collect(Collectors.toCollection(ArrayList::new))
-			);
+			event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), allRecipeIds);
 		}
 	}
 }
@@ -31,7 +31,6 @@ import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -124,10 +123,7 @@ public class ReforgeSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			event.replyClosestMatch(
-				event.getFocusedOption().getValue(),
-				getReforgeStonesJson().keySet().stream().map(StringUtils::idToName).collect(Collectors.toCollection(ArrayList::new))
-			);
+			event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), getReforgeStonesJson().keySet());
 		}
 	}
 }
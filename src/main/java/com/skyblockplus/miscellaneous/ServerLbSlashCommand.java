@@ -23,6 +23,7 @@ import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.command.CustomPaginator;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
+import com.skyblockplus.utils.database.LinkedAccountIndex;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
 import com.skyblockplus.utils.structs.UsernameUuidStruct;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -36,11 +37,9 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.ApiHandler.leaderboardDatabase;
 import static com.skyblockplus.utils.ApiHandler.usernameToUuid;
@@ -67,10 +66,7 @@ public class ServerLbSlashCommand extends SlashCommand {
 			}
 		}
 
-		Map<String, String> discordToUuid = database
-			.getAllLinkedAccountsCached()
-			.stream()
-			.collect(Collectors.toMap(LinkedAccount::discord, LinkedAccount::uuid));
+		LinkedAccountIndex linkedAccounts = database.getLinkedAccountIndex();
 		List<String> uuids = new ArrayList<>();
 
 		CountDownLatch latch = new CountDownLatch(1);
@@ -79,8 +75,9 @@ public class ServerLbSlashCommand extends SlashCommand {
 		event
 			.getGuild()
 			.loadMembers(m -> {
-				if (discordToUuid.containsKey(m.getId())) {
-					uuids.add(discordToUuid.get(m.getId()));
+				LinkedAccount linkedAccount = linkedAccounts.getByDiscord(m.getId());
+				if (linkedAccount != null) {
+					uuids.add(linkedAccount.uuid());
 				}
 			})
 			.onSuccess(ignored -> latch.countDown())
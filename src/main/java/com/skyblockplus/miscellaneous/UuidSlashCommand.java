@@ -18,6 +18,7 @@
 
 package com.skyblockplus.miscellaneous;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.structs.UsernameUuidStruct;
@@ -36,6 +37,7 @@ public class UuidSlashCommand extends SlashCommand {
 
 	public UuidSlashCommand() {
 		this.name = "uuid";
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static EmbedBuilder getUuidPlayer(String username) {
@@ -28,9 +28,8 @@ import net.dv8tion.jda.api.events.interaction.component.ButtonInteractionEvent;
 import net.dv8tion.jda.api.interactions.components.buttons.Button;
 import net.dv8tion.jda.api.utils.FileUpload;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.File;
+import java.nio.file.Files;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -188,7 +187,8 @@ public class CraftCommandPaginator {
 	}
 
 	private void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			message,
 			ButtonInteractionEvent.class,
 			this::condition,
 			this::action,
@@ -218,10 +218,9 @@ public class CraftCommandPaginator {
 		JsonElement item = items.get(pageNumber);
 		List<String> lore = List.of(higherDepth(item, "lore").getAsString().split("\n"));
 
-		BufferedImage bufferedImage = LoreRenderer.renderLore(lore);
 		File file = new File(rendersDirectory + "/" + key + pageNumber + ".png");
 		try {
-			ImageIO.write(bufferedImage, "png", file);
+			Files.write(file.toPath(), LoreRenderer.renderLorePng(lore));
 			return file.getPath();
 		} catch (Exception e) {
 			return null;
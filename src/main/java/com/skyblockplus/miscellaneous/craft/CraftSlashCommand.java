@@ -18,6 +18,7 @@
 
 package com.skyblockplus.miscellaneous.craft;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
@@ -42,6 +43,7 @@ public class CraftSlashCommand extends SlashCommand {
 
 	public CraftSlashCommand() {
 		this.name = "craft";
+		this.executionClass = CommandExecutionClass.HYPIXEL;
 		craftItems =
 			getSkyblockItemsJson()
 				.entrySet()
@@ -0,0 +1,107 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.miscellaneous.networth;
+
+import com.google.gson.JsonArray;
+import com.skyblockplus.utils.Player;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static com.skyblockplus.utils.ApiHandler.getAuctionPetsByName;
+
+/**
+ * Values many profiles in parallel against one price snapshot. Only the per-location totals are kept, so no embed strings or
+ * verbose JSON are built, and pets from every profile are priced with shared auction queries.
+ */
+public class NetworthBatch {
+
+	private static final ForkJoinPool networthPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	/** Pet names per auction query to keep the request url a reasonable length */
+	private static final int PET_QUERY_BATCH_SIZE = 100;
+
+	/**
+	 * @return totals for each profile in the same order as profiles
+	 */
+	public static List<NetworthTotals> calculate(List<Player.Profile> profiles, PriceTable priceTable) {
+		List<NetworthExecute> calculators = networthPool
+			.submit(() -> profiles.parallelStream().map(profile -> new NetworthExecute().calculateTotals(profile, priceTable)).toList())
+			.join();
+
+		List<String> petApiNames = calculators
+			.stream()
+			.flatMap(calculator -> calculator.getPetApiNames().stream())
+			.distinct()
+			.collect(Collectors.toList());
+		List<JsonArray> ahQueries = new ArrayList<>();
+		for (int i = 0; i < petApiNames.size(); i += PET_QUERY_BATCH_SIZE) {
+			List<String> queryNames = petApiNames.subList(i, Math.min(i + PET_QUERY_BATCH_SIZE, petApiNames.size()));
+			ahQueries.add(getAuctionPetsByName(String.join(",", queryNames)));
+		}
+
+		return networthPool
+			.submit(() ->
+				calculators
+					.parallelStream()
+					.map(calculator -> {
+						ahQueries.forEach(calculator::matchPetPrices);
+						calculator.calculateDefaultPetPrices();
+						return new NetworthTotals(calculator);
+					})
+					.toList()
+			)
+			.join();
+	}
+
+	/**
+	 * Values every profile of each player that does not have a cached networth and caches the result on the profile
+	 */
+	public static void cacheNetworths(List<Player.Profile> players) {
+		List<Player.Profile> profiles = new ArrayList<>();
+		for (Player.Profile player : players) {
+			for (Player.Profile profile : player.getProfiles()) {
+				if (!profile.getProfileToNetworth().containsKey(profile.getProfileIndex())) {
+					profiles.add(profile);
+				}
+			}
+		}
+		if (profiles.isEmpty()) {
+			return;
+		}
+
+		List<NetworthTotals> totals = calculate(profiles, PriceTable.get());
+		for (int i = 0; i < profiles.size(); i++) {
+			profiles.get(i).setNetworth(totals.get(i).networth(), totals.get(i).getTotal("museum"));
+		}
+	}
+
+	/**
+	 * @param networth total networth or -1 if the inventory API is disabled
+	 */
+	public record NetworthTotals(double networth, Map<String, Double> totals) {
+		private NetworthTotals(NetworthExecute calculator) {
+			this(calculator.getNetworth(), calculator.getTotals());
+		}
+
+		public double getTotal(String location) {
+			return totals.getOrDefault(location, 0.0);
+		}
+	}
+}
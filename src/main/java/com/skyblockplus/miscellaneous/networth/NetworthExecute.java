@@ -22,6 +22,8 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.skyblockplus.utils.JsonPath;
+import com.skyblockplus.utils.MarketSnapshot;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.command.PaginatorExtras;
 import com.skyblockplus.utils.command.SelectMenuPaginator;
@@ -49,6 +51,8 @@ import static com.skyblockplus.utils.utils.Utils.*;
 
 public class NetworthExecute {
 
+	private static final JsonPath NAME_PATH = JsonPath.of("name");
+	private static final JsonPath PRICE_PATH = JsonPath.of("price");
 	private static final List<String> allowedRecombCategories = List.of("ACCESSORY", "NECKLACE", "GLOVES", "BRACELET", "BELT", "CLOAK");
 	private static final Map<String, String> attributesBaseCosts = Maps.of(
 		"GLOWSTONE_GAUNTLET",
@@ -102,14 +106,15 @@ public class NetworthExecute {
 	private final Map<String, Double> totals = new HashMap<>();
 	private final Map<String, Double> soulboundIgnoredTotals = new HashMap<>();
 	private StringBuilder calcItemsJsonStr = new StringBuilder("[");
-	private JsonElement lowestBinJson;
-	private JsonElement averageAuctionJson;
-	private JsonElement bazaarJson;
+	private PriceTable priceTable;
+	private MarketSnapshot market;
 	private JsonObject extraPrices;
 	private double recombPrice;
 	private double fumingPrice;
 	private double hpbPrice;
 	private boolean verbose = false;
+	/** Whether to keep each priced item for the embed pages */
+	private boolean collectItems = true;
 
 	public static double getNetworth(String username, String profileName) {
 		NetworthExecute calc = new NetworthExecute();
@@ -123,14 +128,17 @@ public class NetworthExecute {
 	}
 
 	public NetworthExecute initPrices() {
-		lowestBinJson = getLowestBinJson();
-		averageAuctionJson = getAveragePriceJson();
-		bazaarJson = getBazaarJson();
-		extraPrices = getExtraPricesJson();
-
-		recombPrice = higherDepth(bazaarJson, "RECOMBOBULATOR_3000.sell_summary", 0.0);
-		hpbPrice = higherDepth(bazaarJson, "HOT_POTATO_BOOK.sell_summary", 0.0);
-		fumingPrice = higherDepth(bazaarJson, "FUMING_POTATO_BOOK.sell_summary", 0.0);
+		return initPrices(PriceTable.get());
+	}
+
+	public NetworthExecute initPrices(PriceTable priceTable) {
+		this.priceTable = priceTable;
+		market = priceTable.getMarket();
+		extraPrices = priceTable.getExtraPricesJson();
+
+		recombPrice = market.getBazaarSell("RECOMBOBULATOR_3000", 0);
+		hpbPrice = market.getBazaarSell("HOT_POTATO_BOOK", 0);
+		fumingPrice = market.getBazaarSell("FUMING_POTATO_BOOK", 0);
 		return this;
 	}
 
@@ -143,7 +151,7 @@ public class NetworthExecute {
 			return new MessageEditBuilder().setEmbeds(player.getErrorEmbed().build());
 		}
 
-		Map<Integer, InvItem> playerInventory = player.getInventoryMap();
+		Map<Integer, InvItem> playerInventory = player.prefetchInventories().getInventoryMap();
 		if (playerInventory == null) {
 			addTotal("items", -1.0);
 			return withApiHelpButton(defaultEmbed(player.getEscapedUsername() + "'s inventory API is disabled"));
@@ -155,7 +163,94 @@ public class NetworthExecute {
 		}
 
 		initPrices();
+		collectItems = event != null;
+		addProfileTotals(player, playerInventory);
+
+		calculatePetPrices();
+
+		if (event == null) {
+			return new MessageEditBuilder().setEmbeds(errorEmbed("Not triggered by command").build());
+		}
+
+		player.getProfileToNetworth().put(player.getProfileIndex(), getNetworth());
+
+		int networthPosition = -1;
+		try {
+			networthPosition = networthPositionFuture.get();
+		} catch (Exception ignored) {}
+
+		PaginatorExtras extras = new PaginatorExtras(PaginatorExtras.PaginatorType.EMBED_PAGES);
+		Map<SelectOption, EmbedBuilder> pages = getPages(player, false, networthPosition);
+		Map<SelectOption, EmbedBuilder> soulboundIgnoredPages = getPages(player, true, networthPosition);
+
+		String verboseLink = null;
+		if (verbose) {
+			verboseLink = makeHastePost(formattedGson.toJson(getVerboseJson()));
+			extras.addButton(Button.link(verboseLink, "Verbose JSON"));
+		}
+		// Init last updated to 0
+		extras
+			.addButton(
+				Button.danger(
+					"nw_" +
+					player.getUuid() +
+					"_" +
+					player.getProfileName() +
+					"_0" +
+					(verboseLink != null ? "_" + verboseLink.split(HASTE_URL)[1] : ""),
+					"Report Incorrect Calculations"
+				)
+			)
+			.setSelectPages(pages)
+			.addReactiveButtons(
+				new PaginatorExtras.ReactiveButton(
+					Button.primary("reactive_nw_ignore_soulbound", "Hide Soulbound"),
+					ignored -> {
+						extras
+							.setSelectPages(soulboundIgnoredPages)
+							.toggleReactiveButton("reactive_nw_ignore_soulbound", false)
+							.toggleReactiveButton("reactive_nw_show_soulbound", true);
+					},
+					true
+				),
+				new PaginatorExtras.ReactiveButton(
+					Button.primary("reactive_nw_show_soulbound", "Show Soulbound"),
+					ignored -> {
+						extras
+							.setSelectPages(pages)
+							.toggleReactiveButton("reactive_nw_ignore_soulbound", true)
+							.toggleReactiveButton("reactive_nw_show_soulbound", false);
+					},
+					false
+				)
+			);
+		new SelectMenuPaginator("overview", extras, event);
+		return null;
+	}
+
+	/**
+	 * Calculates the totals of the profile without keeping items for the embed pages. Pets are priced afterwards by
+	 * {@link #matchPetPrices(JsonArray)} and {@link #calculateDefaultPetPrices()}
+	 */
+	public NetworthExecute calculateTotals(Player.Profile player, PriceTable priceTable) {
+		initPrices(priceTable);
+		collectItems = false;
+
+		if (player.isValid()) {
+			Map<Integer, InvItem> playerInventory = player.prefetchInventories().getInventoryMap();
+			if (playerInventory == null) {
+				addTotal("items", -1.0);
+			} else {
+				addProfileTotals(player, playerInventory);
+			}
+		}
+		return this;
+	}
 
+	/**
+	 * Adds the totals of everything in the profile except pets, which are priced by {@link #calculatePetPrices()}
+	 */
+	private void addProfileTotals(Player.Profile player, Map<Integer, InvItem> playerInventory) {
 		addTotal("bank", player.getBankBalance());
 		addTotal("purse", player.getPurseCoins());
 
@@ -163,7 +258,7 @@ public class NetworthExecute {
 			addTotal(
 				"essence",
 				getLowestPrice("ESSENCE_" + essence.toUpperCase()) *
-				higherDepth(player.profileJson(), "currencies.essence." + essence.toUpperCase() + ".current", 0)
+				higherDepth(player.profileJson(), JsonPath.of("currencies.essence." + essence.toUpperCase() + ".current"), 0)
 			);
 		}
 
@@ -188,9 +283,9 @@ public class NetworthExecute {
 					if (item != null) {
 						double itemPrice = calculateItemPrice(item, location);
 						if (itemPrice >= 0) { // -1 if pet
-							// No need to update the soulbound values if event is null
-							addTotal(location, itemPrice, event != null && item.isSoulbound());
-							if (event != null) {
+							// No need to update the soulbound values if items are not shown
+							addTotal(location, itemPrice, collectItems && item.isSoulbound());
+							if (collectItems) {
 								addItem(location, addItemStr(item), itemPrice, item.isSoulbound());
 							}
 						}
@@ -219,7 +314,7 @@ public class NetworthExecute {
 					itemPrice *= sackEntry.getValue();
 
 					addTotal("sacks", itemPrice);
-					if (event != null) {
+					if (collectItems) {
 						String emoji = getEmoji(itemId, null);
 						addItem(
 							"sacks",
@@ -232,67 +327,6 @@ public class NetworthExecute {
 				}
 			}
 		}
-
-		calculatePetPrices();
-
-		if (event == null) {
-			return new MessageEditBuilder().setEmbeds(errorEmbed("Not triggered by command").build());
-		}
-
-		player.getProfileToNetworth().put(player.getProfileIndex(), getNetworth());
-
-		int networthPosition = -1;
-		try {
-			networthPosition = networthPositionFuture.get();
-		} catch (Exception ignored) {}
-
-		PaginatorExtras extras = new PaginatorExtras(PaginatorExtras.PaginatorType.EMBED_PAGES);
-		Map<SelectOption, EmbedBuilder> pages = getPages(player, false, networthPosition);
-		Map<SelectOption, EmbedBuilder> soulboundIgnoredPages = getPages(player, true, networthPosition);
-
-		String verboseLink = null;
-		if (verbose) {
-			verboseLink = makeHastePost(formattedGson.toJson(getVerboseJson()));
-			extras.addButton(Button.link(verboseLink, "Verbose JSON"));
-		}
-		// Init last updated to 0
-		extras
-			.addButton(
-				Button.danger(
-					"nw_" +
-					player.getUuid() +
-					"_" +
-					player.getProfileName() +
-					"_0" +
-					(verboseLink != null ? "_" + verboseLink.split(HASTE_URL)[1] : ""),
-					"Report Incorrect Calculations"
-				)
-			)
-			.setSelectPages(pages)
-			.addReactiveButtons(
-				new PaginatorExtras.ReactiveButton(
-					Button.primary("reactive_nw_ignore_soulbound", "Hide Soulbound"),
-					ignored -> {
-						extras
-							.setSelectPages(soulboundIgnoredPages)
-							.toggleReactiveButton("reactive_nw_ignore_soulbound", false)
-							.toggleReactiveButton("reactive_nw_show_soulbound", true);
-					},
-					true
-				),
-				new PaginatorExtras.ReactiveButton(
-					Button.primary("reactive_nw_show_soulbound", "Show Soulbound"),
-					ignored -> {
-						extras
-							.setSelectPages(pages)
-							.toggleReactiveButton("reactive_nw_ignore_soulbound", true)
-							.toggleReactiveButton("reactive_nw_show_soulbound", false);
-					},
-					false
-				)
-			);
-		new SelectMenuPaginator("overview", extras, event);
-		return null;
 	}
 
 	private Map<SelectOption, EmbedBuilder> getPages(Player.Profile player, boolean ignoreSoulbound, int networthPosition) {
@@ -516,7 +550,9 @@ public class NetworthExecute {
 				miscStr.append("]");
 
 				double totalPrice = auctionPrice + miscExtras;
-				addItem("pets", addItemStr(item), totalPrice);
+				if (collectItems) {
+					addItem("pets", addItemStr(item), totalPrice);
+				}
 				addTotal("pets", totalPrice);
 
 				if (verbose) {
@@ -568,7 +604,9 @@ public class NetworthExecute {
 				miscStr.append("]");
 
 				double itemPrice = auctionPrice + miscExtras;
-				addItem("pets", addItemStr(item), itemPrice);
+				if (collectItems) {
+					addItem("pets", addItemStr(item), itemPrice);
+				}
 				addTotal("pets", itemPrice);
 
 				if (verbose) {
@@ -592,28 +630,42 @@ public class NetworthExecute {
 	}
 
 	public void calculatePetPrices() {
-		String queryStr = pets.stream().map(InvItem::getPetApiName).distinct().collect(Collectors.joining(","));
+		String queryStr = String.join(",", getPetApiNames());
 		if (queryStr.isEmpty()) {
 			return;
 		}
 
-		JsonArray ahQuery = getAuctionPetsByName(queryStr);
+		calculatePetPrices(getAuctionPetsByName(queryStr));
+	}
+
+	/**
+	 * Prices pets using the results of one auction query which may also contain pets from other profiles
+	 */
+	public void calculatePetPrices(JsonArray ahQuery) {
+		matchPetPrices(ahQuery);
+		calculateDefaultPetPrices();
+	}
+
+	/**
+	 * Prices and removes the pets matching an auction in ahQuery. Pets left over are priced by
+	 * {@link #calculateDefaultPetPrices()} once every query has been matched
+	 */
+	public void matchPetPrices(JsonArray ahQuery) {
 		if (ahQuery != null) {
 			for (JsonElement auction : ahQuery) {
-				String auctionName = higherDepth(auction, "name").getAsString();
-				double auctionPrice = higherDepth(auction, "price").getAsDouble();
+				String auctionName = higherDepth(auction, NAME_PATH).getAsString();
+				double auctionPrice = higherDepth(auction, PRICE_PATH).getAsDouble();
 				calculatePetPrice(auctionName, auctionPrice);
 			}
 		}
+	}
 
-		calculateDefaultPetPrices();
+	public Set<String> getPetApiNames() {
+		return pets.stream().map(InvItem::getPetApiName).collect(Collectors.toSet());
 	}
 
 	public double getMinBinAvg(String id) {
-		return getMin(
-			higherDepth(lowestBinJson, id, -1.0),
-			getMin(higherDepth(averageAuctionJson, id + ".clean_price", -1.0), higherDepth(averageAuctionJson, id + ".price", -1.0))
-		);
+		return getMin(market.getLowestBin(id, -1), priceTable.getAverageAuctionPrice(id));
 	}
 
 	public String addItemStr(InvItem item) {
@@ -816,7 +868,7 @@ public class NetworthExecute {
 
 		try {
 			essenceExtras =
-				item.getEssenceCount() * higherDepth(bazaarJson, "ESSENCE_" + item.getEssenceType() + ".sell_summary", 0.0) * 0.9;
+				item.getEssenceCount() * market.getBazaarSell("ESSENCE_" + item.getEssenceType(), 0) * 0.9;
 		} catch (Exception ignored) {}
 
 		StringBuilder miscStr = verbose ? new StringBuilder("[") : null;
@@ -1013,9 +1065,10 @@ public class NetworthExecute {
 		} catch (Exception ignored) {}
 
 		for (int i = enchantLevel; i >= Math.max(1, ignoredLevels); i--) {
-			try {
-				return (Math.pow(2, enchantLevel - i) * higherDepth(bazaarJson, enchantName + ";" + i + ".buy_summary").getAsDouble());
-			} catch (Exception ignored) {}
+			double bazaarPrice = market.getBazaarBuy(enchantName + ";" + i, -1);
+			if (bazaarPrice != -1) {
+				return Math.pow(2, enchantLevel - i) * bazaarPrice;
+			}
 		}
 
 		//		tempSet.add(enchantId);
@@ -1027,130 +1080,11 @@ public class NetworthExecute {
 	}
 
 	public double getLowestPrice(String itemId, boolean ignoreAh, boolean onlyFullCraft, StringBuilder source) {
-		if (!itemId.equals("NEW_YEAR_CAKE_BAG") && itemId.startsWith("NEW_YEAR_CAKE_")) {
-			if (source != null) {
-				source.append("price override");
-			}
-			return 0;
+		PriceTable.ItemPrice price = priceTable.getPrice(itemId, ignoreAh, onlyFullCraft);
+		if (source != null && price.source() != null) {
+			source.append(price.source());
 		}
-
-		double priceOverride = getPriceOverride(itemId);
-		if (priceOverride != -1) {
-			if (source != null) {
-				source.append("price override");
-			}
-			return priceOverride;
-		}
-
-		if (itemId.equals("SKYBLOCK_COIN")) {
-			return 1; // 1 * count
-		}
-
-		if (itemId.contains("GENERATOR")) {
-			if (source != null) {
-				source.append("craft");
-			}
-			int index = itemId.lastIndexOf("_");
-			return getMinionCost(itemId.substring(0, index), Integer.parseInt(itemId.substring(index + 1)));
-		}
-
-		if (higherDepth(bazaarJson, itemId) != null) {
-			double bazaarPrice = higherDepth(bazaarJson, itemId + ".sell_summary", 0.0);
-			if (source != null) {
-				source.append("bazaar");
-			}
-			return bazaarPrice;
-		}
-
-		List<String> recipe = getRecipe(itemId);
-		double craftCost = 0;
-		if (recipe != null) {
-			for (String item : recipe) {
-				String[] idCountSplit = item.split(":");
-
-				double itemLowestPrice = getLowestPrice(idCountSplit[0].replace("-", ":"), false, true, null);
-				if (itemLowestPrice == 0) {
-					craftCost = 0;
-					break;
-				}
-				craftCost += itemLowestPrice * Double.parseDouble(idCountSplit[1]);
-			}
-			craftCost /= getRecipeCount(itemId);
-		}
-
-		if (!ignoreAh && !SOULBOUND_ITEMS.contains(itemId)) {
-			double lowestBin = -1;
-			double averageAuction = -1;
-
-			try {
-				lowestBin = higherDepth(lowestBinJson, itemId).getAsDouble();
-			} catch (Exception ignored) {}
-
-			try {
-				averageAuction =
-					getMin(
-						higherDepth(averageAuctionJson, itemId + ".clean_price", -1.0),
-						higherDepth(averageAuctionJson, itemId + ".price", -1.0)
-					);
-			} catch (Exception ignored) {}
-
-			double minBinAverage = getMin(lowestBin, averageAuction);
-			if (minBinAverage != -1 && (craftCost == 0 || minBinAverage <= craftCost)) {
-				if (source != null) {
-					if (minBinAverage == lowestBin) {
-						source.append("lowest BIN");
-					} else {
-						source.append("average auction");
-					}
-				}
-				return minBinAverage;
-			}
-		}
-
-		// If it's positive, it is a full craft
-		if (craftCost > 0) {
-			if (source != null) {
-				if (higherDepth(getInternalJsonMappings(), itemId + ".recipe") != null) {
-					source.append("craft");
-				} else {
-					source.append("npc buy");
-				}
-			}
-			return craftCost;
-		}
-
-		if (!onlyFullCraft) {
-			if (recipe != null) {
-				double partialCraftCost = 0;
-				for (String item : recipe) {
-					String[] idCountSplit = item.split(":");
-					partialCraftCost += getLowestPrice(idCountSplit[0].replace("-", ":")) * Double.parseDouble(idCountSplit[1]);
-				}
-				partialCraftCost /= getRecipeCount(itemId);
-
-				if (partialCraftCost > 0) {
-					if (source != null) {
-						if (higherDepth(getInternalJsonMappings(), itemId + ".recipe") != null) {
-							source.append("partial craft");
-						} else {
-							source.append("partial npc buy");
-						}
-					}
-					return partialCraftCost;
-				}
-			}
-
-			double npcPrice = getNpcSellPrice(itemId);
-			if (npcPrice != -1) {
-				if (source != null) {
-					source.append("npc sell");
-				}
-				return npcPrice;
-			}
-		}
-
-		//		tempSet.add(itemId + " - " + iName);
-		return 0;
+		return price.price();
 	}
 
 	public double getMinionCost(String id, int tier) {
@@ -1158,28 +1092,7 @@ public class NetworthExecute {
 	}
 
 	public double getMinionCost(String id, int tier, int depth) {
-		double priceOverride = getPriceOverride(id + "_" + tier);
-		if (priceOverride != -1) {
-			return priceOverride;
-		}
-
-		List<String> recipe = getRecipe(id + "_" + tier);
-		if (recipe == null) {
-			return 0;
-		}
-
-		double cost = 0;
-		for (String material : recipe) {
-			String[] idCountSplit = material.split(":");
-			if (idCountSplit[0].contains("GENERATOR")) {
-				if (depth - 1 != 0) {
-					cost += getMinionCost(idCountSplit[0].substring(0, idCountSplit[0].lastIndexOf("_")), tier - 1, depth - 1);
-				}
-			} else {
-				cost += getLowestPrice(idCountSplit[0].replace("-", ":")) * Integer.parseInt(idCountSplit[1]);
-			}
-		}
-		return cost;
+		return priceTable.getMinionCost(id, tier, depth);
 	}
 
 	public JsonElement getVerboseJson() {
@@ -1236,6 +1149,10 @@ public class NetworthExecute {
 		);
 	}
 
+	public Map<String, Double> getTotals() {
+		return Map.copyOf(totals);
+	}
+
 	public double getTotal(String location, boolean ignoreSoulbound) {
 		// soulboundIgnoredTotals does not include souldbound items
 		return (ignoreSoulbound ? soulboundIgnoredTotals : totals).getOrDefault(location, 0.0);
@@ -0,0 +1,361 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.miscellaneous.networth;
+
+import com.google.gson.JsonObject;
+import com.skyblockplus.utils.JsonPath;
+import com.skyblockplus.utils.MarketSnapshot;
+import com.skyblockplus.utils.exceptionhandler.ExceptionExecutor;
+import com.skyblockplus.utils.utils.JsonUtils;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.skyblockplus.utils.Constants.SOULBOUND_ITEMS;
+import static com.skyblockplus.utils.utils.HypixelUtils.*;
+import static com.skyblockplus.utils.utils.JsonUtils.*;
+import static com.skyblockplus.utils.utils.Utils.*;
+
+/**
+ * Item prices resolved from one snapshot of the price feeds. Each item and its crafting tree are resolved once per snapshot and
+ * a new table is built when any of the feeds refresh.
+ */
+public class PriceTable {
+
+	private static final JsonPath RECIPE_PATH = JsonPath.of("recipe");
+	private static final ItemPrice ZERO = new ItemPrice(0, null);
+	private static final Recipe NO_RECIPE = new Recipe(new String[0], new double[0], 1, false);
+	/** Single low priority thread so pre-resolving a new table never takes threads or cores from commands */
+	private static final ExceptionExecutor resolveExecutor = new ExceptionExecutor(
+		1,
+		1,
+		45L,
+		TimeUnit.SECONDS,
+		new LinkedBlockingQueue<>()
+	)
+		.setAllowCoreThreadTimeOut(true);
+	private static volatile PriceTable current;
+
+	static {
+		resolveExecutor.setThreadFactory(runnable -> {
+			Thread thread = new Thread(runnable, "Price Table Resolver");
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		});
+	}
+
+	@Getter
+	private final MarketSnapshot market;
+
+	@Getter
+	private final JsonObject extraPricesJson;
+
+	/** Feeds the table was built from, compared by identity to detect refreshes */
+	private final JsonObject[] feeds;
+	private final JsonObject internalJsonMappings;
+	private final JsonObject priceOverrideJson;
+	/** Resolved prices indexed by {@link #mode(boolean, boolean)} */
+	private final List<Map<String, ItemPrice>> prices = List.of(
+		new ConcurrentHashMap<>(),
+		new ConcurrentHashMap<>(),
+		new ConcurrentHashMap<>(),
+		new ConcurrentHashMap<>()
+	);
+	private final Map<String, Double> minionCosts = new ConcurrentHashMap<>();
+	private final Map<String, Recipe> recipes = new ConcurrentHashMap<>();
+
+	private PriceTable(MarketSnapshot market, JsonObject[] feeds) {
+		this.market = market;
+		this.feeds = feeds;
+		this.extraPricesJson = feeds[0];
+		this.internalJsonMappings = feeds[1];
+		this.priceOverrideJson = feeds[2];
+	}
+
+	/**
+	 * @return table for the current price feeds, building a new one if any of the feeds were refreshed
+	 */
+	public static PriceTable get() {
+		MarketSnapshot market = MarketSnapshot.get();
+		JsonObject[] feeds = { JsonUtils.getExtraPricesJson(), JsonUtils.getInternalJsonMappings(), JsonUtils.getPriceOverrideJson() };
+
+		PriceTable table = current;
+		if (table == null || !table.isSnapshotOf(market, feeds)) {
+			synchronized (PriceTable.class) {
+				table = current;
+				if (table == null || !table.isSnapshotOf(market, feeds)) {
+					table = new PriceTable(market, feeds);
+					current = table;
+					resolveExecutor.submit(table::resolveAll);
+				}
+			}
+		}
+		return table;
+	}
+
+	private boolean isSnapshotOf(MarketSnapshot market, JsonObject[] feeds) {
+		if (this.market != market) {
+			return false;
+		}
+
+		for (int i = 0; i < feeds.length; i++) {
+			if (this.feeds[i] != feeds[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Resolves every known item so commands only perform lookups */
+	private void resolveAll() {
+		Set<String> itemIds = new HashSet<>();
+		if (internalJsonMappings != null) {
+			itemIds.addAll(internalJsonMappings.keySet());
+		}
+		itemIds.addAll(market.getBazaarIds());
+		itemIds.addAll(market.getLowestBinIds());
+
+		for (String itemId : itemIds) {
+			if (current != this) {
+				return;
+			}
+
+			try {
+				getPrice(itemId, false, false);
+			} catch (Exception ignored) {}
+		}
+	}
+
+	public ItemPrice getPrice(String itemId, boolean ignoreAh, boolean onlyFullCraft) {
+		return resolve(itemId, ignoreAh, onlyFullCraft, new Resolution());
+	}
+
+	public double getMinionCost(String id, int tier, int depth) {
+		return getMinionCost(id, tier, depth, new Resolution());
+	}
+
+	public double getAverageAuctionPrice(String id) {
+		return getMin(market.getAverageCleanPrice(id, -1), market.getAveragePrice(id, -1));
+	}
+
+	private static int mode(boolean ignoreAh, boolean onlyFullCraft) {
+		return (ignoreAh ? 2 : 0) | (onlyFullCraft ? 1 : 0);
+	}
+
+	private ItemPrice resolve(String itemId, boolean ignoreAh, boolean onlyFullCraft, Resolution resolution) {
+		int mode = mode(ignoreAh, onlyFullCraft);
+		ItemPrice price = prices.get(mode).get(itemId);
+		if (price != null) {
+			return price;
+		}
+
+		// An item whose recipe eventually requires itself contributes nothing to its own craft cost
+		String resolvingKey = mode + itemId;
+		Integer resolvingDepth = resolution.resolving.get(resolvingKey);
+		if (resolvingDepth != null) {
+			resolution.cutDepth = Math.min(resolution.cutDepth, resolvingDepth);
+			return ZERO;
+		}
+
+		int depth = resolution.resolving.size();
+		int outerCutDepth = resolution.cutDepth;
+		resolution.resolving.put(resolvingKey, depth);
+		resolution.cutDepth = Integer.MAX_VALUE;
+
+		price = calculatePrice(itemId, ignoreAh, onlyFullCraft, resolution);
+		resolution.resolving.remove(resolvingKey);
+		// Prices that counted an item further up the stack as zero are only valid within this lookup
+		if (resolution.cutDepth >= depth) {
+			prices.get(mode).putIfAbsent(itemId, price);
+			resolution.cutDepth = outerCutDepth;
+		} else {
+			resolution.cutDepth = Math.min(outerCutDepth, resolution.cutDepth);
+		}
+		return price;
+	}
+
+	private ItemPrice calculatePrice(String itemId, boolean ignoreAh, boolean onlyFullCraft, Resolution resolution) {
+		if (!itemId.equals("NEW_YEAR_CAKE_BAG") && itemId.startsWith("NEW_YEAR_CAKE_")) {
+			return new ItemPrice(0, "price override");
+		}
+
+		double priceOverride = higherDepth(priceOverrideJson, itemId, -1.0);
+		if (priceOverride != -1) {
+			return new ItemPrice(priceOverride, "price override");
+		}
+
+		if (itemId.equals("SKYBLOCK_COIN")) {
+			return new ItemPrice(1, null); // 1 * count
+		}
+
+		if (itemId.contains("GENERATOR")) {
+			int index = itemId.lastIndexOf("_");
+			return new ItemPrice(
+				getMinionCost(itemId.substring(0, index), Integer.parseInt(itemId.substring(index + 1)), -1, resolution),
+				"craft"
+			);
+		}
+
+		if (market.isBazaarItem(itemId)) {
+			return new ItemPrice(market.getBazaarSell(itemId, 0), "bazaar");
+		}
+
+		Recipe recipe = getParsedRecipe(itemId);
+		double craftCost = 0;
+		if (recipe != null) {
+			for (int i = 0; i < recipe.ids().length; i++) {
+				double itemLowestPrice = resolve(recipe.ids()[i], false, true, resolution).price();
+				if (itemLowestPrice == 0) {
+					craftCost = 0;
+					break;
+				}
+				craftCost += itemLowestPrice * recipe.counts()[i];
+			}
+			craftCost /= recipe.count();
+		}
+
+		if (!ignoreAh && !SOULBOUND_ITEMS.contains(itemId)) {
+			double lowestBin = market.getLowestBin(itemId, -1);
+			double averageAuction = getAverageAuctionPrice(itemId);
+
+			double minBinAverage = getMin(lowestBin, averageAuction);
+			if (minBinAverage != -1 && (craftCost == 0 || minBinAverage <= craftCost)) {
+				return new ItemPrice(minBinAverage, minBinAverage == lowestBin ? "lowest BIN" : "average auction");
+			}
+		}
+
+		// If it's positive, it is a full craft
+		if (craftCost > 0) {
+			return new ItemPrice(craftCost, recipe.craft() ? "craft" : "npc buy");
+		}
+
+		if (!onlyFullCraft) {
+			if (recipe != null) {
+				double partialCraftCost = 0;
+				for (int i = 0; i < recipe.ids().length; i++) {
+					partialCraftCost += resolve(recipe.ids()[i], false, false, resolution).price() * recipe.counts()[i];
+				}
+				partialCraftCost /= recipe.count();
+
+				if (partialCraftCost > 0) {
+					return new ItemPrice(partialCraftCost, recipe.craft() ? "partial craft" : "partial npc buy");
+				}
+			}
+
+			double npcPrice = getNpcSellPrice(itemId);
+			if (npcPrice != -1) {
+				return new ItemPrice(npcPrice, "npc sell");
+			}
+		}
+
+		return ZERO;
+	}
+
+	private double getMinionCost(String id, int tier, int depth, Resolution resolution) {
+		// Only the full depth cost is shared between lookups
+		if (depth == -1) {
+			Double cost = minionCosts.get(id + "_" + tier);
+			if (cost != null) {
+				return cost;
+			}
+		}
+
+		double priceOverride = higherDepth(priceOverrideJson, id + "_" + tier, -1.0);
+		if (priceOverride != -1) {
+			return priceOverride;
+		}
+
+		Recipe recipe = getParsedRecipe(id + "_" + tier);
+		if (recipe == null) {
+			return 0;
+		}
+
+		int outerCutDepth = resolution.cutDepth;
+		resolution.cutDepth = Integer.MAX_VALUE;
+		double cost = 0;
+		for (int i = 0; i < recipe.ids().length; i++) {
+			String material = recipe.ids()[i];
+			if (material.contains("GENERATOR")) {
+				if (depth - 1 != 0) {
+					cost += getMinionCost(material.substring(0, material.lastIndexOf("_")), tier - 1, depth - 1, resolution);
+				}
+			} else {
+				cost += resolve(material, false, false, resolution).price() * recipe.counts()[i];
+			}
+		}
+
+		// Any cut left over counted an item still being resolved as zero
+		if (depth == -1 && resolution.cutDepth == Integer.MAX_VALUE) {
+			minionCosts.putIfAbsent(id + "_" + tier, cost);
+		}
+		resolution.cutDepth = Math.min(outerCutDepth, resolution.cutDepth);
+		return cost;
+	}
+
+	/**
+	 * @return recipe or npc buy cost of the item split into ids and counts, or null if it has neither
+	 */
+	private Recipe getParsedRecipe(String itemId) {
+		Recipe recipe = recipes.get(itemId);
+		if (recipe == null) {
+			List<String> materials = getRecipe(itemId);
+			if (materials == null) {
+				recipe = NO_RECIPE;
+			} else {
+				String[] ids = new String[materials.size()];
+				double[] counts = new double[materials.size()];
+				for (int i = 0; i < materials.size(); i++) {
+					String[] idCountSplit = materials.get(i).split(":");
+					ids[i] = idCountSplit[0].replace("-", ":");
+					counts[i] = Double.parseDouble(idCountSplit[1]);
+				}
+				recipe =
+					new Recipe(
+						ids,
+						counts,
+						getRecipeCount(itemId),
+						higherDepth(higherDepth(internalJsonMappings, itemId), RECIPE_PATH) != null
+					);
+			}
+			recipes.putIfAbsent(itemId, recipe);
+		}
+
+		return recipe == NO_RECIPE ? null : recipe;
+	}
+
+	/**
+	 * @param source where the price came from or null if it should not be shown
+	 */
+	public record ItemPrice(double price, String source) {}
+
+	private record Recipe(String[] ids, double[] counts, int count, boolean craft) {}
+
+	/** Items being resolved by one lookup, used to cut recipe cycles */
+	private static class Resolution {
+
+		/** Mode and item id to depth on the resolution stack */
+		private final Map<String, Integer> resolving = new HashMap<>();
+		/** Lowest depth of an item that a cycle was cut at, or MAX_VALUE if nothing was cut */
+		private int cutDepth = Integer.MAX_VALUE;
+	}
+}
@@ -18,6 +18,7 @@
 
 package com.skyblockplus.miscellaneous.weight.cole;
 
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import lombok.Getter;
 
@@ -26,6 +27,14 @@ import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
 @Getter
 public class ColeWeight {
 
+	private static final JsonPath JADE_CRYSTAL_TOTAL_PLACED_PATH = JsonPath.of("mining_core.crystals.jade_crystal.total_placed");
+	private static final JsonPath KILLS_SCATHA_10_PATH = JsonPath.of("bestiary.kills.scatha_10");
+	private static final JsonPath KILLS_WORM_5_PATH = JsonPath.of("bestiary.kills.worm_5");
+	private static final JsonPath MINING_CORE_POWDER_GEMSTONE_TOTAL_PATH = JsonPath.of("mining_core.powder_gemstone_total");
+	private static final JsonPath MINING_CORE_POWDER_MITHRIL_TOTAL_PATH = JsonPath.of("mining_core.powder_mithril_total");
+	private static final JsonPath MINING_CORE_POWDER_SPENT_GEMSTONE_PATH = JsonPath.of("mining_core.powder_spent_gemstone");
+	private static final JsonPath MINING_CORE_POWDER_SPENT_MITHRIL_PATH = JsonPath.of("mining_core.powder_spent_mithril");
+
 	private double experienceWeight;
 	private double powderWeight;
 	private double collectionsWeight;
@@ -37,12 +46,12 @@ public class ColeWeight {
 
 		// Powder
 		powderWeight +=
-		(higherDepth(player.profileJson(), "mining_core.powder_mithril_total", 0) +
-			higherDepth(player.profileJson(), "mining_core.powder_spent_mithril", 0)) /
+		(higherDepth(player.profileJson(), MINING_CORE_POWDER_MITHRIL_TOTAL_PATH, 0) +
+			higherDepth(player.profileJson(), MINING_CORE_POWDER_SPENT_MITHRIL_PATH, 0)) /
 		60000.0;
 		powderWeight +=
-		(higherDepth(player.profileJson(), "mining_core.powder_gemstone_total", 0) +
-			higherDepth(player.profileJson(), "mining_core.powder_spent_gemstone", 0)) /
+		(higherDepth(player.profileJson(), MINING_CORE_POWDER_GEMSTONE_TOTAL_PATH, 0) +
+			higherDepth(player.profileJson(), MINING_CORE_POWDER_SPENT_GEMSTONE_PATH, 0)) /
 		60000.0;
 
 		// Collections
@@ -71,9 +80,9 @@ public class ColeWeight {
 		collectionsWeight += getCollection(player, "METAL_HEART") / 40.0;
 
 		// Misc
-		miscellaneousWeight += higherDepth(player.profileJson(), "bestiary.kills.scatha_10", 0) / 4.0;
-		miscellaneousWeight += higherDepth(player.profileJson(), "bestiary.kills.worm_5", 0) / 16.0;
-		miscellaneousWeight += higherDepth(player.profileJson(), "mining_core.crystals.jade_crystal.total_placed", 0) / 2.0;
+		miscellaneousWeight += higherDepth(player.profileJson(), KILLS_SCATHA_10_PATH, 0) / 4.0;
+		miscellaneousWeight += higherDepth(player.profileJson(), KILLS_WORM_5_PATH, 0) / 16.0;
+		miscellaneousWeight += higherDepth(player.profileJson(), JADE_CRYSTAL_TOTAL_PLACED_PATH, 0) / 2.0;
 	}
 
 	public double getTotalWeight() {
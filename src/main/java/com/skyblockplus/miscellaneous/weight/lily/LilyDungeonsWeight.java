@@ -21,6 +21,7 @@ package com.skyblockplus.miscellaneous.weight.lily;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.skyblockplus.miscellaneous.weight.weight.DungeonsWeight;
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.structs.SkillsStruct;
 import com.skyblockplus.utils.structs.WeightStruct;
@@ -33,6 +34,14 @@ import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
 
 public class LilyDungeonsWeight extends DungeonsWeight {
 
+	private static final JsonPath CATACOMBS_TIER_COMPLETIONS_PATH = JsonPath.of("dungeons.dungeon_types.catacombs.tier_completions");
+	private static final JsonPath DUNGEONS_COMPLETION_BUFFS_PATH = JsonPath.of("lily.dungeons.completion_buffs");
+	private static final JsonPath DUNGEONS_COMPLETION_WORTH_PATH = JsonPath.of("lily.dungeons.completion_worth");
+	private static final JsonPath DUNGEONS_OVERALL_PATH = JsonPath.of("lily.dungeons.overall");
+	private static final JsonPath MASTER_CATACOMBS_TIER_COMPLETIONS_PATH = JsonPath.of(
+		"dungeons.dungeon_types.master_catacombs.tier_completions"
+	);
+
 	public LilyDungeonsWeight(Player.Profile player) {
 		super(player);
 	}
@@ -59,7 +68,7 @@ public class LilyDungeonsWeight extends DungeonsWeight {
 			if (cataXP < 569809640) {
 				return weightStruct.add(
 					new WeightStruct(
-						higherDepth(getWeightJson(), "lily.dungeons.overall").getAsDouble() *
+						higherDepth(getWeightJson(), DUNGEONS_OVERALL_PATH).getAsDouble() *
 						((Math.pow(1.18340401286164044, (level + 1)) - 1.05994990217254) * (1 + n))
 					)
 				);
@@ -72,8 +81,8 @@ public class LilyDungeonsWeight extends DungeonsWeight {
 	}
 
 	public WeightStruct getDungeonCompletionWeight(String cataMode) {
-		JsonObject dungeonCompletionWorth = higherDepth(getWeightJson(), "lily.dungeons.completion_worth").getAsJsonObject();
-		JsonObject dungeonCompletionBuffs = higherDepth(getWeightJson(), "lily.dungeons.completion_buffs").getAsJsonObject();
+		JsonObject dungeonCompletionWorth = higherDepth(getWeightJson(), DUNGEONS_COMPLETION_WORTH_PATH).getAsJsonObject();
+		JsonObject dungeonCompletionBuffs = higherDepth(getWeightJson(), DUNGEONS_COMPLETION_BUFFS_PATH).getAsJsonObject();
 
 		double max1000 = 0;
 		double mMax1000 = 0;
@@ -91,14 +100,11 @@ public class LilyDungeonsWeight extends DungeonsWeight {
 		double score = 0;
 
 		if (cataMode.equals("normal")) {
-			if (higherDepth(player.profileJson(), "dungeons.dungeon_types.catacombs.tier_completions") == null) {
+			if (higherDepth(player.profileJson(), CATACOMBS_TIER_COMPLETIONS_PATH) == null) {
 				return new WeightStruct();
 			}
 
-			for (Map.Entry<String, JsonElement> normalFloor : higherDepth(
-				player.profileJson(),
-				"dungeons.dungeon_types.catacombs.tier_completions"
-			)
+			for (Map.Entry<String, JsonElement> normalFloor : higherDepth(player.profileJson(), CATACOMBS_TIER_COMPLETIONS_PATH)
 				.getAsJsonObject()
 				.entrySet()) {
 				if (higherDepth(dungeonCompletionWorth, "catacombs_" + normalFloor.getKey()) != null) {
@@ -117,14 +123,11 @@ public class LilyDungeonsWeight extends DungeonsWeight {
 
 			return weightStruct.add(new WeightStruct((score / max1000) * upperBound * 2));
 		} else {
-			if (higherDepth(player.profileJson(), "dungeons.dungeon_types.master_catacombs.tier_completions") == null) {
+			if (higherDepth(player.profileJson(), MASTER_CATACOMBS_TIER_COMPLETIONS_PATH) == null) {
 				return new WeightStruct();
 			}
 
-			for (Map.Entry<String, JsonElement> masterFloor : higherDepth(
-				player.profileJson(),
-				"dungeons.dungeon_types.master_catacombs.tier_completions"
-			)
+			for (Map.Entry<String, JsonElement> masterFloor : higherDepth(player.profileJson(), MASTER_CATACOMBS_TIER_COMPLETIONS_PATH)
 				.getAsJsonObject()
 				.entrySet()) {
 				if (higherDepth(dungeonCompletionBuffs, masterFloor.getKey()) != null) {
@@ -20,6 +20,7 @@ package com.skyblockplus.miscellaneous.weight.lily;
 
 import com.google.gson.JsonArray;
 import com.skyblockplus.miscellaneous.weight.weight.SkillsWeight;
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.structs.SkillsStruct;
 import com.skyblockplus.utils.structs.WeightStruct;
@@ -31,6 +32,8 @@ import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
 
 public class LilySkillsWeight extends SkillsWeight {
 
+	private static final JsonPath SKILLS_OVERALL_PATH = JsonPath.of("lily.skills.overall");
+
 	public LilySkillsWeight(Player.Profile player) {
 		super(player);
 	}
@@ -48,7 +51,7 @@ public class LilySkillsWeight extends SkillsWeight {
 
 		JsonArray srwTable;
 		try {
-			srwTable = higherDepth(getWeightJson(), "lily.skills.ratio_weight." + skillName).getAsJsonArray();
+			srwTable = higherDepth(getWeightJson(), JsonPath.of("lily.skills.ratio_weight." + skillName)).getAsJsonArray();
 		} catch (Exception e) {
 			return new WeightStruct();
 		}
@@ -69,16 +72,16 @@ public class LilySkillsWeight extends SkillsWeight {
 				srwTable.get(skillsStruct.currentLevel()).getAsDouble() *
 				srwTable.get(srwTable.size() - 1).getAsDouble()) +
 			(srwTable.get(srwTable.size() - 1).getAsDouble() * Math.pow(skillsStruct.currentLevel() / 60.0, Math.pow(2, 0.5)));
-		double overall = higherDepth(getWeightJson(), "lily.skills.overall").getAsDouble();
+		double overall = higherDepth(getWeightJson(), SKILLS_OVERALL_PATH).getAsDouble();
 		base *= overall;
 
 		double overflow = 0;
 		if (skillsStruct.totalExp() > SKILLS_LEVEL_60_XP) {
-			double factor = higherDepth(getWeightJson(), "lily.skills.factors." + skillName).getAsDouble();
+			double factor = higherDepth(getWeightJson(), JsonPath.of("lily.skills.factors." + skillName)).getAsDouble();
 			double effectiveOver = effectiveXP(skillsStruct.totalExp() - SKILLS_LEVEL_60_XP, factor);
 			double t =
 				(effectiveOver / SKILLS_LEVEL_60_XP) *
-				(higherDepth(getWeightJson(), "lily.skills.overflow_multipliers." + skillName).getAsDouble());
+				(higherDepth(getWeightJson(), JsonPath.of("lily.skills.overflow_multipliers." + skillName)).getAsDouble());
 			if (t > 0) {
 				overflow += overall * t;
 			}
@@ -19,6 +19,7 @@
 package com.skyblockplus.miscellaneous.weight.lily;
 
 import com.skyblockplus.miscellaneous.weight.weight.SlayerWeight;
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.structs.WeightStruct;
 
@@ -51,7 +52,7 @@ public class LilySlayerWeight extends SlayerWeight {
 			score = Math.sqrt(4.0 / 3) * Math.cos(Math.acos(d * Math.pow(3, 5.0 / 2)) / 3) - 1;
 		}
 
-		double scaleFactor = higherDepth(getWeightJson(), "lily.slayer.deprecation_scaling." + slayerName).getAsDouble();
+		double scaleFactor = higherDepth(getWeightJson(), JsonPath.of("lily.slayer.deprecation_scaling." + slayerName)).getAsDouble();
 		int intScore = (int) score;
 		double distance = currentSlayerXp - actualInt(intScore);
 		double effectiveDistance = distance * Math.pow(scaleFactor, intScore);
@@ -19,6 +19,7 @@
 package com.skyblockplus.miscellaneous.weight.senither;
 
 import com.skyblockplus.miscellaneous.weight.weight.DungeonsWeight;
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.structs.SkillsStruct;
 import com.skyblockplus.utils.structs.WeightStruct;
@@ -29,6 +30,8 @@ import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
 
 public class SenitherDungeonsWeight extends DungeonsWeight {
 
+	private static final JsonPath DUNGEONS_CATACOMBS_PATH = JsonPath.of("senither.dungeons.catacombs");
+
 	public SenitherDungeonsWeight(Player.Profile player) {
 		super(player);
 	}
@@ -38,7 +41,8 @@ public class SenitherDungeonsWeight extends DungeonsWeight {
 		double currentClassLevel = dungeonSkill.getProgressLevel();
 		double currentClassXp = dungeonSkill.totalExp();
 		double base =
-			Math.pow(currentClassLevel, 4.5) * higherDepth(getWeightJson(), "senither.dungeons.classes." + className).getAsDouble();
+			Math.pow(currentClassLevel, 4.5) *
+			higherDepth(getWeightJson(), JsonPath.of("senither.dungeons.classes." + className)).getAsDouble();
 
 		if (currentClassXp <= CATACOMBS_LEVEL_50_XP) {
 			return weightStruct.add(new WeightStruct(base));
@@ -58,7 +62,7 @@ public class SenitherDungeonsWeight extends DungeonsWeight {
 	public WeightStruct getDungeonWeight(SkillsStruct catacombs) {
 		double catacombsSkillXp = catacombs.totalExp();
 		double level = catacombs.getProgressLevel();
-		double base = Math.pow(level, 4.5) * higherDepth(getWeightJson(), "senither.dungeons.catacombs").getAsDouble();
+		double base = Math.pow(level, 4.5) * higherDepth(getWeightJson(), DUNGEONS_CATACOMBS_PATH).getAsDouble();
 
 		if (catacombsSkillXp <= CATACOMBS_LEVEL_50_XP) {
 			return weightStruct.add(new WeightStruct(base));
@@ -20,6 +20,7 @@ package com.skyblockplus.miscellaneous.weight.senither;
 
 import com.google.gson.JsonArray;
 import com.skyblockplus.miscellaneous.weight.weight.SkillsWeight;
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.structs.SkillsStruct;
 import com.skyblockplus.utils.structs.WeightStruct;
@@ -44,7 +45,7 @@ public class SenitherSkillsWeight extends SkillsWeight {
 	public WeightStruct getSkillsWeight(String skillName, SkillsStruct skillsStruct) {
 		JsonArray curWeights;
 		try {
-			curWeights = higherDepth(getWeightJson(), "senither.skills." + skillName).getAsJsonArray();
+			curWeights = higherDepth(getWeightJson(), JsonPath.of("senither.skills." + skillName)).getAsJsonArray();
 		} catch (Exception e) {
 			return new WeightStruct();
 		}
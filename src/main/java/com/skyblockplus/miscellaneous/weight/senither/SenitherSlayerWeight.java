@@ -20,6 +20,7 @@ package com.skyblockplus.miscellaneous.weight.senither;
 
 import com.google.gson.JsonArray;
 import com.skyblockplus.miscellaneous.weight.weight.SlayerWeight;
+import com.skyblockplus.utils.JsonPath;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.structs.WeightStruct;
 
@@ -41,7 +42,7 @@ public class SenitherSlayerWeight extends SlayerWeight {
 			return new WeightStruct();
 		}
 
-		JsonArray curWeights = higherDepth(getWeightJson(), "senither.slayer." + slayerName).getAsJsonArray();
+		JsonArray curWeights = higherDepth(getWeightJson(), JsonPath.of("senither.slayer." + slayerName)).getAsJsonArray();
 
 		double divider = curWeights.get(0).getAsDouble();
 		double modifier = curWeights.get(1).getAsDouble();
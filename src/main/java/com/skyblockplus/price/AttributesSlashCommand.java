@@ -20,10 +20,13 @@ package com.skyblockplus.price;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.skyblockplus.utils.DerivedValue;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.rendering.LoreRenderer;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
+import com.skyblockplus.utils.utils.JsonUtils;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
@@ -33,13 +36,7 @@ import net.dv8tion.jda.api.utils.FileUpload;
 import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
 import org.springframework.stereotype.Component;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.ApiHandler.queryLowestBin;
@@ -52,22 +49,32 @@ import static com.skyblockplus.utils.utils.Utils.setTriUnion;
 @Component
 public class AttributesSlashCommand extends SlashCommand {
 
+	private static final List<String> allAttributeNames = allAttributes
+		.stream()
+		.map(e -> capitalizeString(e.replace("_", " ")))
+		.toList();
+	/** Attribute keys of the price feeds, rebuilt only when a feed refreshes so the search indexes are reused between keystrokes */
+	private static final DerivedValue<AttributeKeys> attributeKeys = new DerivedValue<>(
+		AttributesSlashCommand::buildAttributeKeys,
+		JsonUtils::getLowestBinJson,
+		JsonUtils::getAverageAuctionJson,
+		JsonUtils::getAverageBinJson
+	);
+
 	public AttributesSlashCommand() {
 		this.name = "attributes";
+		this.executionClass = CommandExecutionClass.HYPIXEL;
 	}
 
 	public static Object getAttributes(String item, String attrOne, String attrTwo) {
 		JsonObject averageAuctionJson = getAverageAuctionJson();
 		JsonObject averageBinJson = getAverageBinJson();
-		JsonObject lowestBinJson = getLowestBinJson();
-		if (averageAuctionJson == null || averageBinJson == null || lowestBinJson == null) {
+		AttributeKeys attributeKeys = AttributesSlashCommand.attributeKeys.get();
+		if (averageAuctionJson == null || averageBinJson == null || attributeKeys == null) {
 			return defaultEmbed("Error fetching auction prices");
 		}
 
-		Set<String> keys = setTriUnion(averageAuctionJson.keySet(), averageBinJson.keySet(), lowestBinJson.keySet())
-			.stream()
-			.filter(e -> e.contains("+"))
-			.collect(Collectors.toCollection(HashSet::new));
+		Set<String> keys = attributeKeys.keys();
 
 		String itemId = nameToId(item, true);
 		if (itemId == null) {
@@ -138,12 +145,10 @@ public class AttributesSlashCommand extends SlashCommand {
 
 		JsonElement lowestBinItemJson = queryLowestBin(formattedId);
 		if (lowestBinItemJson != null) {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			byte[] loreRender = new byte[0];
 			try {
-				BufferedImage loreRender = LoreRenderer.renderLore(
-					Arrays.stream(higherDepth(lowestBinItemJson, "lore").getAsString().split("\n")).toList()
-				);
-				ImageIO.write(loreRender, "png", baos);
+				loreRender =
+					LoreRenderer.renderLorePng(Arrays.stream(higherDepth(lowestBinItemJson, "lore").getAsString().split("\n")).toList());
 			} catch (Exception ignored) {}
 
 			return new MessageEditBuilder()
@@ -161,7 +166,7 @@ public class AttributesSlashCommand extends SlashCommand {
 						.setImage("attachment://lore.png")
 						.build()
 				)
-				.setFiles(FileUpload.fromData(baos.toByteArray(), "lore.png"));
+				.setFiles(FileUpload.fromData(loreRender, "lore.png"));
 		}
 
 		return eb;
@@ -184,57 +189,70 @@ public class AttributesSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			if (getLowestBinJson() != null && getAverageAuctionJson() != null && getAverageBinJson() != null) {
-				event.replyClosestMatch(
-					event.getFocusedOption().getValue(),
-					setTriUnion(getLowestBinJson().keySet(), getAverageAuctionJson().keySet(), getAverageBinJson().keySet())
-						.stream()
-						.filter(e -> e.contains("+"))
-						.map(e -> idToName(e.split("\\+")[0]))
-						.distinct()
-						.collect(Collectors.toCollection(ArrayList::new))
-				);
+			AttributeKeys attributeKeys = AttributesSlashCommand.attributeKeys.get();
+			if (attributeKeys != null) {
+				event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), attributeKeys.itemIds());
 			}
 		} else if (
 			event.getFocusedOption().getName().equals("attribute_one") || event.getFocusedOption().getName().equals("attribute_two")
 		) {
 			String itemName = event.getOption("item", OptionMapping::getAsString);
-			if (itemName != null && getLowestBinJson() != null && getAverageAuctionJson() != null && getAverageBinJson() != null) {
-				Set<String> keys = setTriUnion(getLowestBinJson().keySet(), getAverageAuctionJson().keySet(), getAverageBinJson().keySet())
-					.stream()
-					.filter(e -> e.contains("+"))
-					.collect(Collectors.toCollection(HashSet::new));
-
+			AttributeKeys attributeKeys = AttributesSlashCommand.attributeKeys.get();
+			if (itemName != null && attributeKeys != null) {
 				String itemId = nameToId(itemName, true);
 				if (itemId == null) {
-					itemId = getClosestMatchFromIds(itemName, keys);
+					itemId = getClosestMatchFromIds(itemName, attributeKeys.keys());
 				}
-				String finalItemId = itemId;
-
-				Set<String> options = allAttributes
-					.stream()
-					.filter(attribute ->
-						keys
-							.stream()
-							.anyMatch(e ->
-								e.startsWith(finalItemId + "+ATTRIBUTE_SHARD_" + (attribute.equals("VITALITY") ? "MENDING" : attribute)) ||
-								(e.startsWith(finalItemId + "+ATTRIBUTE_SHARD_") &&
-									e.endsWith("+ATTRIBUTE_SHARD_" + (attribute.equals("VITALITY") ? "MENDING" : attribute)))
-							)
-					)
-					.map(e -> capitalizeString(e.replace("_", " ")))
-					.collect(Collectors.toCollection(HashSet::new));
-
-				if (!options.isEmpty()) {
+
+				List<String> options = attributeKeys.itemIdToAttributeNames().get(itemId.split("\\+")[0]);
+				if (options != null) {
 					event.replyClosestMatch(event.getFocusedOption().getValue(), options);
 					return;
 				}
 			}
 
-			event.replyClosestMatch(
-				event.getFocusedOption().getValue(),
-				allAttributes.stream().map(e -> capitalizeString(e.replace("_", " "))).collect(Collectors.toCollection(ArrayList::new))
-			);
+			event.replyClosestMatch(event.getFocusedOption().getValue(), allAttributeNames);
 		}
 	}
+
+	private static AttributeKeys buildAttributeKeys() {
+		Set<String> keys = setTriUnion(getLowestBinJson().keySet(), getAverageAuctionJson().keySet(), getAverageBinJson().keySet())
+			.stream()
+			.filter(e -> e.contains("+"))
+			.collect(Collectors.toUnmodifiableSet());
+
+		Map<String, Set<String>> itemIdToAttributes = new HashMap<>();
+		for (String key : keys) {
+			String[] split = key.split("\\+");
+			for (int i = 1; i < split.length; i++) {
+				if (split[i].startsWith("ATTRIBUTE_SHARD_")) {
+					String attribute = split[i].substring("ATTRIBUTE_SHARD_".length());
+					itemIdToAttributes
+						.computeIfAbsent(split[0], k -> new HashSet<>())
+						.add(attribute.equals("MENDING") ? "VITALITY" : attribute);
+				}
+			}
+		}
+
+		Map<String, List<String>> itemIdToAttributeNames = new HashMap<>();
+		for (Map.Entry<String, Set<String>> entry : itemIdToAttributes.entrySet()) {
+			List<String> names = allAttributes
+				.stream()
+				.filter(entry.getValue()::contains)
+				.map(e -> capitalizeString(e.replace("_", " ")))
+				.toList();
+			if (!names.isEmpty()) {
+				itemIdToAttributeNames.put(entry.getKey(), names);
+			}
+		}
+
+		return new AttributeKeys(keys, Set.copyOf(itemIdToAttributes.keySet()), itemIdToAttributeNames);
+	}
+
+	/**
+	 * @param keys lowest BIN and average price keys of items with attributes
+	 * @param itemIds ids of the items in keys
+	 * @param itemIdToAttributeNames formatted names of the attributes each item is sold with
+	 */
+	private record AttributeKeys(Set<String> keys, Set<String> itemIds, Map<String, List<String>> itemIdToAttributeNames) {}
 }
@@ -18,28 +18,38 @@
 
 package com.skyblockplus.price;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
+import com.skyblockplus.utils.EndedAuctionsFeed;
 import com.skyblockplus.utils.structs.InvItem;
 import com.skyblockplus.utils.structs.UsernameUuidStruct;
 import net.dv8tion.jda.api.EmbedBuilder;
 
-import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static com.skyblockplus.utils.ApiHandler.getHypixelApiUrl;
 import static com.skyblockplus.utils.ApiHandler.usernameToUuid;
-import static com.skyblockplus.utils.utils.HttpUtils.getJson;
-import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
 import static com.skyblockplus.utils.utils.StringUtils.*;
 import static com.skyblockplus.utils.utils.Utils.*;
 
 public class AuctionTracker {
 
-	public static final Map<String, UsernameUuidStruct> commandAuthorToTrackingUser = new HashMap<>();
-	private static Instant lastUpdated = null;
+	/** Only modified through {@link #insertAhTrack} and {@link #stopTrackingAuctions} so the seller index stays in sync */
+	private static final Map<String, UsernameUuidStruct> commandAuthorToTrackingUser = new ConcurrentHashMap<>();
+	private static final Map<String, Set<String>> sellerToTrackingUsers = new ConcurrentHashMap<>();
+	private static final int MAX_AUCTIONS_PER_DM = 10;
+
+	/**
+	 * @return player the user is tracking or null if they are not tracking anyone
+	 */
+	public static UsernameUuidStruct getTrackedPlayer(String userId) {
+		return commandAuthorToTrackingUser.get(userId);
+	}
+
+	/**
+	 * @return read only view of every user's tracked player
+	 */
+	public static Map<String, UsernameUuidStruct> getTrackedPlayers() {
+		return Collections.unmodifiableMap(commandAuthorToTrackingUser);
+	}
 
 	public static EmbedBuilder trackAuctions(String username, String userId) {
 		UsernameUuidStruct curTrack = commandAuthorToTrackingUser.getOrDefault(userId, null);
@@ -55,7 +65,7 @@ public class AuctionTracker {
 			);
 		}
 
-		commandAuthorToTrackingUser.put(userId, uuidStruct);
+		insertAhTrack(userId, uuidStruct);
 		return defaultEmbed("Auction Tracker")
 			.setDescription(
 				(curTrack != null ? "Stopped tracking [**" + curTrack.username() + "**](" + curTrack.getAuctionUrl() + "). " : "") +
@@ -67,90 +77,81 @@ public class AuctionTracker {
 			);
 	}
 
-	private static void trackAuctionRunnable() {
-		try {
-			if (commandAuthorToTrackingUser.isEmpty()) {
-				return;
+	/**
+	 * Sends each tracking user one DM listing the sold auctions of the seller they track
+	 */
+	private static void onEndedAuctions(List<EndedAuctionsFeed.EndedAuction> endedAuctions) {
+		Map<String, List<String>> userToSoldAuctions = new HashMap<>();
+		for (EndedAuctionsFeed.EndedAuction endedAuction : endedAuctions) {
+			Set<String> trackingUsers = sellerToTrackingUsers.get(endedAuction.seller());
+			if (trackingUsers == null || trackingUsers.isEmpty()) {
+				continue;
 			}
 
-			JsonElement endedAuctionsJson = getJson(getHypixelApiUrl("/skyblock/auctions_ended", false));
-			if (higherDepth(endedAuctionsJson, "auctions") == null) {
-				return;
+			String itemName = "???";
+			try {
+				InvItem item = endedAuction.getItem();
+				itemName = (item.getCount() > 1 ? item.getCount() + "x " : "");
+				if (item.getId().equals("ENCHANTED_BOOK")) {
+					itemName += cleanMcCodes(item.getLore().get(0));
+				} else {
+					itemName += (item.getId().equals("PET") ? capitalizeString(item.getRarity()) + " " : "") + item.getName();
+				}
+			} catch (Exception ignored) {}
+			String soldAuction =
+				"**Item:** " +
+				itemName +
+				"\n**Sold for:** " +
+				formatNumber(endedAuction.price()) +
+				"\n**Ended:** " +
+				getRelativeTimestamp(endedAuction.timestamp());
+
+			for (String userId : trackingUsers) {
+				userToSoldAuctions.computeIfAbsent(userId, k -> new ArrayList<>()).add(soldAuction);
 			}
+		}
 
-			Instant jsonLastUpdated = Instant.ofEpochMilli(higherDepth(endedAuctionsJson, "lastUpdated").getAsLong());
-			if (lastUpdated == null || lastUpdated.isBefore(jsonLastUpdated)) {
-				lastUpdated = jsonLastUpdated;
-
-				JsonArray endedAuctionsArray = higherDepth(endedAuctionsJson, "auctions").getAsJsonArray();
-				for (JsonElement endedAuction : endedAuctionsArray) {
-					String seller = higherDepth(endedAuction, "seller").getAsString();
-
-					String itemName = "???";
-					try {
-						InvItem item = nbtToItem(higherDepth(endedAuction, "item_bytes").getAsString());
-						itemName = (item.getCount() > 1 ? item.getCount() + "x " : "");
-						if (item.getId().equals("ENCHANTED_BOOK")) {
-							itemName += cleanMcCodes(item.getLore().get(0));
-						} else {
-							itemName += (item.getId().equals("PET") ? capitalizeString(item.getRarity()) + " " : "") + item.getName();
-						}
-					} catch (Exception ignored) {}
-					String finalItemName = itemName;
-					String soldFor = formatNumber(higherDepth(endedAuction, "price").getAsLong());
-					long endedAt = higherDepth(endedAuction, "timestamp").getAsLong();
-
-					commandAuthorToTrackingUser
-						.entrySet()
-						.stream()
-						.filter(entry -> entry.getValue().uuid().equals(seller))
-						.forEach(entry -> {
-							try {
-								jda
-									.retrieveUserById(entry.getKey())
-									.queue(
-										user ->
-											user
-												.openPrivateChannel()
-												.queue(
-													dm ->
-														dm
-															.sendMessageEmbeds(
-																defaultEmbed("Auction Tracker")
-																	.setDescription(
-																		"**Seller:** " +
-																		entry.getValue().username() +
-																		"\n**Item:** " +
-																		finalItemName +
-																		"\n**Sold for:** " +
-																		soldFor +
-																		"\n**Ended:** " +
-																		getRelativeTimestamp(endedAt)
-																	)
-																	.build()
-															)
-															.queue(ignore, ignore),
-													ignore
-												),
-										ignore
-									);
-							} catch (Exception ignored) {}
-						});
-				}
+		for (Map.Entry<String, List<String>> entry : userToSoldAuctions.entrySet()) {
+			UsernameUuidStruct trackingUser = commandAuthorToTrackingUser.get(entry.getKey());
+			if (trackingUser == null) {
+				continue;
 			}
-		} catch (Exception e) {
-			e.printStackTrace();
+
+			List<String> soldAuctions = entry.getValue();
+			String description =
+				"**Seller:** " +
+				trackingUser.username() +
+				"\n\n" +
+				String.join("\n\n", soldAuctions.subList(0, Math.min(soldAuctions.size(), MAX_AUCTIONS_PER_DM))) +
+				(soldAuctions.size() > MAX_AUCTIONS_PER_DM ? "\n\nAnd " + (soldAuctions.size() - MAX_AUCTIONS_PER_DM) + " more" : "");
+
+			try {
+				jda
+					.retrieveUserById(entry.getKey())
+					.queue(
+						user ->
+							user
+								.openPrivateChannel()
+								.queue(
+									dm ->
+										dm
+											.sendMessageEmbeds(defaultEmbed("Auction Tracker").setDescription(description).build())
+											.queue(ignore, ignore),
+									ignore
+								),
+						ignore
+					);
+			} catch (Exception ignored) {}
 		}
 	}
 
 	public static void initialize() {
-		scheduler.scheduleAtFixedRate(AuctionTracker::trackAuctionRunnable, 0, 30, TimeUnit.SECONDS);
+		EndedAuctionsFeed.subscribe(() -> !commandAuthorToTrackingUser.isEmpty(), AuctionTracker::onEndedAuctions);
 	}
 
 	public static EmbedBuilder stopTrackingAuctions(String userId) {
-		if (commandAuthorToTrackingUser.containsKey(userId)) {
-			UsernameUuidStruct stoppedTracking = commandAuthorToTrackingUser.get(userId);
-			commandAuthorToTrackingUser.remove(userId);
+		UsernameUuidStruct stoppedTracking = removeAhTrack(userId);
+		if (stoppedTracking != null) {
 			return defaultEmbed("Auction Tracker")
 				.setDescription(
 					"Stopped tracking the auctions of [**" + stoppedTracking.username() + "**](" + stoppedTracking.getAuctionUrl() + ")"
@@ -160,7 +161,20 @@ public class AuctionTracker {
 		return errorEmbed("You are not tracking this player");
 	}
 
-	public static void insertAhTrack(String key, UsernameUuidStruct value) {
+	public static synchronized void insertAhTrack(String key, UsernameUuidStruct value) {
+		removeAhTrack(key);
 		commandAuthorToTrackingUser.put(key, value);
+		sellerToTrackingUsers.computeIfAbsent(value.uuid(), k -> ConcurrentHashMap.newKeySet()).add(key);
+	}
+
+	private static synchronized UsernameUuidStruct removeAhTrack(String key) {
+		UsernameUuidStruct removed = commandAuthorToTrackingUser.remove(key);
+		if (removed != null) {
+			sellerToTrackingUsers.computeIfPresent(removed.uuid(), (k, trackingUsers) -> {
+				trackingUsers.remove(key);
+				return trackingUsers.isEmpty() ? null : trackingUsers;
+			});
+		}
+		return removed;
 	}
 }
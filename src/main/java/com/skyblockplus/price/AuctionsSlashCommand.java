@@ -169,7 +169,7 @@ public class AuctionsSlashCommand extends SlashCommand {
 				}
 			}
 
-			UsernameUuidStruct curTrack = AuctionTracker.commandAuthorToTrackingUser.getOrDefault(event.getUser().getId(), null);
+			UsernameUuidStruct curTrack = AuctionTracker.getTrackedPlayer(event.getUser().getId());
 			Button button;
 			if (curTrack != null && curTrack.uuid().equals(player.getUuid())) {
 				button =
@@ -20,10 +20,11 @@ package com.skyblockplus.price;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.skyblockplus.utils.DerivedValue;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
-import com.skyblockplus.utils.utils.StringUtils;
+import com.skyblockplus.utils.utils.JsonUtils;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
@@ -31,7 +32,7 @@ import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 import org.apache.commons.collections4.SetUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.utils.JsonUtils.*;
@@ -41,6 +42,18 @@ import static com.skyblockplus.utils.utils.Utils.defaultEmbed;
 @Component
 public class AverageSlashCommand extends SlashCommand {
 
+	/** Autocomplete ids, rebuilt only when the average feeds refresh so the search index is reused between keystrokes */
+	private static final DerivedValue<Set<String>> itemIds = new DerivedValue<>(
+		() ->
+			SetUtils
+				.union(getAverageAuctionJson().keySet(), getAverageBinJson().keySet())
+				.stream()
+				.filter(e -> !e.contains("+"))
+				.collect(Collectors.toUnmodifiableSet()),
+		JsonUtils::getAverageAuctionJson,
+		JsonUtils::getAverageBinJson
+	);
+
 	public AverageSlashCommand() {
 		this.name = "average";
 	}
@@ -104,17 +117,9 @@ public class AverageSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			if (getAverageAuctionJson() != null && getAverageBinJson() != null) {
-				event.replyClosestMatch(
-					event.getFocusedOption().getValue(),
-					SetUtils
-						.union(getAverageAuctionJson().keySet(), getAverageBinJson().keySet())
-						.stream()
-						.filter(e -> !e.contains("+"))
-						.map(StringUtils::idToName)
-						.distinct()
-						.collect(Collectors.toCollection(ArrayList::new))
-				);
+			Set<String> ids = itemIds.get();
+			if (ids != null) {
+				event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), ids);
 			}
 		}
 	}
@@ -18,20 +18,16 @@
 
 package com.skyblockplus.price;
 
-import com.google.gson.JsonElement;
+import com.skyblockplus.utils.MarketSnapshot;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
-import com.skyblockplus.utils.utils.StringUtils;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.stream.Collectors;
-
 import static com.skyblockplus.utils.utils.JsonUtils.*;
 import static com.skyblockplus.utils.utils.StringUtils.*;
 import static com.skyblockplus.utils.utils.Utils.defaultEmbed;
@@ -45,23 +41,22 @@ public class BazaarSlashCommand extends SlashCommand {
 	}
 
 	public static EmbedBuilder getBazaarItem(String itemNameU) {
-		JsonElement bazaarItems = getBazaarJson();
-		if (bazaarItems == null) {
+		MarketSnapshot market = MarketSnapshot.get();
+		if (market.getBazaarIds().isEmpty()) {
 			return errorEmbed("Error getting bazaar data");
 		}
 
 		String itemId = nameToId(itemNameU);
-		if (higherDepth(bazaarItems, itemId) == null) {
-			itemId = getClosestMatchFromIds(itemId, getJsonKeys(bazaarItems));
+		if (!market.isBazaarItem(itemId)) {
+			itemId = getClosestMatchFromIds(itemId, market.getBazaarIds());
 		}
 
-		JsonElement itemInfo = higherDepth(bazaarItems, itemId);
 		return defaultEmbed(idToName(itemId), "https://bazaartracker.com/product/" + itemId)
-			.addField("Buy Price (Per)", simplifyNumber(higherDepth(itemInfo, "buy_summary", 0.0)), true)
-			.addField("Sell Price (Per)", simplifyNumber(higherDepth(itemInfo, "sell_summary", 0.0)), true)
+			.addField("Buy Price (Per)", simplifyNumber(market.getBazaarBuy(itemId, 0)), true)
+			.addField("Sell Price (Per)", simplifyNumber(market.getBazaarSell(itemId, 0)), true)
 			.addBlankField(true)
-			.addField("Buy Volume", simplifyNumber(higherDepth(itemInfo, "buyVolume", 0L)), true)
-			.addField("Sell Volume", simplifyNumber(higherDepth(itemInfo, "sellVolume", 0L)), true)
+			.addField("Buy Volume", simplifyNumber(market.getBazaarBuyVolume(itemId)), true)
+			.addField("Sell Volume", simplifyNumber(market.getBazaarSellVolume(itemId)), true)
 			.addBlankField(true)
 			.setThumbnail(getItemThumbnail(itemId));
 	}
@@ -79,10 +74,7 @@ public class BazaarSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			event.replyClosestMatch(
-				event.getFocusedOption().getValue(),
-				getBazaarJson().keySet().stream().map(StringUtils::idToName).distinct().collect(Collectors.toCollection(ArrayList::new))
-			);
+			event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), MarketSnapshot.get().getBazaarIds());
 		}
 	}
 }
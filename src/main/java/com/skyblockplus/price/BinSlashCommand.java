@@ -19,11 +19,13 @@
 package com.skyblockplus.price;
 
 import com.google.gson.JsonObject;
+import com.skyblockplus.utils.DerivedValue;
+import com.skyblockplus.utils.MarketSnapshot;
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import com.skyblockplus.utils.rendering.LoreRenderer;
 import com.skyblockplus.utils.structs.AutoCompleteEvent;
-import com.skyblockplus.utils.utils.StringUtils;
 import net.dv8tion.jda.api.interactions.commands.OptionType;
 import net.dv8tion.jda.api.interactions.commands.build.Commands;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
@@ -31,11 +33,8 @@ import net.dv8tion.jda.api.utils.FileUpload;
 import net.dv8tion.jda.api.utils.messages.MessageEditBuilder;
 import org.springframework.stereotype.Component;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.ApiHandler.queryLowestBin;
@@ -49,20 +48,32 @@ import static com.skyblockplus.utils.utils.Utils.errorEmbed;
 @Component
 public class BinSlashCommand extends SlashCommand {
 
+	/** Autocomplete ids, rebuilt once per market snapshot so the search index is reused between keystrokes */
+	private static final DerivedValue<Set<String>> itemIds = new DerivedValue<>(
+		() ->
+			MarketSnapshot
+				.get()
+				.getLowestBinIds()
+				.stream()
+				.filter(e -> !e.contains("+"))
+				.collect(Collectors.toUnmodifiableSet()),
+		MarketSnapshot::get
+	);
+
 	public BinSlashCommand() {
 		this.name = "bin";
+		this.executionClass = CommandExecutionClass.HYPIXEL;
 	}
 
 	public static Object getLowestBin(String item) {
-		JsonObject lowestBinJson = getLowestBinJson();
-		if (lowestBinJson == null) {
+		MarketSnapshot market = MarketSnapshot.get();
+		if (market.getLowestBinIds().isEmpty()) {
 			return errorEmbed("Error fetching lowest bin prices");
 		}
 
 		String itemId = nameToId(item, true);
 		if (itemId == null) {
-			itemId =
-				getClosestMatchFromIds(item, lowestBinJson.keySet().stream().filter(e -> !e.contains("+")).collect(Collectors.toSet()));
+			itemId = getClosestMatchFromIds(item, itemIds.get());
 		}
 
 		JsonObject lowestBin = queryLowestBin(itemId);
@@ -70,12 +81,9 @@ public class BinSlashCommand extends SlashCommand {
 			return errorEmbed("No bins found for " + idToName(item));
 		}
 
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] loreRender = new byte[0];
 		try {
-			BufferedImage loreRender = LoreRenderer.renderLore(
-				Arrays.stream(higherDepth(lowestBin, "lore").getAsString().split("\n")).toList()
-			);
-			ImageIO.write(loreRender, "png", baos);
+			loreRender = LoreRenderer.renderLorePng(Arrays.stream(higherDepth(lowestBin, "lore").getAsString().split("\n")).toList());
 		} catch (Exception ignored) {}
 
 		int count = higherDepth(lowestBin, "count").getAsInt();
@@ -99,7 +107,7 @@ public class BinSlashCommand extends SlashCommand {
 					.setImage("attachment://lore.png")
 					.build()
 			)
-			.setFiles(FileUpload.fromData(baos.toByteArray(), "lore.png"));
+			.setFiles(FileUpload.fromData(loreRender, "lore.png"));
 	}
 
 	@Override
@@ -115,17 +123,9 @@ public class BinSlashCommand extends SlashCommand {
 	@Override
 	public void onAutoComplete(AutoCompleteEvent event) {
 		if (event.getFocusedOption().getName().equals("item")) {
-			if (getLowestBinJson() != null) {
-				event.replyClosestMatch(
-					event.getFocusedOption().getValue(),
-					getLowestBinJson()
-						.keySet()
-						.stream()
-						.filter(e -> !e.contains("+"))
-						.map(StringUtils::idToName)
-						.distinct()
-						.collect(Collectors.toCollection(ArrayList::new))
-				);
+			Set<String> ids = itemIds.get();
+			if (!ids.isEmpty()) {
+				event.replyClosestMatchFromIds(event.getFocusedOption().getValue(), ids);
 			}
 		}
 	}
@@ -19,6 +19,7 @@
 package com.skyblockplus.price;
 
 import com.google.gson.JsonElement;
+import com.skyblockplus.utils.MarketSnapshot;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -58,7 +59,7 @@ public class FlipsSlashCommand extends SlashCommand {
 			return eb.appendDescription("\n\nNo auction flips found at the moment");
 		}
 
-		JsonElement avgAuctionJson = getAveragePriceJson();
+		MarketSnapshot market = MarketSnapshot.get();
 		for (JsonElement auction : underBinJson
 			.getAsJsonObject()
 			.entrySet()
@@ -73,15 +74,13 @@ public class FlipsSlashCommand extends SlashCommand {
 				continue;
 			}
 
-			int sales = higherDepth(avgAuctionJson, itemId + ".sales", 0);
+			int sales = market.getAverageSales(itemId);
 			if (sales < 5) {
 				continue;
 			}
 
-			double resellPrice = Math.min(
-				higherDepth(auction, "past_bin_price").getAsLong(),
-				higherDepth(avgAuctionJson, itemId + ".price", higherDepth(avgAuctionJson, itemId + ".price").getAsDouble())
-			);
+			long pastBinPrice = higherDepth(auction, "past_bin_price").getAsLong();
+			double resellPrice = Math.min(pastBinPrice, market.getAveragePrice(itemId, pastBinPrice));
 			long buyPrice = higherDepth(auction, "starting_bid").getAsLong();
 			double profit = calculateWithTaxes(resellPrice) - buyPrice;
 
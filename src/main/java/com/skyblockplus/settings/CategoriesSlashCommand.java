@@ -18,6 +18,7 @@
 
 package com.skyblockplus.settings;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -36,6 +37,7 @@ public class CategoriesSlashCommand extends SlashCommand {
 	public CategoriesSlashCommand() {
 		this.name = "categories";
 		this.userPermissions = new Permission[] { Permission.ADMINISTRATOR };
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	public static EmbedBuilder getCategories(Guild guild) {
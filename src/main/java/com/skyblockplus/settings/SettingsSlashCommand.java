@@ -18,6 +18,7 @@
 
 package com.skyblockplus.settings;
 
+import com.skyblockplus.utils.command.CommandExecutionClass;
 import com.skyblockplus.utils.command.SlashCommand;
 import com.skyblockplus.utils.command.SlashCommandEvent;
 import net.dv8tion.jda.api.Permission;
@@ -32,6 +33,7 @@ public class SettingsSlashCommand extends SlashCommand {
 	public SettingsSlashCommand() {
 		this.name = "settings";
 		this.userPermissions = new Permission[] { Permission.ADMINISTRATOR };
+		this.executionClass = CommandExecutionClass.FAST;
 	}
 
 	@Override
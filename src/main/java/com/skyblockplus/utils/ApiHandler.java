@@ -41,7 +41,9 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 import static com.skyblockplus.utils.utils.HttpUtils.*;
@@ -57,6 +59,7 @@ public class ApiHandler {
 	private static final Pattern minecraftUuidRegex = Pattern.compile(
 		"[\\da-f]{32}|[\\da-f]{8}-[\\da-f]{4}-[\\da-f]{4}-[\\da-f]{4}-[\\da-f]{12}"
 	);
+	private static final Map<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
 	private static final Logger log = LoggerFactory.getLogger(ApiHandler.class);
 
 	public static void initialize() {
@@ -68,6 +71,7 @@ public class ApiHandler {
 			leaderboardDatabase.initializeTokens();
 			leaderboardDatabase.initializeParties();
 			leaderboardDatabase.initializeEventTimers();
+			scheduler.scheduleWithFixedDelay(leaderboardDatabase::flushJsonCache, 1, 1, TimeUnit.SECONDS);
 			scheduler.scheduleWithFixedDelay(leaderboardDatabase::updateJsonCache, 60, 60, TimeUnit.SECONDS);
 			scheduler.scheduleWithFixedDelay(leaderboardDatabase::updateHastes, 60, 60, TimeUnit.SECONDS);
 			scheduler.scheduleWithFixedDelay(ApiHandler::updateCaches, 60, 60, TimeUnit.MINUTES);
@@ -316,16 +320,30 @@ public class ApiHandler {
 	}
 
 	public static HypixelResponse skyblockProfilesFromUuid(String uuid, boolean useCache, boolean shouldCache) {
+		return awaitResponse(skyblockProfilesFromUuidAsync(uuid, useCache, shouldCache));
+	}
+
+	/**
+	 * Same as {@link #skyblockProfilesFromUuid(String, boolean, boolean)} but waits for the rate limit without holding a
+	 * thread
+	 */
+	public static CompletableFuture<HypixelResponse> skyblockProfilesFromUuidAsync(String uuid, boolean useCache, boolean shouldCache) {
 		if (useCache) {
 			JsonElement cachedResponse = leaderboardDatabase.getCachedJson(LeaderboardDatabase.CacheType.SKYBLOCK_PROFILES, uuid);
 			if (cachedResponse != null) {
-				return new HypixelResponse(cachedResponse);
+				return CompletableFuture.completedFuture(new HypixelResponse(cachedResponse));
 			}
 		}
 
-		try {
-			JsonElement profilesJson = getJson(getHypixelApiUrl("/skyblock/profiles").addParameter("uuid", uuid));
+		return coalesceRequest(
+			"skyblock_profiles:" + uuid + ":" + shouldCache,
+			getHypixelApiUrl("/skyblock/profiles").addParameter("uuid", uuid).toString(),
+			profilesJson -> parseSkyblockProfiles(uuid, profilesJson, shouldCache)
+		);
+	}
 
+	private static HypixelResponse parseSkyblockProfiles(String uuid, JsonElement profilesJson, boolean shouldCache) {
+		try {
 			try {
 				if (
 					higherDepth(profilesJson, "profiles").isJsonNull() || higherDepth(profilesJson, "profiles").getAsJsonArray().isEmpty()
@@ -353,8 +371,18 @@ public class ApiHandler {
 	/** Does not cache the profiles json */
 	public static CompletableFuture<HypixelResponse> asyncSkyblockProfilesFromUuid(String uuid) {
 		JsonElement cachedResponse = leaderboardDatabase.getCachedJson(LeaderboardDatabase.CacheType.SKYBLOCK_PROFILES, uuid);
+		// Either in-flight request works since this does not need the response cached
+		InFlightRequest inFlightRequest = inFlightRequests.getOrDefault(
+			"skyblock_profiles:" + uuid + ":false",
+			inFlightRequests.get("skyblock_profiles:" + uuid + ":true")
+		);
+		CompletableFuture<HypixelResponse> joinedRequest = inFlightRequest != null
+			? inFlightRequest.addCaller(HypixelRequestScheduler.getThreadPriority())
+			: null;
 		if (cachedResponse != null) {
 			return CompletableFuture.completedFuture(new HypixelResponse(cachedResponse));
+		} else if (joinedRequest != null) {
+			return joinedRequest;
 		} else {
 			return asyncGet(getHypixelApiUrl("/skyblock/profiles").addParameter("uuid", uuid).toString())
 				.thenApplyAsync(
@@ -478,9 +506,17 @@ public class ApiHandler {
 			}
 		}
 
-		try {
-			JsonElement playerJson = getJson(getHypixelApiUrl("/player").addParameter("uuid", uuid));
+		return awaitResponse(
+			coalesceRequest(
+				"player:" + uuid,
+				getHypixelApiUrl("/player").addParameter("uuid", uuid).toString(),
+				playerJson -> parsePlayer(uuid, playerJson)
+			)
+		);
+	}
 
+	private static HypixelResponse parsePlayer(String uuid, JsonElement playerJson) {
+		try {
 			try {
 				if (higherDepth(playerJson, "player").isJsonNull()) {
 					String username = uuidToUsernameCache.getIfPresent(uuid);
@@ -526,9 +562,17 @@ public class ApiHandler {
 			return new HypixelResponse(cachedResponse);
 		}
 
-		try {
-			JsonElement guildResponse = getJson(getHypixelApiUrl("/guild").addParameter(param, value));
+		return awaitResponse(
+			coalesceRequest(
+				"guild:" + param + ":" + value.toLowerCase(),
+				getHypixelApiUrl("/guild").addParameter(param, value).toString(),
+				guildJson -> parseGuild(param, guildJson)
+			)
+		);
+	}
 
+	private static HypixelResponse parseGuild(String param, JsonElement guildResponse) {
+		try {
 			try {
 				if (higherDepth(guildResponse, "guild").isJsonNull()) {
 					switch (param) {
@@ -565,6 +609,122 @@ public class ApiHandler {
 		}
 	}
 
+	/**
+	 * Concurrent callers with the same key share one upstream request and its parsed response. Each caller gets its own
+	 * future, and the request is only cancelled once every caller has cancelled theirs
+	 *
+	 * @param key endpoint and id of the request
+	 */
+	private static CompletableFuture<HypixelResponse> coalesceRequest(
+		String key,
+		String url,
+		Function<JsonElement, HypixelResponse> parser
+	) {
+		HypixelRequestScheduler.Priority priority = HypixelRequestScheduler.getThreadPriority();
+		while (true) {
+			InFlightRequest inFlightRequest = inFlightRequests.get(key);
+			if (inFlightRequest == null) {
+				InFlightRequest newRequest = new InFlightRequest(key);
+				CompletableFuture<HypixelResponse> caller = newRequest.addCaller(priority);
+				if (inFlightRequests.putIfAbsent(key, newRequest) == null) {
+					newRequest.start(url, parser);
+					return caller;
+				}
+			} else {
+				CompletableFuture<HypixelResponse> caller = inFlightRequest.addCaller(priority);
+				if (caller != null) {
+					return caller;
+				}
+				// Every caller cancelled, so it is being torn down
+				inFlightRequests.remove(key, inFlightRequest);
+			}
+		}
+	}
+
+	private static HypixelResponse awaitResponse(CompletableFuture<HypixelResponse> response) {
+		try {
+			return response.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return new HypixelResponse("Interrupted while waiting for the Hypixel API");
+		} catch (Exception e) {
+			return new HypixelResponse(e.getMessage());
+		}
+	}
+
+	private static class InFlightRequest {
+
+		private final String key;
+		private final CompletableFuture<HypixelResponse> response = new CompletableFuture<>();
+		private HypixelRequestScheduler.Priority priority;
+		private CompletableFuture<Void> permit;
+		private CompletableFuture<JsonResponse> request;
+		private int callers = 0;
+		private boolean abandoned = false;
+
+		private InFlightRequest(String key) {
+			this.key = key;
+		}
+
+		private void start(String url, Function<JsonElement, HypixelResponse> parser) {
+			CompletableFuture<JsonResponse> request;
+			synchronized (this) {
+				permit = hypixelRateLimiter.acquire(priority);
+				request = this.request = asyncGetJsonResponse(url, permit);
+			}
+
+			request
+				.thenApplyAsync(jsonResponse -> parser.apply(jsonResponse != null ? jsonResponse.response() : null), executor)
+				.whenComplete((parsedResponse, e) -> {
+					inFlightRequests.remove(key, this);
+					response.complete(e != null ? new HypixelResponse(e.getMessage()) : parsedResponse);
+				});
+		}
+
+		/**
+		 * Raises the queued permit to the caller's priority, so an interactive caller never waits behind a background
+		 * refresh it joined
+		 *
+		 * @return future for this caller or null if every earlier caller already cancelled
+		 */
+		private synchronized CompletableFuture<HypixelResponse> addCaller(HypixelRequestScheduler.Priority callerPriority) {
+			if (abandoned) {
+				return null;
+			}
+
+			callers++;
+			if (priority == null || callerPriority.compareTo(priority) < 0) {
+				priority = callerPriority;
+				if (permit != null) {
+					hypixelRateLimiter.prioritize(permit, priority);
+				}
+			}
+
+			CompletableFuture<HypixelResponse> caller = response.thenApply(r -> r);
+			caller.whenComplete((r, e) -> {
+				if (caller.isCancelled()) {
+					removeCaller();
+				}
+			});
+			return caller;
+		}
+
+		private void removeCaller() {
+			CompletableFuture<JsonResponse> request;
+			synchronized (this) {
+				if (--callers > 0 || response.isDone()) {
+					return;
+				}
+				abandoned = true;
+				request = this.request;
+			}
+
+			inFlightRequests.remove(key, this);
+			// Gives back the permit if it is still queued and aborts the exchange otherwise
+			request.cancel(true);
+		}
+	}
+
 	public static HypixelResponse getGuildFromPlayer(String playerUuid) {
 		return getGuildGeneric("player", playerUuid);
 	}
@@ -28,11 +28,11 @@ import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import static com.skyblockplus.utils.ApiHandler.getHypixelApiUrl;
 import static com.skyblockplus.utils.ApiHandler.getQueryApiUrl;
 import static com.skyblockplus.utils.utils.HttpUtils.getJson;
 import static com.skyblockplus.utils.utils.HttpUtils.okHttpClient;
@@ -71,6 +71,7 @@ public class AuctionFlipper {
 		AuctionFlipper.enable = enable;
 		AuctionFlipper.flipperWebhook =
 			new WebhookClientBuilder(AUCTION_FLIPPER_WEBHOOK).setExecutorService(scheduler).setHttpClient(okHttpClient).buildJDA();
+		EndedAuctionsFeed.subscribe(() -> auctionUuidToMessage.estimatedSize() > 0, AuctionFlipper::onEndedAuctions);
 	}
 
 	public static void flip() {
@@ -80,7 +81,7 @@ public class AuctionFlipper {
 
 		if (underBinJson != null) {
 			underBinJsonLastUpdated = Instant.now();
-			JsonElement avgAuctionJson = getAveragePriceJson();
+			MarketSnapshot market = MarketSnapshot.get();
 
 			for (JsonElement auction : underBinJson
 				.getAsJsonObject()
@@ -96,15 +97,13 @@ public class AuctionFlipper {
 					continue;
 				}
 
-				int sales = higherDepth(avgAuctionJson, itemId + ".sales", 0);
+				int sales = market.getAverageSales(itemId);
 				if (sales < 5) {
 					continue;
 				}
 
-				double resellPrice = Math.min(
-					higherDepth(auction, "past_bin_price").getAsLong(),
-					higherDepth(avgAuctionJson, itemId + ".price", higherDepth(avgAuctionJson, itemId + ".price").getAsDouble())
-				);
+				long pastBinPrice = higherDepth(auction, "past_bin_price").getAsLong();
+				double resellPrice = Math.min(pastBinPrice, market.getAveragePrice(itemId, pastBinPrice));
 				long buyPrice = higherDepth(auction, "starting_bid").getAsLong();
 				double profit = calculateWithTaxes(resellPrice) - buyPrice;
 
@@ -133,22 +132,24 @@ public class AuctionFlipper {
 					});
 			}
 		}
+	}
 
-		JsonElement endedAuctionsJson = getJson(getHypixelApiUrl("/skyblock/auctions_ended", false));
-		if (higherDepth(endedAuctionsJson, "auctions") != null) {
-			for (JsonElement auction : higherDepth(endedAuctionsJson, "auctions").getAsJsonArray()) {
-				long price = higherDepth(auction, "price").getAsLong();
-				String auctionId = higherDepth(auction, "auction_id").getAsString();
-				FlipItem flipItem = auctionUuidToMessage.getIfPresent(auctionId);
-				if (flipItem != null) {
-					auctionUuidToMessage.invalidate(auctionId);
-					flipperWebhook.edit(
-						flipItem.messageId(),
-						defaultEmbed(flipItem.name())
-							.setDescription("Sold for " + formatNumber(price) + "\nEstimated profit: " + roundAndFormat(flipItem.profit()))
-							.build()
-					);
-				}
+	/**
+	 * Marks posted flips as sold
+	 */
+	private static void onEndedAuctions(List<EndedAuctionsFeed.EndedAuction> endedAuctions) {
+		for (EndedAuctionsFeed.EndedAuction endedAuction : endedAuctions) {
+			FlipItem flipItem = auctionUuidToMessage.getIfPresent(endedAuction.auctionId());
+			if (flipItem != null) {
+				auctionUuidToMessage.invalidate(endedAuction.auctionId());
+				flipperWebhook.edit(
+					flipItem.messageId(),
+					defaultEmbed(flipItem.name())
+						.setDescription(
+							"Sold for " + formatNumber(endedAuction.price()) + "\nEstimated profit: " + roundAndFormat(flipItem.profit())
+						)
+						.build()
+				);
 			}
 		}
 	}
@@ -32,7 +32,6 @@ import java.lang.reflect.Type;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.skyblockplus.utils.utils.HttpUtils.getJson;
 import static com.skyblockplus.utils.utils.JsonUtils.*;
 import static com.skyblockplus.utils.utils.StringUtils.capitalizeString;
 import static com.skyblockplus.utils.utils.Utils.*;
@@ -1395,7 +1394,7 @@ public class Constants {
 
 	public static void initialize() {
 		try {
-			CONSTANTS = getJson("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/Constants.json").getAsJsonObject();
+			CONSTANTS = DataSnapshot.getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/Constants.json");
 
 			Type mapStringString = new TypeToken<Map<String, String>>() {}.getType();
 			Type listInteger = new TypeToken<List<Integer>>() {}.getType();
@@ -0,0 +1,178 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.skyblockplus.utils.utils.HttpUtils;
+import com.skyblockplus.utils.utils.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.skyblockplus.utils.utils.Utils.*;
+
+/**
+ * Local copy of the static datasets fetched from GitHub, keyed by url and stored as gzipped json. Startup reads the
+ * snapshot instead of the network and a background refresh replaces it with fresh copies. Datasets missing from the
+ * snapshot are fetched on first use and included in the next write
+ */
+public class DataSnapshot {
+
+	private static final Logger log = LoggerFactory.getLogger(DataSnapshot.class);
+	/** Bump when the stored format changes so old snapshots are ignored */
+	private static final int VERSION = 1;
+	private static final Path SNAPSHOT_PATH = Path.of("src/main/java/com/skyblockplus/json/DataSnapshot.json.gz");
+	private static final Map<String, JsonElement> datasets = new ConcurrentHashMap<>();
+
+	/**
+	 * Loads the snapshot from disk and schedules a refresh so it does not fall behind the data repos
+	 */
+	public static void initialize() {
+		load();
+		scheduler.schedule(() -> executor.submit(DataSnapshot::refresh), 1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * @return copy of the dataset, which is only fetched if it is not in the snapshot
+	 */
+	public static JsonElement getJson(String url) {
+		JsonElement dataset = datasets.get(url);
+		if (dataset == null) {
+			dataset = HttpUtils.getJson(url);
+			if (dataset == null) {
+				return null;
+			}
+			datasets.put(url, dataset);
+		}
+
+		// Callers modify the datasets they are given
+		return dataset.deepCopy();
+	}
+
+	public static JsonObject getJsonObject(String url) {
+		JsonElement dataset = getJson(url);
+		return dataset != null && dataset.isJsonObject() ? dataset.getAsJsonObject() : null;
+	}
+
+	/**
+	 * Fetches every dataset again, writes the snapshot, and resets the parsed datasets in {@link JsonUtils} so they are
+	 * rebuilt from the fresh copies. Datasets which fail to fetch keep their previous copy
+	 */
+	public static synchronized void refresh() {
+		int refreshed = 0;
+		for (String url : new ArrayList<>(datasets.keySet())) {
+			JsonElement dataset = HttpUtils.getJson(url);
+			if (dataset != null) {
+				datasets.put(url, dataset);
+				refreshed++;
+			}
+		}
+
+		write();
+		JsonUtils.resetDataJsons();
+		log.info("Refreshed " + refreshed + "/" + datasets.size() + " snapshot datasets");
+	}
+
+	private static void load() {
+		if (!Files.exists(SNAPSHOT_PATH)) {
+			return;
+		}
+
+		try (
+			JsonReader reader = new JsonReader(
+				new InputStreamReader(
+					new GZIPInputStream(new BufferedInputStream(Files.newInputStream(SNAPSHOT_PATH))),
+					StandardCharsets.UTF_8
+				)
+			)
+		) {
+			int version = -1;
+			reader.beginObject();
+			while (reader.hasNext()) {
+				String name = reader.nextName();
+				if (name.equals("version")) {
+					version = reader.nextInt();
+				} else if (name.equals("datasets") && version == VERSION) {
+					// Parse one dataset at a time instead of building the whole document
+					reader.beginObject();
+					while (reader.hasNext()) {
+						datasets.put(reader.nextName(), JsonParser.parseReader(reader));
+					}
+					reader.endObject();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			log.info("Loaded " + datasets.size() + " datasets from snapshot version " + version);
+		} catch (Exception e) {
+			datasets.clear();
+			log.error("Failed to load data snapshot", e);
+		}
+	}
+
+	/**
+	 * Writes to a temporary file which then replaces the snapshot so a partial write is never read
+	 */
+	private static void write() {
+		Path tempPath = SNAPSHOT_PATH.resolveSibling(SNAPSHOT_PATH.getFileName() + ".tmp");
+		try {
+			try (
+				JsonWriter writer = new JsonWriter(
+					new OutputStreamWriter(
+						new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath))),
+						StandardCharsets.UTF_8
+					)
+				)
+			) {
+				writer.beginObject();
+				writer.name("version").value(VERSION);
+				writer.name("created").value(Instant.now().toEpochMilli());
+				writer.name("datasets").beginObject();
+				for (Map.Entry<String, JsonElement> dataset : datasets.entrySet()) {
+					writer.name(dataset.getKey());
+					gson.toJson(dataset.getValue(), writer);
+				}
+				writer.endObject();
+				writer.endObject();
+			}
+
+			Files.move(tempPath, SNAPSHOT_PATH, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			log.error("Failed to write data snapshot", e);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Value built from one or more sources such as price feeds, rebuilt only after a source is replaced. Sources are compared
+ * by identity like {@link MarketSnapshot}, so the same value is returned until a feed refreshes
+ */
+public class DerivedValue<T> {
+
+	private final Supplier<T> builder;
+	private final Supplier<?>[] sources;
+	private volatile State<T> state;
+
+	/**
+	 * @param builder builds the value from the current sources
+	 */
+	public DerivedValue(Supplier<T> builder, Supplier<?>... sources) {
+		this.builder = builder;
+		this.sources = sources;
+	}
+
+	/**
+	 * @return the value for the current sources or null if any source is null
+	 */
+	public T get() {
+		Object[] current = new Object[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			current[i] = sources[i].get();
+			if (current[i] == null) {
+				return null;
+			}
+		}
+
+		State<T> state = this.state;
+		if (state == null || !state.isBuiltFrom(current)) {
+			state = new State<>(current, builder.get());
+			this.state = state;
+		}
+		return state.value();
+	}
+
+	private record State<T>(Object[] sources, T value) {
+		private boolean isBuiltFrom(Object[] current) {
+			for (int i = 0; i < sources.length; i++) {
+				if (sources[i] != current[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.google.gson.JsonElement;
+import com.skyblockplus.utils.structs.InvItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static com.skyblockplus.utils.ApiHandler.getHypixelApiUrl;
+import static com.skyblockplus.utils.utils.HttpUtils.getJson;
+import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
+import static com.skyblockplus.utils.utils.Utils.nbtToItem;
+import static com.skyblockplus.utils.utils.Utils.scheduler;
+
+/**
+ * Polls the ended auctions endpoint once for all subscribers and hands each new batch to them. Item bytes are only
+ * decoded when a subscriber asks for the item
+ */
+public class EndedAuctionsFeed {
+
+	private static final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+	private static long lastUpdated = 0;
+
+	public static void initialize() {
+		scheduler.scheduleAtFixedRate(EndedAuctionsFeed::poll, 0, 30, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @param isActive the endpoint is only fetched while at least one subscriber is active
+	 */
+	public static void subscribe(BooleanSupplier isActive, Consumer<List<EndedAuction>> onAuctions) {
+		subscribers.add(new Subscriber(isActive, onAuctions));
+	}
+
+	private static void poll() {
+		try {
+			if (subscribers.stream().noneMatch(subscriber -> subscriber.isActive().getAsBoolean())) {
+				return;
+			}
+
+			JsonElement endedAuctionsJson = getJson(getHypixelApiUrl("/skyblock/auctions_ended", false));
+			if (higherDepth(endedAuctionsJson, "auctions") == null) {
+				return;
+			}
+
+			long jsonLastUpdated = higherDepth(endedAuctionsJson, "lastUpdated").getAsLong();
+			if (jsonLastUpdated <= lastUpdated) {
+				return;
+			}
+			lastUpdated = jsonLastUpdated;
+
+			List<EndedAuction> endedAuctions = new ArrayList<>();
+			for (JsonElement endedAuction : higherDepth(endedAuctionsJson, "auctions").getAsJsonArray()) {
+				endedAuctions.add(
+					new EndedAuction(
+						higherDepth(endedAuction, "auction_id").getAsString(),
+						higherDepth(endedAuction, "seller").getAsString(),
+						higherDepth(endedAuction, "price").getAsLong(),
+						higherDepth(endedAuction, "timestamp").getAsLong(),
+						higherDepth(endedAuction, "item_bytes").getAsString()
+					)
+				);
+			}
+
+			for (Subscriber subscriber : subscribers) {
+				try {
+					subscriber.onAuctions().accept(endedAuctions);
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+
+	public record EndedAuction(String auctionId, String seller, long price, long timestamp, String itemBytes) {
+		public InvItem getItem() {
+			return nbtToItem(itemBytes);
+		}
+	}
+
+	private record Subscriber(BooleanSupplier isActive, Consumer<List<EndedAuction>> onAuctions) {}
+}
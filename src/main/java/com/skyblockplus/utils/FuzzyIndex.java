@@ -0,0 +1,198 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.gson.JsonObject;
+import com.skyblockplus.utils.utils.StringUtils;
+import me.xdrop.fuzzywuzzy.FuzzySearch;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.skyblockplus.utils.utils.JsonUtils.getInternalJsonMappings;
+
+/**
+ * Trigram index over a fixed set of names. Searches only score the names sharing the most trigrams with the query using
+ * {@link FuzzySearch}, so they do not scale with the number of names. Indexes are cached by the identity of the collection
+ * they were built from and reused only while it still holds the same keys in the same order.
+ */
+public final class FuzzyIndex {
+
+	/** Collections up to this size are scored in full */
+	private static final int FULL_SCAN_SIZE = 500;
+	private static final int MIN_SHORTLIST_SIZE = 200;
+	private static final Cache<Collection<String>, FuzzyIndex> nameIndexes = Caffeine.newBuilder().weakKeys().maximumSize(128).build();
+	private static final Cache<Collection<String>, FuzzyIndex> idIndexes = Caffeine.newBuilder().weakKeys().maximumSize(128).build();
+
+	private final String[] keys;
+	private final String[] names;
+	private final int[] trigramCounts;
+	private final Map<String, int[]> postings = new HashMap<>();
+	/** Item mappings the names were resolved from or null if the keys are the names */
+	private final JsonObject internalJsonMappings;
+
+	private FuzzyIndex(Collection<String> keys, Function<String, String> toName, JsonObject internalJsonMappings) {
+		this.keys = keys.toArray(new String[0]);
+		this.names = new String[this.keys.length];
+		this.trigramCounts = new int[this.keys.length];
+		this.internalJsonMappings = internalJsonMappings;
+
+		Map<String, List<Integer>> trigramToIndices = new HashMap<>();
+		for (int i = 0; i < this.keys.length; i++) {
+			names[i] = toName.apply(this.keys[i]);
+			Set<String> trigrams = trigrams(names[i]);
+			trigramCounts[i] = trigrams.size();
+			for (String trigram : trigrams) {
+				trigramToIndices.computeIfAbsent(trigram, k -> new ArrayList<>()).add(i);
+			}
+		}
+		for (Map.Entry<String, List<Integer>> entry : trigramToIndices.entrySet()) {
+			postings.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+		}
+	}
+
+	/**
+	 * @return index over names, reused while the same collection is passed
+	 */
+	public static FuzzyIndex ofNames(Collection<String> names) {
+		FuzzyIndex index = nameIndexes.getIfPresent(names);
+		if (index == null || !index.isBuiltFrom(names)) {
+			index = new FuzzyIndex(names, Function.identity(), null);
+			nameIndexes.put(names, index);
+		}
+		return index;
+	}
+
+	/**
+	 * @return index over the names of item ids, reused while the same collection is passed and the item mappings are unchanged
+	 */
+	public static FuzzyIndex ofIds(Collection<String> ids) {
+		JsonObject internalJsonMappings = getInternalJsonMappings();
+		FuzzyIndex index = idIndexes.getIfPresent(ids);
+		if (index == null || index.internalJsonMappings != internalJsonMappings || !index.isBuiltFrom(ids)) {
+			index = new FuzzyIndex(ids, StringUtils::idToName, internalJsonMappings);
+			idIndexes.put(ids, index);
+		}
+		return index;
+	}
+
+	/**
+	 * Compares the keys instead of the size so a collection that changed in place is never served stale matches. Unchanged
+	 * collections hold the same string instances, so this is a reference comparison per key and far cheaper than a rebuild
+	 */
+	private boolean isBuiltFrom(Collection<String> keys) {
+		if (this.keys.length != keys.size()) {
+			return false;
+		}
+
+		int i = 0;
+		for (String key : keys) {
+			if (i == this.keys.length || !this.keys[i++].equals(key)) {
+				return false;
+			}
+		}
+		return i == this.keys.length;
+	}
+
+	/**
+	 * @return keys of the closest matching names, best first
+	 */
+	public List<String> search(String query, int limit) {
+		if (keys.length == 0) {
+			return new ArrayList<>();
+		}
+
+		int shortlistSize = Math.max(limit * 8, MIN_SHORTLIST_SIZE);
+		List<Integer> candidates = keys.length <= FULL_SCAN_SIZE ? null : shortlist(query, shortlistSize);
+		if (candidates == null) {
+			// Queries sharing no trigrams (such as an empty query) have no meaningful ranking, so only score a bounded prefix
+			int numCandidates = keys.length <= FULL_SCAN_SIZE ? keys.length : shortlistSize;
+			candidates = new ArrayList<>(numCandidates);
+			for (int i = 0; i < numCandidates; i++) {
+				candidates.add(i);
+			}
+		}
+
+		return FuzzySearch
+			.extractTop(query, candidates, i -> names[i], limit)
+			.stream()
+			.map(e -> keys[e.getReferent()])
+			.collect(Collectors.toCollection(ArrayList::new));
+	}
+
+	/**
+	 * @return up to size candidates with the most similar trigrams to the query, or null if none share any
+	 */
+	private List<Integer> shortlist(String query, int size) {
+		Set<String> queryTrigrams = trigrams(query);
+		int[] counts = new int[keys.length];
+		List<Integer> matched = new ArrayList<>();
+		for (String trigram : queryTrigrams) {
+			int[] indices = postings.get(trigram);
+			if (indices != null) {
+				for (int i : indices) {
+					if (counts[i]++ == 0) {
+						matched.add(i);
+					}
+				}
+			}
+		}
+		if (matched.isEmpty()) {
+			return null;
+		}
+		if (matched.size() <= size) {
+			return matched;
+		}
+
+		// Dice coefficient so exact and short names rank above long names containing the query
+		double[] similarities = new double[keys.length];
+		for (int i : matched) {
+			similarities[i] = (2.0 * counts[i]) / (trigramCounts[i] + queryTrigrams.size());
+		}
+		matched.sort((i1, i2) -> Double.compare(similarities[i2], similarities[i1]));
+		return matched.subList(0, size);
+	}
+
+	/**
+	 * @return trigrams of the lowercase alphanumeric words in str, padded so short words still have trigrams
+	 */
+	private static Set<String> trigrams(String str) {
+		Set<String> trigrams = new HashSet<>();
+		StringBuilder padded = new StringBuilder(" ");
+		for (int i = 0; i < str.length(); i++) {
+			char c = Character.toLowerCase(str.charAt(i));
+			if (Character.isLetterOrDigit(c)) {
+				padded.append(c);
+			} else if (padded.charAt(padded.length() - 1) != ' ') {
+				padded.append(' ');
+			}
+		}
+		if (padded.charAt(padded.length() - 1) != ' ') {
+			padded.append(' ');
+		}
+
+		for (int i = 0; i + 3 <= padded.length(); i++) {
+			trigrams.add(padded.substring(i, i + 3));
+		}
+		return trigrams;
+	}
+}
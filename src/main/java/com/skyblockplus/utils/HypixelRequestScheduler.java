@@ -0,0 +1,217 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.skyblockplus.utils.command.CommandMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.skyblockplus.utils.utils.Utils.scheduler;
+
+/**
+ * Token bucket for the Hypixel API key. Permits are reserved when a request is queued and handed out by priority, so
+ * background refreshes never hold a permit an interactive command is waiting for
+ */
+public class HypixelRequestScheduler {
+
+	private static final Logger log = LoggerFactory.getLogger(HypixelRequestScheduler.class);
+	private static final ThreadLocal<Priority> threadPriority = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+	private final PriorityQueue<PendingRequest> pendingRequests = new PriorityQueue<>(
+		Comparator.comparing(PendingRequest::priority).thenComparingLong(PendingRequest::sequence)
+	);
+	private final int limit;
+	private long sequence = 0;
+	private ScheduledFuture<?> drainFuture;
+
+	private int remainingLimit;
+	private long resetTime;
+
+	public HypixelRequestScheduler(int limit) {
+		this.limit = limit;
+		this.remainingLimit = limit;
+		this.resetTime = 0;
+	}
+
+	/**
+	 * Runs the supplier with all Hypixel requests made on this thread queued at the given priority
+	 */
+	public static <T> T withPriority(Priority priority, Supplier<T> supplier) {
+		Priority previousPriority = threadPriority.get();
+		threadPriority.set(priority);
+		try {
+			return supplier.get();
+		} finally {
+			threadPriority.set(previousPriority);
+		}
+	}
+
+	public static Priority getThreadPriority() {
+		return threadPriority.get();
+	}
+
+	public static void runWithPriority(Priority priority, Runnable runnable) {
+		withPriority(
+			priority,
+			() -> {
+				runnable.run();
+				return null;
+			}
+		);
+	}
+
+	/**
+	 * @return future completed once a permit is reserved, using the priority of the current thread
+	 */
+	public CompletableFuture<Void> acquire() {
+		return acquire(threadPriority.get());
+	}
+
+	public CompletableFuture<Void> acquire(Priority priority) {
+		CommandMetrics.recordHypixelRequest();
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		synchronized (this) {
+			pendingRequests.add(new PendingRequest(priority, sequence++, future));
+		}
+		future.whenComplete((ignored, e) -> {
+			if (future.isCancelled()) {
+				synchronized (this) {
+					pendingRequests.removeIf(request -> request.future() == future);
+				}
+			}
+		});
+		drain();
+		return future;
+	}
+
+	/**
+	 * Moves a queued permit up to the given priority, keeping its place among requests of that priority. Used when an
+	 * interactive caller joins a background request that is still waiting for its permit
+	 */
+	public void prioritize(CompletableFuture<Void> permit, Priority priority) {
+		synchronized (this) {
+			PendingRequest request = pendingRequests.stream().filter(r -> r.future() == permit).findFirst().orElse(null);
+			if (request == null || request.priority().compareTo(priority) <= 0) {
+				return;
+			}
+			pendingRequests.remove(request);
+			pendingRequests.add(new PendingRequest(priority, request.sequence(), permit));
+		}
+		drain();
+	}
+
+	/**
+	 * Updates the bucket from the RateLimit headers of a response
+	 */
+	public void update(int remainingLimit, int timeTillReset) {
+		synchronized (this) {
+			long newResetTime = Instant.now().plusSeconds(timeTillReset).toEpochMilli();
+			// Permits reserved for in flight requests aren't reflected by the headers until they complete
+			if (newResetTime - resetTime > 1000) {
+				this.remainingLimit = remainingLimit;
+			} else {
+				this.remainingLimit = Math.min(this.remainingLimit, remainingLimit);
+			}
+			this.resetTime = newResetTime;
+		}
+		drain();
+	}
+
+	public synchronized long getTimeTillReset() {
+		return Math.max(0, TimeUnit.MILLISECONDS.toSeconds(resetTime - Instant.now().toEpochMilli()));
+	}
+
+	public synchronized int getQueueSize() {
+		return pendingRequests.size();
+	}
+
+	private void drain() {
+		List<CompletableFuture<Void>> toComplete = new ArrayList<>();
+		synchronized (this) {
+			refill();
+			while (!pendingRequests.isEmpty() && remainingLimit > pendingRequests.peek().priority().reservedPermits) {
+				CompletableFuture<Void> future = pendingRequests.poll().future();
+				// Cancelled by a caller that stopped waiting, so it doesn't use a permit
+				if (!future.isDone()) {
+					remainingLimit--;
+					toComplete.add(future);
+				}
+			}
+
+			if (!pendingRequests.isEmpty()) {
+				long delay = Math.max(resetTime - Instant.now().toEpochMilli(), 0) + 250;
+				// Reschedule if response headers moved the reset earlier than the pending drain
+				if (drainFuture == null || drainFuture.isDone() || drainFuture.getDelay(TimeUnit.MILLISECONDS) > delay + 1000) {
+					if (drainFuture != null) {
+						drainFuture.cancel(false);
+					}
+					log.info("Queued " + pendingRequests.size() + " Hypixel requests for " + delay + "ms");
+					drainFuture = scheduler.schedule(this::scheduledDrain, delay, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+
+		// Completed outside the lock since dependent stages can run on this thread
+		for (CompletableFuture<Void> future : toComplete) {
+			future.complete(null);
+		}
+	}
+
+	private void scheduledDrain() {
+		synchronized (this) {
+			// This task is still running, so isDone would stop it from scheduling the next window
+			drainFuture = null;
+		}
+		drain();
+	}
+
+	private void refill() {
+		long now = Instant.now().toEpochMilli();
+		if (now >= resetTime) {
+			// Assume a fresh window until the next response headers say otherwise
+			remainingLimit = limit;
+			resetTime = now + TimeUnit.MINUTES.toMillis(5);
+		}
+	}
+
+	public enum Priority {
+		/** Slash commands and other requests a user is waiting on */
+		INTERACTIVE(5),
+		/** Leaderboard and guild sync refreshes which leave headroom for interactive requests */
+		BACKGROUND(60);
+
+		private final int reservedPermits;
+
+		Priority(int reservedPermits) {
+			this.reservedPermits = reservedPermits;
+		}
+	}
+
+	private record PendingRequest(Priority priority, long sequence, CompletableFuture<Void> future) {}
+}
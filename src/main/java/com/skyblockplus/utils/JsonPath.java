@@ -0,0 +1,124 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dot separated path compiled once into its keys and array indices. Paths use the same syntax as
+ * {@link com.skyblockplus.utils.utils.JsonUtils#higherDepth(JsonElement, String)} where {@code [n]} is an array index
+ * and {@code [-1]} is the last element. Resolving never throws and returns null if the path does not exist.
+ */
+public final class JsonPath {
+
+	private static final Map<String, JsonPath> internedPaths = new ConcurrentHashMap<>();
+	/** Ad-hoc paths, bounded since they may contain ids */
+	private static final Cache<String, JsonPath> compiledPaths = Caffeine.newBuilder().maximumSize(10000).build();
+	/** Marks an index segment that failed to parse and never matches */
+	private static final int INVALID_INDEX = Integer.MIN_VALUE;
+
+	private final String path;
+	/** Object key for each segment or null if the segment is an array index */
+	private final String[] keys;
+	private final int[] indices;
+
+	private JsonPath(String path) {
+		this.path = path;
+
+		List<String> segments = new ArrayList<>();
+		int start = 0;
+		for (int end; (end = path.indexOf('.', start)) != -1; start = end + 1) {
+			segments.add(path.substring(start, end));
+		}
+		segments.add(path.substring(start));
+		// Match String#split which drops trailing empty segments
+		if (segments.size() > 1) {
+			while (!segments.isEmpty() && segments.get(segments.size() - 1).isEmpty()) {
+				segments.remove(segments.size() - 1);
+			}
+		}
+
+		this.keys = new String[segments.size()];
+		this.indices = new int[segments.size()];
+		for (int i = 0; i < segments.size(); i++) {
+			String segment = segments.get(i);
+			if (segment.length() >= 3 && segment.startsWith("[") && segment.endsWith("]")) {
+				try {
+					indices[i] = Integer.parseInt(segment.substring(1, segment.length() - 1));
+				} catch (NumberFormatException e) {
+					indices[i] = INVALID_INDEX;
+				}
+			} else {
+				keys[i] = segment;
+			}
+		}
+	}
+
+	/**
+	 * Compiles and caches path. Only use for constant or bounded paths since interned paths are never evicted
+	 */
+	public static JsonPath of(String path) {
+		return internedPaths.computeIfAbsent(path, JsonPath::new);
+	}
+
+	/** Compiles path without interning it, recently used paths are kept in a bounded cache */
+	public static JsonPath compile(String path) {
+		JsonPath internedPath = internedPaths.get(path);
+		return internedPath != null ? internedPath : compiledPaths.get(path, JsonPath::new);
+	}
+
+	public JsonElement get(JsonElement element) {
+		for (int i = 0; i < keys.length; i++) {
+			if (element == null) {
+				return null;
+			}
+
+			if (keys[i] != null) {
+				if (!element.isJsonObject()) {
+					return null;
+				}
+				element = element.getAsJsonObject().get(keys[i]);
+			} else {
+				if (!element.isJsonArray()) {
+					return null;
+				}
+				JsonArray array = element.getAsJsonArray();
+				int idx = indices[i] == -1 ? array.size() - 1 : indices[i];
+				if (idx < 0 || idx >= array.size()) {
+					return null;
+				}
+				element = array.get(idx);
+			}
+		}
+		return element;
+	}
+
+	@Override
+	public String toString() {
+		return path;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.google.gson.*;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trie of object keys compiled from a declarative list of paths. Reading with a projection walks the {@link JsonReader}
+ * once, building only the kept subtrees and skipping everything else without tracking the current path.
+ * Arrays are transparent, so each element is read with the projection of the array itself.
+ */
+public final class JsonProjection {
+
+	public static final JsonProjection ALL = allExcept(Set.of());
+
+	private final Map<String, JsonProjection> fields = new HashMap<>();
+	private final Set<String> ignoredFields;
+	/** Projection for keys not in {@link #fields} or {@code null} to skip them */
+	private JsonProjection otherFields;
+
+	private JsonProjection(Set<String> ignoredFields) {
+		this.ignoredFields = ignoredFields;
+	}
+
+	/** Keeps the entire subtree except for keys in ignoredFields at any depth */
+	public static JsonProjection allExcept(Collection<String> ignoredFields) {
+		JsonProjection projection = new JsonProjection(Set.copyOf(ignoredFields));
+		projection.otherFields = projection;
+		return projection;
+	}
+
+	/**
+	 * Keeps only the given dot separated paths, reading whatever is at the end of each path with leaf
+	 */
+	public static JsonProjection of(JsonProjection leaf, String... paths) {
+		JsonProjection projection = new JsonProjection(leaf.ignoredFields);
+		for (String path : paths) {
+			JsonProjection current = projection;
+			String[] keys = path.split("\\.");
+			for (int i = 0; i < keys.length - 1; i++) {
+				current = current.fields.computeIfAbsent(keys[i], k -> new JsonProjection(leaf.ignoredFields));
+			}
+			current.fields.put(keys[keys.length - 1], leaf);
+		}
+		return projection;
+	}
+
+	/**
+	 * @return a copy of this projection which reads key with the given projection
+	 */
+	public JsonProjection with(String key, JsonProjection projection) {
+		JsonProjection copy = new JsonProjection(ignoredFields);
+		copy.fields.putAll(fields);
+		copy.fields.put(key, projection);
+		copy.otherFields = otherFields;
+		return copy;
+	}
+
+	/**
+	 * @return a copy of this projection which reads keys not explicitly listed with the given projection
+	 */
+	public JsonProjection withOtherFields(JsonProjection projection) {
+		JsonProjection copy = new JsonProjection(ignoredFields);
+		copy.fields.putAll(fields);
+		copy.otherFields = projection;
+		return copy;
+	}
+
+	public JsonElement read(JsonReader in) throws IOException {
+		JsonToken peeked = in.peek();
+		switch (peeked) {
+			case BEGIN_OBJECT -> {
+				JsonObject object = new JsonObject();
+				in.beginObject();
+				while (in.hasNext()) {
+					String name = in.nextName();
+					JsonProjection projection = getFieldProjection(name);
+					if (projection == null) {
+						in.skipValue();
+					} else {
+						object.add(name, projection.read(in));
+					}
+				}
+				in.endObject();
+				return object;
+			}
+			case BEGIN_ARRAY -> {
+				JsonArray array = new JsonArray();
+				in.beginArray();
+				while (in.hasNext()) {
+					array.add(read(in));
+				}
+				in.endArray();
+				return array;
+			}
+			default -> {
+				return readTerminal(in, peeked);
+			}
+		}
+	}
+
+	private JsonProjection getFieldProjection(String name) {
+		if (ignoredFields.contains(name)) {
+			return null;
+		}
+
+		JsonProjection projection = fields.get(name);
+		return projection != null ? projection : otherFields;
+	}
+
+	/** Reads a {@link JsonElement} which cannot have any nested elements */
+	private static JsonElement readTerminal(JsonReader in, JsonToken peeked) throws IOException {
+		switch (peeked) {
+			case STRING:
+				return new JsonPrimitive(in.nextString());
+			case NUMBER:
+				String number = in.nextString();
+				return new JsonPrimitive(new LazilyParsedNumber(number));
+			case BOOLEAN:
+				return new JsonPrimitive(in.nextBoolean());
+			case NULL:
+				in.nextNull();
+				return JsonNull.INSTANCE;
+			default:
+				// When read(JsonReader) is called with JsonReader in invalid state
+				throw new IllegalStateException("Unexpected token: " + peeked);
+		}
+	}
+}
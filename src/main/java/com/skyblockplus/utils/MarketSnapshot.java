@@ -0,0 +1,232 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.skyblockplus.utils.utils.JsonUtils;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Lowest BIN, bazaar and average auction prices from one refresh of the price feeds, stored as primitive columns indexed
+ * by a dense item index. Missing values are stored as NaN and replaced by the caller's default
+ */
+public class MarketSnapshot {
+
+	private static volatile MarketSnapshot current;
+
+	/** Feeds the snapshot was built from, compared by identity to detect refreshes */
+	private final JsonObject[] feeds;
+	private final String[] ids;
+	/** Open addressing table of index + 1, zero marks an empty slot */
+	private final int[] slots;
+	private final double[] lowestBin;
+	private final double[] bazaarBuy;
+	private final double[] bazaarSell;
+	private final long[] bazaarBuyVolume;
+	private final long[] bazaarSellVolume;
+	private final double[] averagePrice;
+	private final double[] averageCleanPrice;
+	private final int[] averageSales;
+
+	@Getter
+	private final Set<String> lowestBinIds;
+
+	@Getter
+	private final Set<String> bazaarIds;
+
+	private MarketSnapshot(JsonObject[] feeds) {
+		this.feeds = feeds;
+		JsonObject lowestBinJson = feeds[0] != null ? feeds[0] : new JsonObject();
+		JsonObject bazaarJson = feeds[1] != null ? feeds[1] : new JsonObject();
+		JsonObject averagePriceJson = feeds[2] != null ? feeds[2] : new JsonObject();
+
+		Set<String> lowestBinIds = new HashSet<>();
+		for (Map.Entry<String, JsonElement> entry : lowestBinJson.entrySet()) {
+			if (isNumber(entry.getValue())) {
+				lowestBinIds.add(entry.getKey());
+			}
+		}
+		this.lowestBinIds = Collections.unmodifiableSet(lowestBinIds);
+		this.bazaarIds = Collections.unmodifiableSet(new HashSet<>(bazaarJson.keySet()));
+
+		Set<String> allIds = new LinkedHashSet<>(lowestBinIds);
+		allIds.addAll(bazaarIds);
+		allIds.addAll(averagePriceJson.keySet());
+		ids = allIds.toArray(new String[0]);
+		slots = new int[Integer.highestOneBit(Math.max(ids.length, 1) * 2) << 1];
+		for (int i = 0; i < ids.length; i++) {
+			int slot = hash(ids[i]) & (slots.length - 1);
+			while (slots[slot] != 0) {
+				slot = (slot + 1) & (slots.length - 1);
+			}
+			slots[slot] = i + 1;
+		}
+
+		lowestBin = column(ids.length);
+		bazaarBuy = column(ids.length);
+		bazaarSell = column(ids.length);
+		bazaarBuyVolume = new long[ids.length];
+		bazaarSellVolume = new long[ids.length];
+		averagePrice = column(ids.length);
+		averageCleanPrice = column(ids.length);
+		averageSales = new int[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			JsonElement lowestBinItem = lowestBinJson.get(ids[i]);
+			if (isNumber(lowestBinItem)) {
+				lowestBin[i] = lowestBinItem.getAsDouble();
+			}
+
+			if (bazaarJson.get(ids[i]) instanceof JsonObject bazaarItem) {
+				bazaarBuy[i] = getDouble(bazaarItem, "buy_summary");
+				bazaarSell[i] = getDouble(bazaarItem, "sell_summary");
+				bazaarBuyVolume[i] = (long) getDouble(bazaarItem, "buyVolume");
+				bazaarSellVolume[i] = (long) getDouble(bazaarItem, "sellVolume");
+			}
+
+			if (averagePriceJson.get(ids[i]) instanceof JsonObject averageItem) {
+				averagePrice[i] = getDouble(averageItem, "price");
+				averageCleanPrice[i] = getDouble(averageItem, "clean_price");
+				averageSales[i] = (int) getDouble(averageItem, "sales");
+			}
+		}
+	}
+
+	/**
+	 * @return snapshot published by the last price feed refresh. Only builds one if no feed has refreshed yet
+	 */
+	public static MarketSnapshot get() {
+		MarketSnapshot snapshot = current;
+		return snapshot != null ? snapshot : rebuild();
+	}
+
+	/**
+	 * Builds and publishes a snapshot of the current price feeds, called on the refresh thread of each feed it reads
+	 */
+	public static synchronized MarketSnapshot rebuild() {
+		JsonObject[] feeds = { JsonUtils.getLowestBinJson(), JsonUtils.getBazaarJson(), JsonUtils.getAveragePriceJson() };
+
+		MarketSnapshot snapshot = current;
+		if (snapshot == null || !snapshot.isSnapshotOf(feeds)) {
+			snapshot = new MarketSnapshot(feeds);
+			current = snapshot;
+		}
+		return snapshot;
+	}
+
+	private static double[] column(int size) {
+		double[] column = new double[size];
+		Arrays.fill(column, Double.NaN);
+		return column;
+	}
+
+	private static boolean isNumber(JsonElement element) {
+		return element instanceof JsonPrimitive primitive && primitive.isNumber();
+	}
+
+	private static double getDouble(JsonObject object, String key) {
+		JsonElement element = object.get(key);
+		return isNumber(element) ? element.getAsDouble() : Double.NaN;
+	}
+
+	private static int hash(String id) {
+		int h = id.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static double orDefault(double[] column, int index, double defaultValue) {
+		return index == -1 || Double.isNaN(column[index]) ? defaultValue : column[index];
+	}
+
+	private boolean isSnapshotOf(JsonObject[] feeds) {
+		for (int i = 0; i < feeds.length; i++) {
+			if (this.feeds[i] != feeds[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return dense index of the item or -1 if no feed has it
+	 */
+	public int indexOf(String id) {
+		if (id == null) {
+			return -1;
+		}
+
+		int slot = hash(id) & (slots.length - 1);
+		while (slots[slot] != 0) {
+			int index = slots[slot] - 1;
+			if (ids[index].equals(id)) {
+				return index;
+			}
+			slot = (slot + 1) & (slots.length - 1);
+		}
+		return -1;
+	}
+
+	public boolean hasLowestBin(String id) {
+		int index = indexOf(id);
+		return index != -1 && !Double.isNaN(lowestBin[index]);
+	}
+
+	public double getLowestBin(String id, double defaultValue) {
+		return orDefault(lowestBin, indexOf(id), defaultValue);
+	}
+
+	public boolean isBazaarItem(String id) {
+		int index = indexOf(id);
+		return index != -1 && !Double.isNaN(bazaarSell[index]);
+	}
+
+	public double getBazaarBuy(String id, double defaultValue) {
+		return orDefault(bazaarBuy, indexOf(id), defaultValue);
+	}
+
+	public double getBazaarSell(String id, double defaultValue) {
+		return orDefault(bazaarSell, indexOf(id), defaultValue);
+	}
+
+	public long getBazaarBuyVolume(String id) {
+		int index = indexOf(id);
+		return index == -1 ? 0 : bazaarBuyVolume[index];
+	}
+
+	public long getBazaarSellVolume(String id) {
+		int index = indexOf(id);
+		return index == -1 ? 0 : bazaarSellVolume[index];
+	}
+
+	public double getAveragePrice(String id, double defaultValue) {
+		return orDefault(averagePrice, indexOf(id), defaultValue);
+	}
+
+	public double getAverageCleanPrice(String id, double defaultValue) {
+		return orDefault(averageCleanPrice, indexOf(id), defaultValue);
+	}
+
+	public int getAverageSales(String id) {
+		int index = indexOf(id);
+		return index == -1 ? 0 : averageSales[index];
+	}
+}
@@ -42,6 +42,8 @@ import net.dv8tion.jda.api.entities.User;
 import org.apache.groovy.util.Maps;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -54,6 +56,43 @@ import static com.skyblockplus.utils.utils.Utils.*;
 
 public class Player {
 
+	private static final JsonPath ABIPHONE_ACTIVE_CONTACTS_PATH = JsonPath.of("nether_island_player_data.abiphone.active_contacts");
+	private static final JsonPath ARMOR_DATA_PATH = JsonPath.of("inventory.inv_armor.data");
+	private static final JsonPath BACKPACK_CONTENTS_PATH = JsonPath.of("inventory.backpack_contents");
+	private static final JsonPath BANKING_BALANCE_PATH = JsonPath.of("banking.balance");
+	private static final JsonPath BANKING_TRANSACTIONS_PATH = JsonPath.of("banking.transactions");
+	private static final JsonPath BARBARIANS_REPUTATION_PATH = JsonPath.of("nether_island_player_data.barbarians_reputation");
+	private static final JsonPath CATACOMBS_HIGHEST_TIER_PATH = JsonPath.of("dungeons.dungeon_types.catacombs.highest_tier_completed");
+	private static final JsonPath CATACOMBS_XP_PATH = JsonPath.of("dungeons.dungeon_types.catacombs.experience");
+	private static final JsonPath COLLECTION_PATH = JsonPath.of("collection");
+	private static final JsonPath DUNGEONS_SECRETS_PATH = JsonPath.of("dungeons.secrets");
+	private static final JsonPath ENDER_CHEST_DATA_PATH = JsonPath.of("inventory.ender_chest_contents.data");
+	private static final JsonPath EQUIPMENT_DATA_PATH = JsonPath.of("inventory.equipment_contents.data");
+	private static final JsonPath FAIRY_SOULS_PATH = JsonPath.of("fairy_soul.total_collected");
+	private static final JsonPath FARMING_LEVEL_CAP_PATH = JsonPath.of("jacobs_contest.perks.farming_level_cap");
+	private static final JsonPath GAME_MODE_PATH = JsonPath.of("game_mode");
+	private static final JsonPath INVENTORY_DATA_PATH = JsonPath.of("inventory.inv_contents.data");
+	private static final JsonPath LEVELING_EXPERIENCE_PATH = JsonPath.of("leveling.experience");
+	private static final JsonPath LEVELING_SELECTED_SYMBOL_PATH = JsonPath.of("leveling.selected_symbol");
+	private static final JsonPath MAGES_REPUTATION_PATH = JsonPath.of("nether_island_player_data.mages_reputation");
+	private static final JsonPath MASTER_CATACOMBS_HIGHEST_TIER_PATH = JsonPath.of(
+		"dungeons.dungeon_types.master_catacombs.highest_tier_completed"
+	);
+	private static final JsonPath MEMBERS_PATH = JsonPath.of("members");
+	private static final JsonPath MINING_CORE_EXPERIENCE_PATH = JsonPath.of("mining_core.experience");
+	private static final JsonPath PERSONAL_VAULT_DATA_PATH = JsonPath.of("inventory.personal_vault_contents.data");
+	private static final JsonPath PETS_DATA_PETS_PATH = JsonPath.of("pets_data.pets");
+	private static final JsonPath PLAYER_DATA_EXPERIENCE_PATH = JsonPath.of("player_data.experience");
+	private static final JsonPath PROFILE_BANK_ACCOUNT_PATH = JsonPath.of("profile.bank_account");
+	private static final JsonPath PROFILE_ID_PATH = JsonPath.of("profile_id");
+	private static final JsonPath PURSE_PATH = JsonPath.of("currencies.coin_purse");
+	private static final JsonPath RIFT_ACCESS_CONSUMED_PRISM_PATH = JsonPath.of("rift.access.consumed_prism");
+	private static final JsonPath SACKS_COUNTS_PATH = JsonPath.of("inventory.sacks_counts");
+	private static final JsonPath SELECTED_DUNGEON_CLASS_PATH = JsonPath.of("dungeons.selected_dungeon_class");
+	private static final JsonPath TALISMAN_BAG_DATA_PATH = JsonPath.of("inventory.bag_contents.talisman_bag.data");
+	private static final JsonPath WARDROBE_DATA_PATH = JsonPath.of("inventory.wardrobe_contents.data");
+	private static final JsonPath WARDROBE_EQUIPPED_SLOT_PATH = JsonPath.of("inventory.wardrobe_equipped_slot");
+
 	public final Map<Integer, Double> profileToNetworth = new ConcurrentHashMap<>();
 	public final Map<Integer, Double> profileToMuseum = new ConcurrentHashMap<>();
 	private final List<Profile> profiles = new ArrayList<>();
@@ -338,6 +377,50 @@ public class Player {
 		}
 	}
 
+	/**
+	 * Returns the value cached for key or loads it, with concurrent callers for the same key waiting for a single load.
+	 * Failed and null loads are handed to the waiting callers but not kept, so the next call retries
+	 */
+	private static <K, V> V memoize(Map<K, CompletableFuture<V>> cache, K key, Callable<V> loader) {
+		CompletableFuture<V> future = cache.get(key);
+		if (future == null) {
+			CompletableFuture<V> newFuture = new CompletableFuture<>();
+			future = cache.putIfAbsent(key, newFuture);
+			if (future == null) {
+				future = newFuture;
+				try {
+					V value = loader.call();
+					if (value == null) {
+						cache.remove(key, newFuture);
+					}
+					newFuture.complete(value);
+				} catch (Exception e) {
+					cache.remove(key, newFuture);
+					newFuture.completeExceptionally(e);
+				}
+			}
+		}
+		return future.join();
+	}
+
+	public enum InventorySection {
+		INVENTORY(INVENTORY_DATA_PATH),
+		PERSONAL_VAULT(PERSONAL_VAULT_DATA_PATH),
+		STORAGE(BACKPACK_CONTENTS_PATH),
+		TALISMAN_BAG(TALISMAN_BAG_DATA_PATH),
+		EQUIPMENT(EQUIPMENT_DATA_PATH),
+		ARMOR(ARMOR_DATA_PATH),
+		WARDROBE(WARDROBE_DATA_PATH),
+		ENDER_CHEST(ENDER_CHEST_DATA_PATH);
+
+		@Getter
+		private final JsonPath path;
+
+		InventorySection(JsonPath path) {
+			this.path = path;
+		}
+	}
+
 	public enum WeightType {
 		NONE,
 		SENITHER,
@@ -359,6 +442,10 @@ public class Player {
 		private final String profileName;
 
 		private HypixelResponse museumResponse;
+		/** Member json of this player, resolved on first use */
+		private JsonElement memberJson;
+		private final Map<String, CompletableFuture<NBTCompound>> decodedNbt = new ConcurrentHashMap<>();
+		private final Map<InventorySection, CompletableFuture<Map<Integer, InvItem>>> inventoryMaps = new ConcurrentHashMap<>();
 
 		public Profile(int profileIndex, JsonElement profileJson) {
 			this.profileJson = profileJson;
@@ -404,7 +491,10 @@ public class Player {
 		}
 
 		public JsonElement profileJson() {
-			return higherDepth(profileJson, "members." + uuid);
+			if (memberJson == null) {
+				memberJson = higherDepth(higherDepth(profileJson, MEMBERS_PATH), uuid);
+			}
+			return memberJson;
 		}
 
 		public boolean isSelected() {
@@ -530,12 +620,7 @@ public class Player {
 			double highestAmount = -1.0;
 
 			for (Profile profile : profiles) {
-				// Skip bingo profiles for selected leaderboard
-				if (
-					gamemode == Gamemode.SELECTED
-						? profile.isSelected() && (!isLb || !profile.isBingo())
-						: gamemode.isGamemode(profile.getGamemode())
-				) {
+				if (profile.isInGamemode(gamemode, isLb)) {
 					highestAmount = Math.max(getAmount(profile, type), highestAmount);
 				}
 			}
@@ -543,6 +628,11 @@ public class Player {
 			return highestAmount;
 		}
 
+		public boolean isInGamemode(Gamemode gamemode, boolean isLb) {
+			// Skip bingo profiles for selected leaderboard
+			return gamemode == Gamemode.SELECTED ? isSelected() && (!isLb || !isBingo()) : gamemode.isGamemode(getGamemode());
+		}
+
 		/* Links */
 		public String skyblockStatsLink() {
 			return StringUtils.skyblockStatsLink(uuid, getProfileName());
@@ -562,20 +652,20 @@ public class Player {
 		 * @return Bank balance or -1 if bank API disabled
 		 */
 		public double getBankBalance() {
-			double bankBalance = higherDepth(getOuterProfileJson(), "banking.balance", -1.0);
+			double bankBalance = higherDepth(getOuterProfileJson(), BANKING_BALANCE_PATH, -1.0);
 			// bank_account is personal bank
-			return bankBalance == -1 ? -1 : bankBalance + higherDepth(profileJson(), "profile.bank_account", 0);
+			return bankBalance == -1 ? -1 : bankBalance + higherDepth(profileJson(), PROFILE_BANK_ACCOUNT_PATH, 0);
 		}
 
 		public double getPurseCoins() {
-			double purseCoins = higherDepth(profileJson(), "currencies.coin_purse", 0.0);
+			double purseCoins = higherDepth(profileJson(), PURSE_PATH, 0.0);
 			// How are people able to have 9E-70 coins??
 			return purseCoins < 0.01 ? 0 : purseCoins;
 		}
 
 		public JsonArray getBankHistory() {
 			try {
-				return higherDepth(getOuterProfileJson(), "banking.transactions").getAsJsonArray();
+				return higherDepth(getOuterProfileJson(), BANKING_TRANSACTIONS_PATH).getAsJsonArray();
 			} catch (Exception e) {
 				return null;
 			}
@@ -583,7 +673,7 @@ public class Player {
 
 		/* Skills */
 		public int getFarmingCapUpgrade() {
-			return higherDepth(profileJson(), "jacobs_contest.perks.farming_level_cap", 0);
+			return higherDepth(profileJson(), FARMING_LEVEL_CAP_PATH, 0);
 		}
 
 		public int getSkillMaxLevel(String skillName, WeightType weightType) {
@@ -591,7 +681,7 @@ public class Player {
 				return 60;
 			}
 
-			int maxLevel = higherDepth(getLevelingJson(), "leveling_caps." + skillName, 50);
+			int maxLevel = higherDepth(getLevelingJson(), JsonPath.of("leveling_caps." + skillName), 50);
 
 			if (skillName.equals("farming")) {
 				maxLevel = weightType == WeightType.SENITHER ? 60 : maxLevel + getFarmingCapUpgrade();
@@ -601,7 +691,7 @@ public class Player {
 		}
 
 		public long getSkillXp(String skillName) {
-			return higherDepth(profileJson(), "player_data.experience.SKILL_" + skillName.toUpperCase(), -1L);
+			return higherDepth(profileJson(), JsonPath.of("player_data.experience.SKILL_" + skillName.toUpperCase()), -1L);
 		}
 
 		public SkillsStruct getSkill(String skillName) {
@@ -662,7 +752,7 @@ public class Player {
 		}
 
 		public SkillsStruct getHOTM() {
-			long xp = higherDepth(profileJson(), "mining_core.experience", -1L);
+			long xp = higherDepth(profileJson(), MINING_CORE_EXPERIENCE_PATH, -1L);
 			return xp == -1 ? null : skillInfoFromExp(xp, "HOTM");
 		}
 
@@ -684,11 +774,11 @@ public class Player {
 		}
 
 		public int getSlayerBossKills(String slayerName, int tier) {
-			return higherDepth(profileJson(), "slayer.slayer_bosses." + slayerName + ".boss_kills_tier_" + tier, 0);
+			return higherDepth(profileJson(), JsonPath.of("slayer.slayer_bosses." + slayerName + ".boss_kills_tier_" + tier), 0);
 		}
 
 		public int getSlayerXp(String slayerName) {
-			return higherDepth(profileJson(), "slayer.slayer_bosses." + slayerName + ".xp", 0);
+			return higherDepth(profileJson(), JsonPath.of("slayer.slayer_bosses." + slayerName + ".xp"), 0);
 		}
 
 		public int getSlayerLevel(String slayerName) {
@@ -697,24 +787,24 @@ public class Player {
 
 		/* Dungeons */
 		public int getDungeonSecrets() {
-			return higherDepth(profileJson(), "dungeons.secrets", 0);
+			return higherDepth(profileJson(), DUNGEONS_SECRETS_PATH, 0);
 		}
 
 		public String getSelectedDungeonClass() {
 			try {
-				return higherDepth(profileJson(), "dungeons.selected_dungeon_class").getAsString();
+				return higherDepth(profileJson(), SELECTED_DUNGEON_CLASS_PATH).getAsString();
 			} catch (Exception e) {
 				return "none";
 			}
 		}
 
 		public int getHighestPlayedDungeonFloor() {
-			int master = higherDepth(profileJson(), "dungeons.dungeon_types.master_catacombs.highest_tier_completed", -1);
+			int master = higherDepth(profileJson(), MASTER_CATACOMBS_HIGHEST_TIER_PATH, -1);
 			if (master != -1) {
 				return master + 7;
 			}
 
-			return higherDepth(profileJson(), "dungeons.dungeon_types.catacombs.highest_tier_completed", -1);
+			return higherDepth(profileJson(), CATACOMBS_HIGHEST_TIER_PATH, -1);
 		}
 
 		public Set<String> getItemsPlayerHas(List<String> items) {
@@ -749,7 +839,7 @@ public class Player {
 		}
 
 		public long getDungeonClassXp(String className) {
-			return higherDepth(profileJson(), "dungeons.player_classes." + className + ".experience", 0L);
+			return higherDepth(profileJson(), JsonPath.of("dungeons.player_classes." + className + ".experience"), 0L);
 		}
 
 		public SkillsStruct getDungeonClass(String className) {
@@ -769,7 +859,7 @@ public class Player {
 		}
 
 		public long getCatacombsXp() {
-			return higherDepth(profileJson(), "dungeons.dungeon_types.catacombs.experience", 0L);
+			return higherDepth(profileJson(), CATACOMBS_XP_PATH, 0L);
 		}
 
 		public SkillsStruct getCatacombs() {
@@ -777,63 +867,52 @@ public class Player {
 		}
 
 		/* InvItem maps */
+		/**
+		 * Decodes every inventory section in parallel on {@link Utils#inventoryDecodeExecutor}. Getters called afterwards wait
+		 * for the decode of their section instead of starting another one
+		 */
+		public Profile prefetchInventories() {
+			for (InventorySection section : InventorySection.values()) {
+				if (!inventoryMaps.containsKey(section)) {
+					inventoryDecodeExecutor.execute(() -> getInventorySection(section));
+				}
+			}
+			return this;
+		}
+
 		public Map<Integer, InvItem> getInventoryMap() {
 			return getInventoryMap(false);
 		}
 
 		public Map<Integer, InvItem> getInventoryMap(boolean sort) {
-			try {
-				String contents = higherDepth(profileJson(), "inventory.inv_contents.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				Map<Integer, InvItem> invMap = getGenericInventoryMap(parsedContents);
-				if (sort) {
-					Map<Integer, InvItem> sortedMap = new TreeMap<>();
-					for (Map.Entry<Integer, InvItem> entry : invMap.entrySet()) {
-						if (entry.getKey() >= 9 && entry.getKey() <= 17) {
-							sortedMap.put(entry.getKey() + 18, entry.getValue());
-						} else if (entry.getKey() >= 27) {
-							sortedMap.put(entry.getKey() - 18, entry.getValue());
-						} else {
-							sortedMap.put(entry.getKey(), entry.getValue());
-						}
+			Map<Integer, InvItem> invMap = getInventorySection(InventorySection.INVENTORY);
+			if (invMap == null) {
+				return null;
+			}
+
+			if (sort) {
+				Map<Integer, InvItem> sortedMap = new TreeMap<>();
+				for (Map.Entry<Integer, InvItem> entry : invMap.entrySet()) {
+					if (entry.getKey() >= 9 && entry.getKey() <= 17) {
+						sortedMap.put(entry.getKey() + 18, entry.getValue());
+					} else if (entry.getKey() >= 27) {
+						sortedMap.put(entry.getKey() - 18, entry.getValue());
+					} else {
+						sortedMap.put(entry.getKey(), entry.getValue());
 					}
-					return sortedMap;
-				} else {
-					return invMap;
 				}
-			} catch (Exception ignored) {}
-			return null;
+				return sortedMap;
+			} else {
+				return new HashMap<>(invMap);
+			}
 		}
 
 		public Map<Integer, InvItem> getPersonalVaultMap() {
-			try {
-				String contents = higherDepth(profileJson(), "inventory.personal_vault_contents.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				return getGenericInventoryMap(parsedContents);
-			} catch (Exception ignored) {}
-			return null;
+			return copyInventorySection(InventorySection.PERSONAL_VAULT);
 		}
 
 		public Map<Integer, InvItem> getStorageMap() {
-			try {
-				Map<Integer, InvItem> storageMap = new HashMap<>();
-				int counter = 1;
-				for (Map.Entry<String, JsonElement> bp : higherDepth(profileJson(), "inventory.backpack_contents")
-					.getAsJsonObject()
-					.entrySet()) {
-					Collection<InvItem> curBpMap = getGenericInventoryMap(
-						NBTReader.readBase64(higherDepth(bp.getValue(), "data").getAsString())
-					)
-						.values();
-					for (InvItem itemSlot : curBpMap) {
-						storageMap.put(counter, itemSlot);
-						counter++;
-					}
-				}
-
-				return storageMap;
-			} catch (Exception ignored) {}
-			return null;
+			return copyInventorySection(InventorySection.STORAGE);
 		}
 
 		public Map<Integer, InvItem> getMuseumMap() {
@@ -878,45 +957,69 @@ public class Player {
 		}
 
 		public Map<Integer, InvItem> getTalismanBagMap() {
-			try {
-				String contents = higherDepth(profileJson(), "inventory.bag_contents.talisman_bag.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				return getGenericInventoryMap(parsedContents);
-			} catch (Exception ignored) {}
-			return null;
+			return copyInventorySection(InventorySection.TALISMAN_BAG);
 		}
 
 		public Map<Integer, InvItem> getEquipmentMap() {
-			try {
-				String contents = higherDepth(profileJson(), "inventory.equipment_contents.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				return getGenericInventoryMap(parsedContents);
-			} catch (Exception ignored) {}
-			return null;
+			return copyInventorySection(InventorySection.EQUIPMENT);
 		}
 
 		public Map<Integer, InvItem> getArmorMap() {
+			return copyInventorySection(InventorySection.ARMOR);
+		}
+
+		public Map<Integer, InvItem> getWardrobeMap() {
+			return copyInventorySection(InventorySection.WARDROBE);
+		}
+
+		/**
+		 * @return a mutable copy of the memoized section or null if the section is disabled or failed to decode
+		 */
+		private Map<Integer, InvItem> copyInventorySection(InventorySection section) {
+			Map<Integer, InvItem> invMap = getInventorySection(section);
+			return invMap != null ? new HashMap<>(invMap) : null;
+		}
+
+		private Map<Integer, InvItem> getInventorySection(InventorySection section) {
 			try {
-				String contents = higherDepth(profileJson(), "inventory.inv_armor.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				Map<Integer, InvItem> oldMap = getGenericInventoryMap(parsedContents);
+				return memoize(inventoryMaps, section, () -> decodeInventorySection(section));
+			} catch (Exception e) {
+				return null;
+			}
+		}
+
+		private Map<Integer, InvItem> decodeInventorySection(InventorySection section) {
+			if (section == InventorySection.STORAGE) {
+				Map<Integer, InvItem> storageMap = new HashMap<>();
+				int counter = 1;
+				for (Map.Entry<String, JsonElement> bp : higherDepth(profileJson(), BACKPACK_CONTENTS_PATH)
+					.getAsJsonObject()
+					.entrySet()) {
+					for (InvItem itemSlot : getGenericInventoryMap(readNbt(higherDepth(bp.getValue(), "data").getAsString())).values()) {
+						storageMap.put(counter, itemSlot);
+						counter++;
+					}
+				}
+				return storageMap;
+			}
+
+			Map<Integer, InvItem> invMap = getGenericInventoryMap(readNbt(higherDepth(profileJson(), section.getPath()).getAsString()));
+			if (section == InventorySection.ARMOR) {
 				Map<Integer, InvItem> orderedMap = new HashMap<>();
-				orderedMap.put(0, oldMap.getOrDefault(3, null));
-				orderedMap.put(1, oldMap.getOrDefault(2, null));
-				orderedMap.put(2, oldMap.getOrDefault(1, null));
-				orderedMap.put(3, oldMap.getOrDefault(0, null));
+				orderedMap.put(0, invMap.getOrDefault(3, null));
+				orderedMap.put(1, invMap.getOrDefault(2, null));
+				orderedMap.put(2, invMap.getOrDefault(1, null));
+				orderedMap.put(3, invMap.getOrDefault(0, null));
 				return orderedMap;
-			} catch (Exception ignored) {}
-			return null;
+			}
+			return invMap;
 		}
 
-		public Map<Integer, InvItem> getWardrobeMap() {
-			try {
-				String contents = higherDepth(profileJson(), "inventory.wardrobe_contents.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				return getGenericInventoryMap(parsedContents);
-			} catch (Exception ignored) {}
-			return null;
+		/**
+		 * Base64 decodes and parses NBT contents, memoized per profile since multiple getters read the same section
+		 */
+		private NBTCompound readNbt(String contents) {
+			return memoize(decodedNbt, contents, () -> NBTReader.readBase64(contents));
 		}
 
 		public Map<Integer, InvItem> getPetsMap() {
@@ -957,17 +1060,12 @@ public class Player {
 		}
 
 		public Map<Integer, InvItem> getEnderChestMap() {
-			try {
-				String contents = higherDepth(profileJson(), "inventory.ender_chest_contents.data").getAsString();
-				NBTCompound parsedContents = NBTReader.readBase64(contents);
-				return getGenericInventoryMap(parsedContents);
-			} catch (Exception ignored) {}
-			return null;
+			return copyInventorySection(InventorySection.ENDER_CHEST);
 		}
 
 		public Map<String, Integer> getPlayerSacks() {
 			try {
-				JsonObject sacksJson = higherDepth(profileJson(), "inventory.sacks_counts").getAsJsonObject();
+				JsonObject sacksJson = higherDepth(profileJson(), SACKS_COUNTS_PATH).getAsJsonObject();
 				Map<String, Integer> sacksMap = new HashMap<>();
 				for (Map.Entry<String, JsonElement> sacksEntry : sacksJson.entrySet()) {
 					sacksMap.put(sacksEntry.getKey(), sacksEntry.getValue().getAsInt());
@@ -982,9 +1080,7 @@ public class Player {
 		/* Emoji viewer arrays & other inventory */
 		public List<String[]> getTalismanBag() {
 			try {
-				NBTList items = NBTReader
-					.readBase64(higherDepth(profileJson(), "inventory.bag_contents.talisman_bag.data").getAsString())
-					.getList("i");
+				NBTList items = readNbt(higherDepth(profileJson(), TALISMAN_BAG_DATA_PATH).getAsString()).getList("i");
 				Map<Integer, String> itemsMap = new TreeMap<>();
 
 				for (int i = 0; i < items.size(); i++) {
@@ -1031,9 +1127,7 @@ public class Player {
 
 		public List<String[]> getEnderChest() {
 			try {
-				NBTList items = NBTReader
-					.readBase64(higherDepth(profileJson(), "inventory.ender_chest_contents.data").getAsString())
-					.getList("i");
+				NBTList items = readNbt(higherDepth(profileJson(), ENDER_CHEST_DATA_PATH).getAsString()).getList("i");
 				Map<Integer, String> itemsMap = new TreeMap<>();
 
 				for (int i = 0; i < items.size(); i++) {
@@ -1090,14 +1184,14 @@ public class Player {
 			try {
 				List<String[]> pages = new ArrayList<>();
 
-				for (JsonElement page : higherDepth(profileJson(), "inventory.backpack_contents")
+				for (JsonElement page : higherDepth(profileJson(), BACKPACK_CONTENTS_PATH)
 					.getAsJsonObject()
 					.entrySet()
 					.stream()
 					.sorted(Comparator.comparingInt(e -> Integer.parseInt(e.getKey())))
 					.map(Map.Entry::getValue)
 					.collect(Collectors.toCollection(ArrayList::new))) {
-					NBTList items = NBTReader.readBase64(higherDepth(page, "data").getAsString()).getList("i");
+					NBTList items = readNbt(higherDepth(page, "data").getAsString()).getList("i");
 					Map<Integer, String> itemsMap = new TreeMap<>();
 
 					for (int i = 0; i < items.size(); i++) {
@@ -1154,7 +1248,7 @@ public class Player {
 
 		public String[] getInventory() {
 			try {
-				NBTList items = NBTReader.readBase64(higherDepth(profileJson(), "inventory.inv_contents.data").getAsString()).getList("i");
+				NBTList items = readNbt(higherDepth(profileJson(), INVENTORY_DATA_PATH).getAsString()).getList("i");
 				Map<Integer, String> itemsMap = new TreeMap<>();
 
 				for (int i = 0; i < items.size(); i++) {
@@ -1200,10 +1294,8 @@ public class Player {
 
 		public Map<Integer, ArmorStruct> getWardrobeList() {
 			try {
-				int equippedSlot = higherDepth(profileJson(), "inventory.wardrobe_equipped_slot", -1);
-				NBTList items = NBTReader
-					.readBase64(higherDepth(profileJson(), "inventory.wardrobe_contents.data").getAsString())
-					.getList("i");
+				int equippedSlot = higherDepth(profileJson(), WARDROBE_EQUIPPED_SLOT_PATH, -1);
+				NBTList items = readNbt(higherDepth(profileJson(), WARDROBE_DATA_PATH).getAsString()).getList("i");
 				Map<Integer, String> itemsMap = new HashMap<>();
 
 				for (int i = 0; i < items.size(); i++) {
@@ -1255,11 +1347,9 @@ public class Player {
 
 		public List<String[]> getWardrobe() {
 			try {
-				int equippedWardrobeSlot = higherDepth(profileJson(), "inventory.wardrobe_equipped_slot", -1);
+				int equippedWardrobeSlot = higherDepth(profileJson(), WARDROBE_EQUIPPED_SLOT_PATH, -1);
 				Map<Integer, InvItem> equippedArmor = equippedWardrobeSlot != -1 ? getArmorMap() : null;
-				NBTList items = NBTReader
-					.readBase64(higherDepth(profileJson(), "inventory.wardrobe_contents.data").getAsString())
-					.getList("i");
+				NBTList items = readNbt(higherDepth(profileJson(), WARDROBE_DATA_PATH).getAsString()).getList("i");
 				Map<Integer, String> itemsMap = new TreeMap<>();
 
 				for (int i = 0; i < items.size(); i++) {
@@ -1318,7 +1408,7 @@ public class Player {
 
 		public ArmorStruct getArmor() {
 			try {
-				NBTList items = NBTReader.readBase64(higherDepth(profileJson(), "inventory.inv_armor.data").getAsString()).getList("i");
+				NBTList items = readNbt(higherDepth(profileJson(), ARMOR_DATA_PATH).getAsString()).getList("i");
 				Map<Integer, String> itemsMap = new HashMap<>();
 
 				for (int i = 0; i < items.size(); i++) {
@@ -1331,20 +1421,20 @@ public class Player {
 		}
 
 		public JsonArray getPets() {
-			return higherDepth(profileJson(), "pets_data.pets").getAsJsonArray();
+			return higherDepth(profileJson(), PETS_DATA_PETS_PATH).getAsJsonArray();
 		}
 
 		/* Miscellaneous */
 		public String getEmblem() {
-			return higherDepth(profileJson(), "leveling.selected_symbol", "none");
+			return higherDepth(profileJson(), LEVELING_SELECTED_SYMBOL_PATH, "none");
 		}
 
 		public int getFairySouls() {
-			return higherDepth(profileJson(), "fairy_soul.total_collected", 0);
+			return higherDepth(profileJson(), FAIRY_SOULS_PATH, 0);
 		}
 
 		public double getExactLevel() {
-			return higherDepth(profileJson(), "leveling.experience", 0) / 100.0;
+			return higherDepth(profileJson(), LEVELING_EXPERIENCE_PATH, 0) / 100.0;
 		}
 
 		public double getEstimatedLevel() {
@@ -1362,7 +1452,7 @@ public class Player {
 		}
 
 		public double getLevel() {
-			return higherDepth(profileJson(), "leveling.experience") != null ? getExactLevel() : getEstimatedLevel();
+			return higherDepth(profileJson(), LEVELING_EXPERIENCE_PATH) != null ? getExactLevel() : getEstimatedLevel();
 		}
 
 		public String getLevelColor(int level) {
@@ -1436,7 +1526,7 @@ public class Player {
 				if (accessoryId.equals("HEGEMONY_ARTIFACT")) {
 					magicPower += rarityToMagicPower.get(accessory.getRarity());
 				} else if (accessoryId.equals("ABICASE")) {
-					JsonElement activeContacts = higherDepth(profileJson(), "nether_island_player_data.abiphone.active_contacts");
+					JsonElement activeContacts = higherDepth(profileJson(), ABIPHONE_ACTIVE_CONTACTS_PATH);
 					if (activeContacts != null) {
 						magicPower += activeContacts.getAsJsonArray().size() / 2;
 					}
@@ -1452,7 +1542,7 @@ public class Player {
 				magicPower += rarityToMagicPower.get(accessory.getRarity());
 			}
 
-			if (higherDepth(profileJson(), "rift.access.consumed_prism", false)) {
+			if (higherDepth(profileJson(), RIFT_ACCESS_CONSUMED_PRISM_PATH, false)) {
 				magicPower += 11;
 			}
 
@@ -1517,7 +1607,7 @@ public class Player {
 			try {
 				Set<String> uniqueCraftedMinions = new HashSet<>();
 
-				for (Map.Entry<String, JsonElement> member : higherDepth(getOuterProfileJson(), "members").getAsJsonObject().entrySet()) {
+				for (Map.Entry<String, JsonElement> member : higherDepth(getOuterProfileJson(), MEMBERS_PATH).getAsJsonObject().entrySet()) {
 					try {
 						JsonArray craftedMinions = higherDepth(member.getValue(), "player_data.crafted_generators").getAsJsonArray();
 						for (JsonElement minion : craftedMinions) {
@@ -1585,11 +1675,11 @@ public class Player {
 		}
 
 		public boolean isBingo() {
-			return higherDepth(getOuterProfileJson(), "game_mode", "regular").equals("bingo");
+			return higherDepth(getOuterProfileJson(), GAME_MODE_PATH, "regular").equals("bingo");
 		}
 
 		public Gamemode getGamemode() {
-			return Gamemode.of(higherDepth(getOuterProfileJson(), "game_mode", "regular"));
+			return Gamemode.of(higherDepth(getOuterProfileJson(), GAME_MODE_PATH, "regular"));
 		}
 
 		public int getNumMaxedSlayers() {
@@ -1608,7 +1698,7 @@ public class Player {
 
 		public long getCombinedCollection(String id) {
 			long amount = 0;
-			for (Map.Entry<String, JsonElement> member : higherDepth(getOuterProfileJson(), "members").getAsJsonObject().entrySet()) {
+			for (Map.Entry<String, JsonElement> member : higherDepth(getOuterProfileJson(), MEMBERS_PATH).getAsJsonObject().entrySet()) {
 				amount += higherDepth(member.getValue(), "collection." + id, 0L);
 			}
 			return amount;
@@ -1620,7 +1710,7 @@ public class Player {
 
 		public int getNumMaxedCollections() {
 			Map<String, Long> collections = new HashMap<>();
-			for (Map.Entry<String, JsonElement> member : higherDepth(getOuterProfileJson(), "members").getAsJsonObject().entrySet()) {
+			for (Map.Entry<String, JsonElement> member : higherDepth(getOuterProfileJson(), MEMBERS_PATH).getAsJsonObject().entrySet()) {
 				try {
 					for (Map.Entry<String, JsonElement> collection : higherDepth(member.getValue(), "collection")
 						.getAsJsonObject()
@@ -1644,12 +1734,19 @@ public class Player {
 			if (!profileToNetworth.containsKey(profileIndex)) {
 				NetworthExecute calc = new NetworthExecute();
 				calc.getPlayerNetworth(this, null);
-				profileToNetworth.put(profileIndex, calc.getNetworth());
-				profileToMuseum.put(profileIndex, museumResponse != null && museumResponse.isValid() ? calc.getTotal("museum", false) : -1);
+				setNetworth(calc.getNetworth(), calc.getTotal("museum", false));
 			}
 			return profileToNetworth.get(profileIndex);
 		}
 
+		/**
+		 * Caches the networth and museum worth of this profile
+		 */
+		public void setNetworth(double networth, double museumWorth) {
+			profileToNetworth.put(profileIndex, networth);
+			profileToMuseum.put(profileIndex, museumResponse != null && museumResponse.isValid() ? museumWorth : -1);
+		}
+
 		public double getMuseumWorth() {
 			return profileToMuseum.getOrDefault(profileIndex, -1.0);
 		}
@@ -1659,11 +1756,11 @@ public class Player {
 		}
 
 		public int getMageRep() {
-			return higherDepth(profileJson(), "nether_island_player_data.mages_reputation", 0);
+			return higherDepth(profileJson(), MAGES_REPUTATION_PATH, 0);
 		}
 
 		public int getBarbarianRep() {
-			return higherDepth(profileJson(), "nether_island_player_data.barbarians_reputation", 0);
+			return higherDepth(profileJson(), BARBARIANS_REPUTATION_PATH, 0);
 		}
 
 		public int getBestiaryTier() {
@@ -1691,7 +1788,7 @@ public class Player {
 		}
 
 		public boolean isInventoryApiEnabled() {
-			return higherDepth(profileJson(), "inventory.inv_contents.data", null) != null;
+			return higherDepth(profileJson(), INVENTORY_DATA_PATH, null) != null;
 		}
 
 		public boolean isBankApiEnabled() {
@@ -1700,17 +1797,17 @@ public class Player {
 
 		public boolean isCollectionsApiEnabled() {
 			try {
-				return higherDepth(profileJson(), "collection").getAsJsonObject() != null;
+				return higherDepth(profileJson(), COLLECTION_PATH).getAsJsonObject() != null;
 			} catch (Exception ignored) {}
 			return false;
 		}
 
 		public boolean isVaultApiEnabled() {
-			return higherDepth(profileJson(), "inventory.personal_vault_contents.data", null) != null;
+			return higherDepth(profileJson(), PERSONAL_VAULT_DATA_PATH, null) != null;
 		}
 
 		public boolean isSkillsApiEnabled() {
-			return higherDepth(profileJson(), "player_data.experience") != null;
+			return higherDepth(profileJson(), PLAYER_DATA_EXPERIENCE_PATH) != null;
 		}
 
 		public int getDojoPoints() {
@@ -1745,7 +1842,7 @@ public class Player {
 
 		public HypixelResponse getMuseum() {
 			if (museumResponse == null) {
-				museumResponse = skyblockMuseumFromProfileId(higherDepth(getOuterProfileJson(), "profile_id").getAsString(), uuid);
+				museumResponse = skyblockMuseumFromProfileId(higherDepth(getOuterProfileJson(), PROFILE_ID_PATH).getAsString(), uuid);
 			}
 			return museumResponse;
 		}
@@ -0,0 +1,126 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils;
+
+import com.google.gson.JsonObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static com.skyblockplus.utils.utils.Utils.executor;
+import static com.skyblockplus.utils.utils.Utils.scheduler;
+
+/**
+ * Market data feed refreshed in the background. Each refresh builds a new snapshot which is published by swapping a
+ * reference, so readers never wait on or trigger a download once the first snapshot has loaded. Snapshots must not be
+ * modified after they are published
+ */
+public class PriceFeed {
+
+	private static final Logger log = LoggerFactory.getLogger(PriceFeed.class);
+
+	private final String name;
+	private final Supplier<JsonObject> fetcher;
+	private final long refreshSeconds;
+	private final AtomicBoolean started = new AtomicBoolean(false);
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+	private final CompletableFuture<Void> firstLoad = new CompletableFuture<>();
+	private final List<Runnable> refreshListeners = new CopyOnWriteArrayList<>();
+	private volatile JsonObject snapshot;
+
+	/**
+	 * @param fetcher downloads and parses a new snapshot, returning null on failure
+	 */
+	public PriceFeed(String name, long refresh, TimeUnit unit, Supplier<JsonObject> fetcher) {
+		this.name = name;
+		this.fetcher = fetcher;
+		this.refreshSeconds = unit.toSeconds(refresh);
+	}
+
+	/**
+	 * Runs the listener on the refresh thread after each new snapshot is published, so values derived from the feed are
+	 * rebuilt once per refresh instead of by the first reader
+	 */
+	public PriceFeed onRefresh(Runnable listener) {
+		refreshListeners.add(listener);
+		return this;
+	}
+
+	/**
+	 * Starts refreshing this feed. Safe to call more than once
+	 */
+	public PriceFeed start() {
+		if (started.compareAndSet(false, true)) {
+			scheduler.scheduleAtFixedRate(() -> executor.submit(this::refresh), 0, refreshSeconds, TimeUnit.SECONDS);
+		}
+		return this;
+	}
+
+	/**
+	 * @return latest snapshot. Only waits if the first snapshot has not loaded yet
+	 */
+	public JsonObject get() {
+		JsonObject current = snapshot;
+		if (current != null) {
+			return current;
+		}
+
+		start();
+		try {
+			firstLoad.get(30, TimeUnit.SECONDS);
+		} catch (Exception ignored) {}
+		return snapshot;
+	}
+
+	private void refresh() {
+		if (!refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			JsonObject newSnapshot = fetcher.get();
+			if (newSnapshot != null) {
+				snapshot = newSnapshot;
+				// Listeners can read other feeds which may be waiting on this one
+				firstLoad.complete(null);
+				for (Runnable listener : refreshListeners) {
+					try {
+						listener.run();
+					} catch (Exception e) {
+						log.error("Failed to rebuild data derived from the " + name + " price feed", e);
+					}
+				}
+			} else {
+				log.warn("Failed to refresh the " + name + " price feed");
+			}
+		} catch (Exception e) {
+			log.error("Failed to refresh the " + name + " price feed", e);
+		} finally {
+			refreshing.set(false);
+			// Unblocks first readers even on failure, they will see null like before
+			firstLoad.complete(null);
+		}
+	}
+}
@@ -25,11 +25,15 @@ import net.dv8tion.jda.api.exceptions.ErrorResponseException;
 import net.dv8tion.jda.api.requests.ErrorResponse;
 import net.dv8tion.jda.api.utils.data.SerializableData;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import static com.skyblockplus.features.listeners.MainListener.guildMap;
 import static com.skyblockplus.utils.utils.Utils.*;
 
 public abstract class AbstractSlashCommand {
 
+	private static final String BUSY_MESSAGE = "The bot is currently busy. Please try again in a few seconds";
+
 	protected final Permission[] botPermissions = defaultPerms();
 
 	@Getter
@@ -38,6 +42,8 @@ public abstract class AbstractSlashCommand {
 	protected int cooldown = GLOBAL_COOLDOWN;
 	protected boolean disable = false;
 	protected Permission[] userPermissions = new Permission[0];
+	/** Executor group to run on, or null to use the default of the command */
+	protected CommandExecutionClass executionClass = null;
 
 	protected void execute(SlashCommandEvent event) {}
 
@@ -47,7 +53,8 @@ public abstract class AbstractSlashCommand {
 			return;
 		}
 
-		slashCommandClient.getCommandUses().compute(getFullName(), (k, v) -> (v != null ? v : 0) + 1);
+		CommandMetrics.CommandStats stats = slashCommandClient.getCommandMetrics().get(getFullName());
+		stats.recordUse();
 
 		if (!event.isOwner()) {
 			int remainingCooldown = getRemainingCooldown(event);
@@ -117,29 +124,63 @@ public abstract class AbstractSlashCommand {
 
 		event.logCommand();
 
-		executor.submit(() -> {
-			try {
-				event.deferReply().complete();
-			} catch (Exception e) {
-				if (e instanceof ErrorResponseException ex) {
-					if (ex.getErrorResponse() != ErrorResponse.UNKNOWN_INTERACTION) {
-						globalExceptionHandler.uncaughtException(event, e);
+		CommandExecutionClass executionClass = getExecutionClass();
+		if (!executionClass.canAdmit()) {
+			stats.recordRejected();
+			event.replyEmbeds(errorEmbed(BUSY_MESSAGE).build()).setEphemeral(true).queue();
+			return;
+		}
+
+		// Deferred before queueing so time waiting for a thread does not count towards the interaction deadline
+		long deferStartTime = System.nanoTime();
+		event
+			.deferReply()
+			.queue(
+				ignored -> {
+					long queuedTime = System.nanoTime();
+					stats.recordDefer(queuedTime - deferStartTime);
+					try {
+						executionClass.getExecutor().submit(() -> execute(event, stats, queuedTime));
+					} catch (RejectedExecutionException e) {
+						stats.recordRejected();
+						event.getHook().editOriginalEmbeds(errorEmbed(BUSY_MESSAGE).build()).queue();
+					}
+				},
+				e -> {
+					if (e instanceof ErrorResponseException ex) {
+						if (ex.getErrorResponse() != ErrorResponse.UNKNOWN_INTERACTION) {
+							globalExceptionHandler.uncaughtException(event, e);
+						} else {
+							stats.recordMissedDeadline();
+						}
 					}
 				}
-				return;
-			}
-			try {
-				execute(event);
-			} catch (Exception e) {
-				String logMessageId = globalExceptionHandler.uncaughtException(event, e);
-				event
-					.getHook()
-					.editOriginalEmbeds(
-						defaultEmbed("Command Error").setDescription("Please report to this to developer with id: " + logMessageId).build()
-					)
-					.queue();
+			);
+	}
+
+	private void execute(SlashCommandEvent event, CommandMetrics.CommandStats stats, long queuedTime) {
+		long executeStartTime = System.nanoTime();
+		stats.recordQueueWait(executeStartTime - queuedTime);
+		CommandMetrics.runAs(
+			stats,
+			() -> {
+				try {
+					execute(event);
+				} catch (Exception e) {
+					stats.recordError();
+					String logMessageId = globalExceptionHandler.uncaughtException(event, e);
+					event
+						.getHook()
+						.editOriginalEmbeds(
+							defaultEmbed("Command Error")
+								.setDescription("Please report to this to developer with id: " + logMessageId)
+								.build()
+						)
+						.queue();
+				}
 			}
-		});
+		);
+		stats.recordExecute(System.nanoTime() - executeStartTime);
 	}
 
 	private int getRemainingCooldown(SlashCommandEvent event) {
@@ -159,5 +200,7 @@ public abstract class AbstractSlashCommand {
 
 	protected abstract String getFullName();
 
+	protected abstract CommandExecutionClass getExecutionClass();
+
 	protected abstract boolean isDisabled();
 }
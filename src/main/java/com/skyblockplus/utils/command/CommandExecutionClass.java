@@ -0,0 +1,86 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils.command;
+
+import com.skyblockplus.utils.exceptionhandler.ExceptionExecutor;
+import lombok.Getter;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Groups of commands with similar costs. Each group runs on its own bounded executor so a burst of expensive commands
+ * cannot starve cheap ones
+ */
+public enum CommandExecutionClass {
+	/** Commands that only use the database, cached data, or a single lightweight request */
+	FAST(10, 100),
+	/** Commands that fetch and process Hypixel profiles */
+	HYPIXEL(40, 200),
+	/** Image renders handed off through {@link #render(Callable)} once a command has fetched its data */
+	RENDER(Runtime.getRuntime().availableProcessors(), 50);
+
+	private static final ThreadLocal<Boolean> rendering = ThreadLocal.withInitial(() -> false);
+
+	@Getter
+	private final ExceptionExecutor executor;
+
+	private final int queueCapacity;
+
+	CommandExecutionClass(int threads, int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+		this.executor =
+			new ExceptionExecutor(threads, threads, 45L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity))
+				.setAllowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * @return false if the queue is full and new commands should be rejected
+	 */
+	public boolean canAdmit() {
+		return executor.getQueue().size() < queueCapacity;
+	}
+
+	/**
+	 * Runs CPU bound rendering on the RENDER executor and waits for it, so only the render competes for cores while
+	 * fetching stays on the command's executor. Runs inline when already rendering
+	 */
+	public static <T> T render(Callable<T> render) throws Exception {
+		if (rendering.get()) {
+			return render.call();
+		}
+
+		try {
+			return RENDER.executor
+				.submit(() -> {
+					rendering.set(true);
+					try {
+						return render.call();
+					} finally {
+						rendering.set(false);
+					}
+				})
+				.get();
+		} catch (ExecutionException e) {
+			throw e.getCause() instanceof Exception ex ? ex : e;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils.command;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Lock free usage, latency, and error metrics for each command and subcommand
+ */
+public class CommandMetrics {
+
+	/** Upper bounds in milliseconds of the latency histogram buckets */
+	private static final long[] LATENCY_BUCKETS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+	/** Command being executed on this thread so Hypixel requests can be attributed to it */
+	private static final ThreadLocal<CommandStats> currentCommand = new ThreadLocal<>();
+
+	private final Map<String, CommandStats> commandStats = new ConcurrentHashMap<>();
+
+	public CommandStats get(String commandName) {
+		return commandStats.computeIfAbsent(commandName, k -> new CommandStats());
+	}
+
+	/**
+	 * Runs the command with Hypixel requests made on this thread counted towards it
+	 */
+	public static void runAs(CommandStats stats, Runnable runnable) {
+		CommandStats previousCommand = currentCommand.get();
+		currentCommand.set(stats);
+		try {
+			runnable.run();
+		} finally {
+			currentCommand.set(previousCommand);
+		}
+	}
+
+	public static void recordHypixelRequest() {
+		CommandStats stats = currentCommand.get();
+		if (stats != null) {
+			stats.hypixelRequests.increment();
+		}
+	}
+
+	public Map<String, Integer> getUses() {
+		Map<String, Integer> uses = new HashMap<>();
+		commandStats.forEach((name, stats) -> {
+			int count = stats.uses.intValue();
+			if (count > 0) {
+				uses.put(name, count);
+			}
+		});
+		return uses;
+	}
+
+	public void addUses(Map<String, Integer> uses) {
+		uses.forEach((name, count) -> get(name).uses.add(count));
+	}
+
+	/**
+	 * @return metrics in the Prometheus text exposition format
+	 */
+	public String toPrometheus() {
+		Map<String, CommandStats> sortedStats = new TreeMap<>(commandStats);
+		StringBuilder out = new StringBuilder();
+
+		appendCounter(out, sortedStats, "command_uses_total", "Command invocations", s -> s.uses);
+		appendCounter(out, sortedStats, "command_errors_total", "Commands that threw an exception", s -> s.errors);
+		appendCounter(
+			out,
+			sortedStats,
+			"command_missed_deadlines_total",
+			"Commands whose interaction expired before they were deferred",
+			s -> s.missedDeadlines
+		);
+		appendCounter(out, sortedStats, "command_rejected_total", "Commands rejected because their executor was full", s -> s.rejected);
+		appendCounter(out, sortedStats, "command_hypixel_requests_total", "Hypixel API requests made by commands", s -> s.hypixelRequests);
+		appendHistogram(out, sortedStats, "command_queue_wait_seconds", "Time spent waiting for an executor thread", s -> s.queueWait);
+		appendHistogram(out, sortedStats, "command_defer_seconds", "Time spent deferring the reply", s -> s.defer);
+		appendHistogram(out, sortedStats, "command_execute_seconds", "Time spent executing the command", s -> s.execute);
+
+		return out.toString();
+	}
+
+	private static void appendCounter(
+		StringBuilder out,
+		Map<String, CommandStats> stats,
+		String name,
+		String help,
+		Function<CommandStats, LongAdder> counter
+	) {
+		out.append("# HELP ").append(name).append(" ").append(help).append("\n");
+		out.append("# TYPE ").append(name).append(" counter\n");
+		stats.forEach((command, commandStats) ->
+			out
+				.append(name)
+				.append("{command=\"")
+				.append(escapeLabel(command))
+				.append("\"} ")
+				.append(counter.apply(commandStats).sum())
+				.append("\n")
+		);
+	}
+
+	private static void appendHistogram(
+		StringBuilder out,
+		Map<String, CommandStats> stats,
+		String name,
+		String help,
+		Function<CommandStats, Histogram> histogram
+	) {
+		out.append("# HELP ").append(name).append(" ").append(help).append("\n");
+		out.append("# TYPE ").append(name).append(" histogram\n");
+		stats.forEach((command, commandStats) -> {
+			Histogram commandHistogram = histogram.apply(commandStats);
+			String label = "command=\"" + escapeLabel(command) + "\"";
+
+			long cumulativeCount = 0;
+			for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+				cumulativeCount += commandHistogram.buckets[i].sum();
+				out
+					.append(name)
+					.append("_bucket{")
+					.append(label)
+					.append(",le=\"")
+					.append(LATENCY_BUCKETS[i] / 1000.0)
+					.append("\"} ")
+					.append(cumulativeCount)
+					.append("\n");
+			}
+			cumulativeCount += commandHistogram.buckets[LATENCY_BUCKETS.length].sum();
+			out.append(name).append("_bucket{").append(label).append(",le=\"+Inf\"} ").append(cumulativeCount).append("\n");
+			out.append(name).append("_sum{").append(label).append("} ").append(commandHistogram.sumNanos.sum() / 1e9).append("\n");
+			out.append(name).append("_count{").append(label).append("} ").append(cumulativeCount).append("\n");
+		});
+	}
+
+	private static String escapeLabel(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	public static class CommandStats {
+
+		private final LongAdder uses = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder missedDeadlines = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+		private final LongAdder hypixelRequests = new LongAdder();
+		private final Histogram queueWait = new Histogram();
+		private final Histogram defer = new Histogram();
+		private final Histogram execute = new Histogram();
+
+		public void recordUse() {
+			uses.increment();
+		}
+
+		public void recordError() {
+			errors.increment();
+		}
+
+		public void recordMissedDeadline() {
+			missedDeadlines.increment();
+		}
+
+		public void recordRejected() {
+			rejected.increment();
+		}
+
+		public void recordQueueWait(long nanos) {
+			queueWait.record(nanos);
+		}
+
+		public void recordDefer(long nanos) {
+			defer.record(nanos);
+		}
+
+		public void recordExecute(long nanos) {
+			execute.record(nanos);
+		}
+	}
+
+	private static class Histogram {
+
+		/** Count per bucket with the last bucket holding values above the largest bound */
+		private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS.length + 1];
+		private final LongAdder sumNanos = new LongAdder();
+
+		private Histogram() {
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		private void record(long nanos) {
+			long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+			int bucket = 0;
+			while (bucket < LATENCY_BUCKETS.length && millis > LATENCY_BUCKETS[bucket]) {
+				bucket++;
+			}
+			buckets[bucket].increment();
+			sumNanos.add(nanos);
+		}
+	}
+}
@@ -18,7 +18,6 @@
 
 package com.skyblockplus.utils.command;
 
-import com.jagrosh.jdautilities.commons.waiter.EventWaiter;
 import lombok.Getter;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Message;
@@ -58,7 +57,7 @@ public class CustomPaginator {
 	};
 	private static final String LEFT = "paginator_left_button";
 	private static final String RIGHT = "paginator_right_button";
-	private final EventWaiter waiter;
+	private final InteractionRouter router;
 	private final Set<User> users;
 	private final long timeout;
 	private final TimeUnit unit;
@@ -75,7 +74,7 @@ public class CustomPaginator {
 	private int pages;
 
 	private CustomPaginator(
-		EventWaiter waiter,
+		InteractionRouter router,
 		Set<User> users,
 		long timeout,
 		TimeUnit unit,
@@ -87,7 +86,7 @@ public class CustomPaginator {
 		boolean wrapPageEnds,
 		PaginatorExtras extras
 	) {
-		this.waiter = waiter;
+		this.router = router;
 		this.users = users;
 		this.timeout = timeout;
 		this.unit = unit;
@@ -150,7 +149,8 @@ public class CustomPaginator {
 	}
 
 	private void pagination(Message message, int pageNum) {
-		waiter.waitForEvent(
+		router.waitForEvent(
+			message,
 			ButtonInteractionEvent.class,
 			event -> checkButtonClick(event, message.getId()),
 			event -> handleButtonClick(event, pageNum),
@@ -320,7 +320,7 @@ public class CustomPaginator {
 
 	public static class Builder {
 
-		private EventWaiter waiter;
+		private InteractionRouter router;
 		private final Set<User> users = new HashSet<>();
 		private long timeout = 1;
 		private TimeUnit unit = TimeUnit.MINUTES;
@@ -339,7 +339,7 @@ public class CustomPaginator {
 		private boolean showPageNumbers = true;
 
 		public CustomPaginator build() {
-			Checks.check(waiter != null, "Must set an EventWaiter");
+			Checks.check(router != null, "Must set an InteractionRouter");
 			switch (extras.getType()) {
 				case DEFAULT -> {
 					if (extras.getStrings().isEmpty()) {
@@ -378,7 +378,7 @@ public class CustomPaginator {
 			}
 
 			return new CustomPaginator(
-				waiter,
+				router,
 				users,
 				timeout,
 				unit,
@@ -392,8 +392,8 @@ public class CustomPaginator {
 			);
 		}
 
-		public Builder setEventWaiter(EventWaiter waiter) {
-			this.waiter = waiter;
+		public Builder setInteractionRouter(InteractionRouter router) {
+			this.router = router;
 			return this;
 		}
 
@@ -0,0 +1,225 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils.command;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.GenericEvent;
+import net.dv8tion.jda.api.events.interaction.ModalInteractionEvent;
+import net.dv8tion.jda.api.events.interaction.component.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.hooks.EventListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static com.skyblockplus.utils.utils.Utils.globalExceptionHandler;
+
+/**
+ * Replacement for the EventWaiter for interactions on a known message. Waiters are indexed by message id so an
+ * interaction is only tested against the waiters of its own message, and timeouts are swept by a one second timing
+ * wheel. Like the EventWaiter, a waiter is removed once its condition matches and must be registered again to keep
+ * listening
+ */
+public class InteractionRouter implements EventListener {
+
+	private static final int WHEEL_SIZE = 64;
+	private static final int MAX_WAITERS_PER_SCOPE = 500;
+
+	private final Map<String, List<Waiter<?>>> messageIdToWaiters = new HashMap<>();
+	/** Pending waiters of each guild or DM channel in registration order */
+	private final Map<String, LinkedHashSet<Waiter<?>>> scopeIdToWaiters = new HashMap<>();
+	private final List<List<Waiter<?>>> wheel = new ArrayList<>();
+	private long currentTick = 0;
+
+	public InteractionRouter(ScheduledExecutorService scheduler) {
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.add(new ArrayList<>());
+		}
+		scheduler.scheduleAtFixedRate(this::tick, 1, 1, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Waits for an interaction on the message. If the guild or DM channel already has too many pending waiters, the
+	 * oldest one is timed out early
+	 */
+	public <T extends GenericEvent> void waitForEvent(
+		Message message,
+		Class<T> classType,
+		Predicate<T> condition,
+		Consumer<T> action,
+		long timeout,
+		TimeUnit unit,
+		Runnable timeoutAction
+	) {
+		// Direct messages are limited per channel so one user's DMs cannot evict another's waiters
+		String scopeId = message.isFromGuild() ? message.getGuild().getId() : "dm:" + message.getChannel().getId();
+		Waiter<?> evicted = null;
+
+		synchronized (this) {
+			long deadlineTick = currentTick + Math.max(1, (unit.toMillis(timeout) + 999) / 1000);
+			Waiter<T> waiter = new Waiter<>(message.getId(), scopeId, classType, condition, action, timeoutAction, deadlineTick);
+			messageIdToWaiters.computeIfAbsent(waiter.messageId, k -> new ArrayList<>(1)).add(waiter);
+			wheel.get((int) (deadlineTick % WHEEL_SIZE)).add(waiter);
+
+			LinkedHashSet<Waiter<?>> scopeWaiters = scopeIdToWaiters.computeIfAbsent(scopeId, k -> new LinkedHashSet<>());
+			scopeWaiters.add(waiter);
+			if (scopeWaiters.size() > MAX_WAITERS_PER_SCOPE) {
+				evicted = scopeWaiters.iterator().next();
+				remove(evicted);
+			}
+		}
+
+		if (evicted != null) {
+			runSafely(evicted.timeoutAction);
+		}
+	}
+
+	@Override
+	public void onEvent(@NotNull GenericEvent event) {
+		String messageId = null;
+		if (event instanceof GenericComponentInteractionCreateEvent componentEvent) {
+			messageId = componentEvent.getMessageId();
+		} else if (event instanceof ModalInteractionEvent modalEvent && modalEvent.getMessage() != null) {
+			messageId = modalEvent.getMessage().getId();
+		}
+		if (messageId == null) {
+			return;
+		}
+
+		List<Waiter<?>> waiters;
+		synchronized (this) {
+			List<Waiter<?>> messageWaiters = messageIdToWaiters.get(messageId);
+			if (messageWaiters == null) {
+				return;
+			}
+			waiters = new ArrayList<>(messageWaiters);
+		}
+
+		for (Waiter<?> waiter : waiters) {
+			if (waiter.matches(event)) {
+				synchronized (this) {
+					// Another interaction or the timeout may have claimed this waiter first
+					if (waiter.done) {
+						continue;
+					}
+					remove(waiter);
+				}
+				waiter.accept(event);
+			}
+		}
+	}
+
+	private void tick() {
+		List<Waiter<?>> expired = new ArrayList<>();
+		synchronized (this) {
+			currentTick++;
+			Iterator<Waiter<?>> iterator = wheel.get((int) (currentTick % WHEEL_SIZE)).iterator();
+			while (iterator.hasNext()) {
+				Waiter<?> waiter = iterator.next();
+				if (waiter.done) {
+					iterator.remove();
+				} else if (waiter.deadlineTick <= currentTick) {
+					iterator.remove();
+					remove(waiter);
+					expired.add(waiter);
+				}
+			}
+		}
+
+		for (Waiter<?> waiter : expired) {
+			runSafely(waiter.timeoutAction);
+		}
+	}
+
+	/**
+	 * Unregisters the waiter. Its wheel slot is cleaned up lazily by the next sweep of that slot
+	 */
+	private void remove(Waiter<?> waiter) {
+		waiter.done = true;
+
+		List<Waiter<?>> messageWaiters = messageIdToWaiters.get(waiter.messageId);
+		if (messageWaiters != null) {
+			messageWaiters.remove(waiter);
+			if (messageWaiters.isEmpty()) {
+				messageIdToWaiters.remove(waiter.messageId);
+			}
+		}
+
+		LinkedHashSet<Waiter<?>> scopeWaiters = scopeIdToWaiters.get(waiter.scopeId);
+		if (scopeWaiters != null) {
+			scopeWaiters.remove(waiter);
+			if (scopeWaiters.isEmpty()) {
+				scopeIdToWaiters.remove(waiter.scopeId);
+			}
+		}
+	}
+
+	private static void runSafely(Runnable runnable) {
+		try {
+			if (runnable != null) {
+				runnable.run();
+			}
+		} catch (Exception e) {
+			globalExceptionHandler.uncaughtException(Thread.currentThread(), e);
+		}
+	}
+
+	private static class Waiter<T extends GenericEvent> {
+
+		private final String messageId;
+		/** Guild id or the DM channel id */
+		private final String scopeId;
+		private final Class<T> classType;
+		private final Predicate<T> condition;
+		private final Consumer<T> action;
+		private final Runnable timeoutAction;
+		private final long deadlineTick;
+		/** Guarded by the router */
+		private boolean done = false;
+
+		private Waiter(
+			String messageId,
+			String scopeId,
+			Class<T> classType,
+			Predicate<T> condition,
+			Consumer<T> action,
+			Runnable timeoutAction,
+			long deadlineTick
+		) {
+			this.messageId = messageId;
+			this.scopeId = scopeId;
+			this.classType = classType;
+			this.condition = condition;
+			this.action = action;
+			this.timeoutAction = timeoutAction;
+			this.deadlineTick = deadlineTick;
+		}
+
+		private boolean matches(GenericEvent event) {
+			return classType.isInstance(event) && condition.test(classType.cast(event));
+		}
+
+		private void accept(GenericEvent event) {
+			action.accept(classType.cast(event));
+		}
+	}
+}
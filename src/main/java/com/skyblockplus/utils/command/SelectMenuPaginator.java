@@ -37,7 +37,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.utils.Utils.ignore;
-import static com.skyblockplus.utils.utils.Utils.waiter;
+import static com.skyblockplus.utils.utils.Utils.interactionRouter;
 
 public class SelectMenuPaginator {
 
@@ -143,7 +143,8 @@ public class SelectMenuPaginator {
 	}
 
 	public void waitForEvent() {
-		waiter.waitForEvent(
+		interactionRouter.waitForEvent(
+			message,
 			GenericComponentInteractionCreateEvent.class,
 			this::condition,
 			this::action,
@@ -22,12 +22,15 @@ import com.skyblockplus.utils.structs.AutoCompleteEvent;
 import net.dv8tion.jda.api.interactions.commands.build.SlashCommandData;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public abstract class SlashCommand extends AbstractSlashCommand {
 
 	protected final List<Subcommand> subcommands = new ArrayList<>();
+	private final Map<String, Subcommand> subcommandsByName = new HashMap<>();
 
 	protected void run(SlashCommandEvent event) {
 		if (!subcommands.isEmpty() && event.getSubcommandName() != null) {
@@ -48,6 +51,11 @@ public abstract class SlashCommand extends AbstractSlashCommand {
 		return name;
 	}
 
+	@Override
+	protected CommandExecutionClass getExecutionClass() {
+		return executionClass != null ? executionClass : CommandExecutionClass.HYPIXEL;
+	}
+
 	protected abstract SlashCommandData getCommandData();
 
 	protected void addSubcommand(Subcommand subcommand) {
@@ -57,10 +65,11 @@ public abstract class SlashCommand extends AbstractSlashCommand {
 
 		subcommand.superCommand = this;
 		subcommands.add(subcommand);
+		subcommandsByName.put(subcommand.getName(), subcommand);
 	}
 
 	private Subcommand getSubcommand(String subcommandName) {
-		return subcommands.stream().filter(s -> s.name.equals(subcommandName)).findAny().orElse(null);
+		return subcommandsByName.get(subcommandName);
 	}
 
 	protected void onAutoCompleteInternal(AutoCompleteEvent event) {
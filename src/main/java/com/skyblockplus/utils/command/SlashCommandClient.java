@@ -34,9 +34,10 @@ import static com.skyblockplus.utils.utils.Utils.errorEmbed;
 public class SlashCommandClient extends ListenerAdapter {
 
 	private final List<SlashCommand> slashCommands;
+	private final Map<String, SlashCommand> slashCommandsByName = new HashMap<>();
 
 	@Getter
-	private final Map<String, Integer> commandUses = new HashMap<>();
+	private final CommandMetrics commandMetrics = new CommandMetrics();
 
 	private String ownerId;
 
@@ -46,7 +47,7 @@ public class SlashCommandClient extends ListenerAdapter {
 
 	public SlashCommandClient addCommands(Collection<SlashCommand> commands) {
 		for (SlashCommand command : commands) {
-			if (slashCommands.stream().anyMatch(cmd -> cmd.getName().equalsIgnoreCase(command.getName()))) {
+			if (slashCommandsByName.containsKey(command.getName().toLowerCase())) {
 				Main.log.error(
 					"",
 					new IllegalArgumentException("Tried to add a command name that has already been indexed: " + command.getName())
@@ -66,6 +67,7 @@ public class SlashCommandClient extends ListenerAdapter {
 				}
 
 				slashCommands.add(command);
+				slashCommandsByName.put(command.getName().toLowerCase(), command);
 			}
 		}
 		return this;
@@ -88,11 +90,10 @@ public class SlashCommandClient extends ListenerAdapter {
 		}
 
 		SlashCommandEvent slashCommandEvent = new SlashCommandEvent(event, this);
-		for (SlashCommand command : slashCommands) {
-			if (command.getName().equals(event.getName())) {
-				command.run(slashCommandEvent);
-				return;
-			}
+		SlashCommand command = getCommand(event.getName());
+		if (command != null) {
+			command.run(slashCommandEvent);
+			return;
 		}
 
 		event.replyEmbeds(slashCommandEvent.invalidCommandMessage().build()).setEphemeral(true).queue();
@@ -104,11 +105,9 @@ public class SlashCommandClient extends ListenerAdapter {
 			return;
 		}
 
-		for (SlashCommand slashCommand : slashCommands) {
-			if (slashCommand.getName().equals(event.getName())) {
-				slashCommand.onAutoCompleteInternal(new AutoCompleteEvent(event));
-				break;
-			}
+		SlashCommand command = getCommand(event.getName());
+		if (command != null) {
+			command.onAutoCompleteInternal(new AutoCompleteEvent(event));
 		}
 	}
 
@@ -116,11 +115,23 @@ public class SlashCommandClient extends ListenerAdapter {
 		return slashCommands;
 	}
 
+	/**
+	 * @return command with the exact name or null if none exists
+	 */
+	private SlashCommand getCommand(String name) {
+		SlashCommand command = slashCommandsByName.get(name.toLowerCase());
+		return command != null && command.getName().equals(name) ? command : null;
+	}
+
 	public boolean isOwner(String userId) {
 		return userId.equals(ownerId);
 	}
 
+	public Map<String, Integer> getCommandUses() {
+		return commandMetrics.getUses();
+	}
+
 	public void setCommandUses(Map<String, Integer> commandUsage) {
-		commandUsage.forEach((key, value) -> commandUses.merge(key, value, Integer::sum));
+		commandMetrics.addUses(commandUsage);
 	}
 }
@@ -34,6 +34,11 @@ public abstract class Subcommand extends AbstractSlashCommand {
 		return superCommand.getFullName() + " " + name;
 	}
 
+	@Override
+	protected CommandExecutionClass getExecutionClass() {
+		return executionClass != null ? executionClass : superCommand.getExecutionClass();
+	}
+
 	@Override
 	protected boolean isDisabled() {
 		return disable || superCommand.isDisabled();
@@ -48,8 +48,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 
 import static com.skyblockplus.utils.ApiHandler.leaderboardDatabase;
 import static com.skyblockplus.utils.utils.Utils.gson;
@@ -60,8 +61,14 @@ public class Database {
 
 	public final ServerSettingsService settingsService;
 	public final HikariDataSource dataSource;
-	private final List<LinkedAccount> linkedAccountsCache = new ArrayList<>();
-	private Instant linkedAccountsCacheLastUpdated = null;
+	private volatile LinkedAccountIndex linkedAccountIndex = LinkedAccountIndex.EMPTY;
+	/** Serializes changes to the linked account index so each one builds on the last without retrying */
+	private final Object linkedAccountIndexLock = new Object();
+	/** Changes made while a refresh reads the table, or null if no refresh is running. Guarded by linkedAccountIndexLock */
+	private List<UnaryOperator<LinkedAccountIndex>> linkedAccountIndexJournal = null;
+	private final AtomicBoolean linkedAccountIndexRefreshing = new AtomicBoolean(false);
+	private volatile Instant linkedAccountIndexLastRefresh = null;
+	private Instant linkedAccountIndexLastReload = null;
 
 	@Autowired
 	public Database(ServerSettingsService settingsService, HikariDataSource dataSource) {
@@ -272,6 +279,7 @@ public class Database {
 				statement.setString(3, username);
 				statement.setString(4, uuid);
 				if (statement.executeUpdate() == 1) {
+					updateLinkedAccountIndex(index -> index.withUpserts(List.of(linkedAccount), false));
 					if (!upsert) {
 						leaderboardDatabase.insertIfNotExist(uuid);
 					}
@@ -297,31 +305,117 @@ public class Database {
 		return getBy("discord", discord);
 	}
 
+	/**
+	 * @return linked accounts of the uuids that are linked, keyed by uuid
+	 */
+	public Map<String, LinkedAccount> getByUuids(Collection<String> uuids) {
+		Map<String, LinkedAccount> linkedAccounts = new HashMap<>();
+		if (uuids.isEmpty()) {
+			return linkedAccounts;
+		}
+
+		try (
+			Connection connection = getConnection();
+			PreparedStatement statement = connection.prepareStatement("SELECT * FROM linked_account WHERE uuid = ANY(?)")
+		) {
+			statement.setArray(1, connection.createArrayOf("text", uuids.toArray()));
+			try (ResultSet response = statement.executeQuery()) {
+				while (response.next()) {
+					LinkedAccount linkedAccount = responseToRecord(response);
+					linkedAccounts.put(linkedAccount.uuid(), linkedAccount);
+				}
+			}
+		} catch (Exception ignored) {}
+		return linkedAccounts;
+	}
+
 	public List<LinkedAccount> getAllLinkedAccountsCached() {
-		if (linkedAccountsCacheLastUpdated == null || Duration.between(linkedAccountsCacheLastUpdated, Instant.now()).toMinutes() >= 1) {
-			linkedAccountsCacheLastUpdated = Instant.now();
-			getAllLinkedAccounts();
+		return getLinkedAccountIndex().getAll();
+	}
+
+	/**
+	 * @return index of all linked accounts which is refreshed at most once a minute. Only the first call waits for the
+	 * index to load, later calls return the current index while one caller refreshes it
+	 */
+	public LinkedAccountIndex getLinkedAccountIndex() {
+		if (linkedAccountIndexLastRefresh == null) {
+			synchronized (linkedAccountIndexRefreshing) {
+				if (linkedAccountIndexLastRefresh == null) {
+					refreshLinkedAccountIndex();
+				}
+			}
+		} else if (
+			Duration.between(linkedAccountIndexLastRefresh, Instant.now()).toMinutes() >= 1 &&
+			linkedAccountIndexRefreshing.compareAndSet(false, true)
+		) {
+			try {
+				refreshLinkedAccountIndex();
+			} finally {
+				linkedAccountIndexRefreshing.set(false);
+			}
 		}
 
-		return linkedAccountsCache;
+		return linkedAccountIndex;
 	}
 
-	private List<LinkedAccount> getAllLinkedAccounts() {
+	/**
+	 * Loads accounts updated since the index watermark. The whole table is reloaded hourly to drop accounts that were
+	 * deleted outside this instance
+	 */
+	private void refreshLinkedAccountIndex() {
+		linkedAccountIndexLastRefresh = Instant.now();
+		boolean reload =
+			linkedAccountIndexLastReload == null || Duration.between(linkedAccountIndexLastReload, Instant.now()).toHours() >= 1;
+
+		synchronized (linkedAccountIndexLock) {
+			linkedAccountIndexJournal = new ArrayList<>();
+		}
 		try (
 			Connection connection = getConnection();
-			PreparedStatement statement = connection.prepareStatement("SELECT * FROM linked_account")
+			PreparedStatement statement = connection.prepareStatement(
+				reload ? "SELECT * FROM linked_account" : "SELECT * FROM linked_account WHERE last_updated >= ?"
+			)
 		) {
+			if (!reload) {
+				statement.setLong(1, linkedAccountIndex.getWatermark());
+			}
+
 			try (ResultSet response = statement.executeQuery()) {
-				synchronized (linkedAccountsCache) {
-					linkedAccountsCache.clear();
-					while (response.next()) {
-						linkedAccountsCache.add(responseToRecord(response));
+				List<LinkedAccount> linkedAccounts = new ArrayList<>();
+				while (response.next()) {
+					linkedAccounts.add(responseToRecord(response));
+				}
+
+				synchronized (linkedAccountIndexLock) {
+					// Rows read before a concurrent link or unlink would undo it, so replay those changes on top
+					LinkedAccountIndex index = (reload ? LinkedAccountIndex.EMPTY : linkedAccountIndex).withUpserts(linkedAccounts, true);
+					for (UnaryOperator<LinkedAccountIndex> change : linkedAccountIndexJournal) {
+						index = change.apply(index);
 					}
+					linkedAccountIndex = index;
+					linkedAccountIndexJournal = null;
+				}
+				if (reload) {
+					linkedAccountIndexLastReload = linkedAccountIndexLastRefresh;
 				}
-				return linkedAccountsCache;
 			}
-		} catch (Exception ignored) {}
-		return null;
+		} catch (Exception ignored) {
+			synchronized (linkedAccountIndexLock) {
+				linkedAccountIndexJournal = null;
+			}
+		}
+	}
+
+	/**
+	 * Builds the next index from the current one and publishes it with a single write
+	 */
+	private void updateLinkedAccountIndex(UnaryOperator<LinkedAccountIndex> change) {
+		synchronized (linkedAccountIndexLock) {
+			linkedAccountIndex = change.apply(linkedAccountIndex);
+			if (linkedAccountIndexJournal != null) {
+				linkedAccountIndexJournal.add(change);
+			}
+		}
 	}
 
 	public int getNumLinkedAccounts() {
@@ -393,7 +487,9 @@ public class Database {
 
 			try (ResultSet response = statement.executeQuery()) {
 				if (response.next()) {
-					TokenData.updateLinkedRolesMetadata(response.getString("discord"), null, null, false);
+					String discord = response.getString("discord");
+					updateLinkedAccountIndex(index -> index.withoutDiscord(discord));
+					TokenData.updateLinkedRolesMetadata(discord, null, null, false);
 					return true;
 				}
 			}
@@ -20,6 +20,7 @@ package com.skyblockplus.utils.database;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
@@ -30,9 +31,12 @@ import com.skyblockplus.features.jacob.JacobData;
 import com.skyblockplus.features.jacob.JacobHandler;
 import com.skyblockplus.features.listeners.AutomaticGuild;
 import com.skyblockplus.features.party.Party;
+import com.skyblockplus.miscellaneous.networth.NetworthBatch;
 import com.skyblockplus.price.AuctionTracker;
+import com.skyblockplus.utils.HypixelRequestScheduler;
 import com.skyblockplus.utils.Player;
 import com.skyblockplus.utils.command.SlashCommandEvent;
+import com.skyblockplus.utils.exceptionhandler.ExceptionExecutor;
 import com.skyblockplus.utils.oauth.TokenData;
 import com.skyblockplus.utils.structs.HypixelResponse;
 import com.skyblockplus.utils.structs.UsernameUuidStruct;
@@ -49,6 +53,8 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static com.skyblockplus.features.listeners.MainListener.guildMap;
@@ -124,6 +130,11 @@ public class LeaderboardDatabase {
 	);
 	private static final List<String> typesSubList = new ArrayList<>();
 	private static final Logger log = LoggerFactory.getLogger(LeaderboardDatabase.class);
+	private static final int JSON_CACHE_BATCH_SIZE = 250;
+	private static final int LEADERBOARD_REFRESH_BATCH_SIZE = 120;
+	private static final int LEADERBOARD_REFRESH_WRITE_BATCH_SIZE = 30;
+	/** Heap budget of the rank indexes, each entry takes roughly 100 to 150 bytes */
+	private static final long RANK_INDEX_MAX_BYTES = Long.getLong("rankIndexMaxBytes", 512L * 1024 * 1024);
 
 	static {
 		types.addAll(collectionNameToId.keySet());
@@ -147,18 +158,79 @@ public class LeaderboardDatabase {
 	private ScheduledFuture<?> leaderboardUpdateTask;
 	private int numLeaderboardUpdates = 0;
 	private final Cache<String, Boolean> failedUpdates = Caffeine.newBuilder().expireAfterWrite(12, TimeUnit.HOURS).build();
-	private final Map<CacheId, Long> cacheIdToExpiry = new ConcurrentHashMap<>();
+	/** Stale players seen in recent lookups which are refreshed before the rest of the sweep */
+	private final Cache<String, Boolean> prioritizedRefreshes = Caffeine.newBuilder().maximumSize(5000).build();
+	private final ExceptionExecutor leaderboardRefreshExecutor = new ExceptionExecutor(
+		8,
+		8,
+		45L,
+		TimeUnit.SECONDS,
+		new LinkedBlockingQueue<>()
+	)
+		.setAllowCoreThreadTimeOut(true);
+	/* Keyset cursor of the stranded_lb sweep, only accessed by the update task */
+	private long refreshCursorLastUpdated = Long.MIN_VALUE;
+	private UUID refreshCursorUuid = new UUID(0, 0);
+	private final Map<CacheKey, CacheId> cacheKeyToId = new ConcurrentHashMap<>();
+	/** Write-behind queue of json_cache upserts, flushed in batches by size or every second */
+	private final BlockingQueue<PendingJsonCache> jsonCacheWriteQueue = new LinkedBlockingQueue<>(10000);
+	private final AtomicBoolean jsonCacheFlushing = new AtomicBoolean(false);
+	/** In-memory tier in front of the json_cache table, weighted by serialized size */
+	private final Cache<String, CachedJson> jsonCache = Caffeine
+		.newBuilder()
+		.maximumWeight(256 * 1024 * 1024)
+		.weigher((String id, CachedJson cachedJson) -> cachedJson.size())
+		.expireAfterWrite(90, TimeUnit.SECONDS)
+		.build();
+	/**
+	 * Rank indexes of leaderboard columns, loaded the first time a column is queried and kept current by inserts. Weighed
+	 * by estimated bytes and reweighed as the indexes grow, which does not reset their expiry
+	 */
+	private final Cache<RankIndexKey, LeaderboardRankIndex> rankIndexes = Caffeine
+		.newBuilder()
+		.maximumWeight(RANK_INDEX_MAX_BYTES)
+		.weigher((RankIndexKey key, LeaderboardRankIndex index) -> (int) Math.min(index.estimatedBytes(), Integer.MAX_VALUE))
+		.expireAfter(
+			new Expiry<RankIndexKey, LeaderboardRankIndex>() {
+				@Override
+				public long expireAfterCreate(RankIndexKey key, LeaderboardRankIndex index, long currentTime) {
+					return TimeUnit.HOURS.toNanos(6);
+				}
+
+				@Override
+				public long expireAfterUpdate(RankIndexKey key, LeaderboardRankIndex index, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+
+				@Override
+				public long expireAfterRead(RankIndexKey key, LeaderboardRankIndex index, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			}
+		)
+		.build();
+	private final Set<RankIndexKey> loadingRankIndexes = ConcurrentHashMap.newKeySet();
 	public final Map<String, List<Party>> parties = new HashMap<>();
 
 	public LeaderboardDatabase() {
 		HikariConfig config = new HikariConfig();
 		config.setJdbcUrl(LEADERBOARD_DB_URL);
-		config.setMaximumPoolSize(20);
+		config.setMaximumPoolSize(LEADERBOARD_DB_POOL_SIZE);
 		config.setPoolName("Leaderbord Database Pool");
 		dataSource = new HikariDataSource(config);
 
 		if (!IS_DEV) {
-			leaderboardUpdateTask = scheduler.scheduleAtFixedRate(this::updateLeaderboard, 1, 1, TimeUnit.MINUTES);
+			leaderboardUpdateTask =
+				scheduler.scheduleAtFixedRate(
+					() -> HypixelRequestScheduler.runWithPriority(HypixelRequestScheduler.Priority.BACKGROUND, this::updateLeaderboard),
+					1,
+					1,
+					TimeUnit.MINUTES
+				);
+
+			for (Player.Gamemode gamemode : leaderboardGamemodes) {
+				getRankIndex("networth", gamemode);
+			}
 		}
 	}
 
@@ -205,19 +277,46 @@ public class LeaderboardDatabase {
 	public void insertIntoLeaderboard(List<Player.Profile> players) {
 		players.removeIf(p -> !p.isValid());
 		if (!players.isEmpty()) {
-			for (Player.Gamemode gamemode : leaderboardGamemodes) {
-				leaderboardDbInsertQueue.submit(() -> insertIntoLeaderboard(players, gamemode));
+			leaderboardDbInsertQueue.submit(() -> {
+				LeaderboardRows rows = extractRows(players);
+				for (Player.Gamemode gamemode : leaderboardGamemodes) {
+					leaderboardDbInsertQueue.submit(() -> insertIntoLeaderboard(rows, gamemode));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Computes every leaderboard column for every profile in one pass so the inserts for each gamemode only take maxima
+	 */
+	private LeaderboardRows extractRows(List<Player.Profile> players) {
+		boolean updateNetworth = players.size() == 1 || players.stream().noneMatch(p -> p.getProfileToNetworth().isEmpty());
+
+		List<double[][]> stats = new ArrayList<>();
+		for (Player.Profile player : players) {
+			List<Player.Profile> profiles = player.getProfiles();
+			double[][] playerStats = new double[profiles.size()][typesSubList.size()];
+			for (int profileIndex = 0; profileIndex < profiles.size(); profileIndex++) {
+				for (int column = 0; column < typesSubList.size(); column++) {
+					String type = typesSubList.get(column);
+					playerStats[profileIndex][column] =
+						type.equals("networth") && !updateNetworth ? 0 : Player.Profile.getAmount(profiles.get(profileIndex), type);
+				}
 			}
+			stats.add(playerStats);
 		}
+
+		return new LeaderboardRows(players, stats, updateNetworth);
 	}
 
-	private void insertIntoLeaderboard(List<Player.Profile> players, Player.Gamemode gamemode) {
+	private void insertIntoLeaderboard(LeaderboardRows rows, Player.Gamemode gamemode) {
+		List<Player.Profile> players = rows.players();
+		boolean updateNetworth = rows.updateNetworth();
+
 		try {
 			String paramStr = "?,".repeat(types.size() + 1); // Add 1 for last_updated
 			paramStr = paramStr.substring(0, paramStr.length() - 1);
 
-			boolean updateNetworth = players.size() == 1 || players.stream().noneMatch(p -> p.getProfileToNetworth().isEmpty());
-
 			try (
 				Connection connection = getConnection();
 				PreparedStatement statement = connection.prepareStatement(
@@ -239,6 +338,9 @@ public class LeaderboardDatabase {
 				)
 			) {
 				Object[][] params = new Object[types.size() + 1][players.size()];
+				Map<String, LinkedAccount> linkedAccounts = gamemode == Player.Gamemode.ALL
+					? database.getByUuids(players.stream().map(Player.Profile::getUuid).toList())
+					: Map.of();
 				for (int playerIndex = 0; playerIndex < players.size(); playerIndex++) {
 					Player.Profile player = players.get(playerIndex);
 
@@ -248,16 +350,14 @@ public class LeaderboardDatabase {
 
 					for (int paramIndex = 0; paramIndex < typesSubList.size(); paramIndex++) {
 						String type = typesSubList.get(paramIndex);
-						double value = type.equals("networth") && !updateNetworth ? 0 : player.getHighestAmount(type, gamemode, true);
+						double value = type.equals("networth") && !updateNetworth ? 0 : rows.getHighest(playerIndex, paramIndex, gamemode);
 
 						params[paramIndex + 3][playerIndex] = value < 0 ? null : value;
 					}
 
-					if (gamemode == Player.Gamemode.ALL) {
-						LinkedAccount linkedAccount = database.getByUuid(player.getUuid());
-						if (linkedAccount != null) {
-							TokenData.updateLinkedRolesMetadata(linkedAccount.discord(), linkedAccount, player, true);
-						}
+					LinkedAccount linkedAccount = linkedAccounts.get(player.getUuid());
+					if (linkedAccount != null) {
+						TokenData.updateLinkedRolesMetadata(linkedAccount.discord(), linkedAccount, player, true);
 					}
 				}
 
@@ -271,9 +371,7 @@ public class LeaderboardDatabase {
 								case 2 -> "bigint";
 								default -> {
 									String type = typesSubList.get(i - 3);
-									yield type.equals("highest_critical_damage") || type.equals("highest_damage")
-										? "double precision"
-										: "real";
+									yield isDoublePrecision(type) ? "double precision" : "real";
 								}
 							},
 							params[i]
@@ -282,24 +380,46 @@ public class LeaderboardDatabase {
 				}
 
 				statement.executeUpdate();
+				updateRankIndexes(gamemode, params, updateNetworth);
 			}
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 	}
 
+	private static boolean isDoublePrecision(String type) {
+		return type.equals("highest_critical_damage") || type.equals("highest_damage");
+	}
+
+	/**
+	 * Leaderboard column values of a batch of players, indexed by player, then profile, then column
+	 */
+	private record LeaderboardRows(List<Player.Profile> players, List<double[][]> stats, boolean updateNetworth) {
+		private double getHighest(int playerIndex, int column, Player.Gamemode gamemode) {
+			List<Player.Profile> profiles = players.get(playerIndex).getProfiles();
+			double[][] playerStats = stats.get(playerIndex);
+			double highestAmount = -1.0;
+			for (int profileIndex = 0; profileIndex < profiles.size(); profileIndex++) {
+				if (profiles.get(profileIndex).isInGamemode(gamemode, true)) {
+					highestAmount = Math.max(playerStats[profileIndex][column], highestAmount);
+				}
+			}
+			return highestAmount;
+		}
+	}
+
 	/** Sync insert into requestedGamemode and async insert for other gamemodes */
 	public void insertIntoLeaderboardSync(Player.Profile player, Player.Gamemode requestedGamemode) {
 		if (!player.isValid()) {
 			return;
 		}
 
-		List<Player.Profile> players = List.of(player);
-		insertIntoLeaderboard(players, requestedGamemode);
+		LeaderboardRows rows = extractRows(List.of(player));
+		insertIntoLeaderboard(rows, requestedGamemode);
 		leaderboardDbInsertQueue.submit(() -> {
 			for (Player.Gamemode gamemode : leaderboardGamemodes) {
 				if (gamemode != requestedGamemode) {
-					insertIntoLeaderboard(players, gamemode);
+					insertIntoLeaderboard(rows, gamemode);
 				}
 			}
 		});
@@ -312,11 +432,142 @@ public class LeaderboardDatabase {
 		) {
 			statement.setObject(1, stringToUuid(uuid));
 			statement.executeUpdate();
+
+			rankIndexes.asMap().forEach((key, index) -> {
+				if (key.mode() == gamemode) {
+					index.update(stringToUuid(uuid), null);
+				}
+			});
 		} catch (SQLException e) {
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * @return rank index of the column or null while it is loading, in which case the table should be queried directly
+	 */
+	private LeaderboardRankIndex getRankIndex(String lbType, Player.Gamemode mode) {
+		if (!typeToNameSubMap.containsKey(lbType)) {
+			return null;
+		}
+
+		RankIndexKey key = new RankIndexKey(lbType, mode);
+		LeaderboardRankIndex index = rankIndexes.getIfPresent(key);
+		if (index == null && loadingRankIndexes.add(key)) {
+			executor.submit(() -> {
+				try {
+					loadRankIndex(key);
+				} finally {
+					loadingRankIndexes.remove(key);
+				}
+			});
+		}
+		return index;
+	}
+
+	private void loadRankIndex(RankIndexKey key) {
+		String lbType = key.lbType();
+		String tableName = key.mode().toLeaderboardName();
+		long loadStart = Instant.now().toEpochMilli();
+
+		try (Connection connection = getConnection()) {
+			LeaderboardRankIndex index;
+			// Cursor based fetching only works outside of auto commit
+			connection.setAutoCommit(false);
+			try (
+				PreparedStatement statement = connection.prepareStatement(
+					"SELECT uuid, " + lbType + " FROM " + tableName + " WHERE " + lbType + " IS NOT NULL ORDER BY " + lbType + " DESC, uuid"
+				)
+			) {
+				statement.setFetchSize(10000);
+
+				int size = 0;
+				long[] mostSigBits = new long[65536];
+				long[] leastSigBits = new long[65536];
+				double[] values = new double[65536];
+				try (ResultSet response = statement.executeQuery()) {
+					while (response.next()) {
+						double value = response.getDouble(lbType);
+						if (Double.isNaN(value)) {
+							continue;
+						}
+
+						if (size == values.length) {
+							mostSigBits = Arrays.copyOf(mostSigBits, size * 2);
+							leastSigBits = Arrays.copyOf(leastSigBits, size * 2);
+							values = Arrays.copyOf(values, size * 2);
+						}
+						UUID uuid = response.getObject("uuid", UUID.class);
+						mostSigBits[size] = uuid.getMostSignificantBits();
+						leastSigBits[size] = uuid.getLeastSignificantBits();
+						values[size] = value + 0.0; // Postgres orders -0 and 0 as equal
+						size++;
+					}
+				}
+				index = new LeaderboardRankIndex(mostSigBits, leastSigBits, values, size);
+			}
+			connection.commit();
+			connection.setAutoCommit(true);
+
+			// Cache before catching up so no insert is missed between the two. Players updated by an insert since then
+			// already have a value at least as new as their catch-up row
+			index.beginCatchUp();
+			rankIndexes.put(key, index);
+			try (
+				PreparedStatement statement = connection.prepareStatement(
+					"SELECT uuid, " + lbType + " FROM " + tableName + " WHERE last_updated >= ?"
+				)
+			) {
+				statement.setLong(1, loadStart);
+				try (ResultSet response = statement.executeQuery()) {
+					while (response.next()) {
+						double value = response.getDouble(lbType);
+						index.catchUp(response.getObject("uuid", UUID.class), response.wasNull() ? null : value + 0.0);
+					}
+				}
+			} finally {
+				index.endCatchUp();
+			}
+			reweighRankIndex(key, index);
+
+			log.info("Loaded " + tableName + " " + lbType + " rank index with " + index.size() + " entries");
+		} catch (Exception e) {
+			log.error("Failed to load " + key.mode().toLeaderboardName() + " " + lbType + " rank index", e);
+		}
+	}
+
+	private void updateRankIndexes(Player.Gamemode gamemode, Object[][] params, boolean updateNetworth) {
+		rankIndexes.asMap().forEach((key, index) -> {
+			if (key.mode() != gamemode || (key.lbType().equals("networth") && !updateNetworth)) {
+				return;
+			}
+
+			int column = typesSubList.indexOf(key.lbType()) + 3;
+			boolean isReal = !isDoublePrecision(key.lbType());
+			for (int playerIndex = 0; playerIndex < params[0].length; playerIndex++) {
+				Double value = (Double) params[column][playerIndex];
+				// Match the precision the value is stored with
+				index.update((UUID) params[0][playerIndex], value == null ? null : isReal ? (double) value.floatValue() : value + 0.0);
+			}
+			reweighRankIndex(key, index);
+		});
+	}
+
+	/**
+	 * Updates the cache weight once the index grew or shrank, which happens when a block splits or the uuid map resizes
+	 */
+	private void reweighRankIndex(RankIndexKey key, LeaderboardRankIndex index) {
+		int weight = (int) Math.min(index.estimatedBytes(), Integer.MAX_VALUE);
+		rankIndexes
+			.policy()
+			.eviction()
+			.ifPresent(eviction -> {
+				if (eviction.weightOf(key).orElse(weight) != weight) {
+					rankIndexes.asMap().replace(key, index, index);
+				}
+			});
+	}
+
 	private double getDouble(ResultSet row, String lbType) throws SQLException {
 		return switch (lbType) {
 			case "alchemy",
@@ -357,6 +608,12 @@ public class LeaderboardDatabase {
 	public Map<Integer, DataObject> getLeaderboard(String lbType, Player.Gamemode mode, int rankStart, int rankEnd) {
 		rankStart = Math.max(0, rankStart);
 		rankEnd = Math.max(rankStart, rankEnd);
+
+		LeaderboardRankIndex index = getRankIndex(lbType, mode);
+		if (index != null) {
+			return getLeaderboardPage(lbType, mode, index.getPage(rankStart, rankEnd));
+		}
+
 		try (
 			Connection connection = getConnection();
 			PreparedStatement statement = connection.prepareStatement(
@@ -391,6 +648,12 @@ public class LeaderboardDatabase {
 	}
 
 	public Map<Integer, DataObject> getLeaderboard(String lbType, Player.Gamemode mode, String uuid) {
+		LeaderboardRankIndex index = getRankIndex(lbType, mode);
+		if (index != null) {
+			int rank = index.getRank(stringToUuid(uuid));
+			return getLeaderboardPage(lbType, mode, index.getPage(rank - 200, rank + 200));
+		}
+
 		try (
 			Connection connection = getConnection();
 			PreparedStatement statement = connection.prepareStatement(
@@ -419,6 +682,12 @@ public class LeaderboardDatabase {
 	}
 
 	public Map<Integer, DataObject> getLeaderboard(String lbType, Player.Gamemode mode, double amount) {
+		LeaderboardRankIndex index = getRankIndex(lbType, mode);
+		if (index != null) {
+			int rank = index.countGreaterThan(amount);
+			return getLeaderboardPage(lbType, mode, index.getPage(rank - 200, rank + 200));
+		}
+
 		try (
 			Connection connection = getConnection();
 			PreparedStatement statement = connection.prepareStatement(
@@ -457,6 +726,43 @@ public class LeaderboardDatabase {
 		}
 	}
 
+	/**
+	 * Fills the usernames of ranks read from a rank index
+	 */
+	private Map<Integer, DataObject> getLeaderboardPage(String lbType, Player.Gamemode mode, List<LeaderboardRankIndex.Entry> entries) {
+		Map<Integer, DataObject> out = new TreeMap<>();
+		if (entries.isEmpty()) {
+			return out;
+		}
+
+		try (
+			Connection connection = getConnection();
+			PreparedStatement statement = connection.prepareStatement(
+				"SELECT uuid, username FROM " + mode.toLeaderboardName() + " WHERE uuid = ANY(?)"
+			)
+		) {
+			statement.setArray(1, connection.createArrayOf("uuid", entries.stream().map(LeaderboardRankIndex.Entry::uuid).toArray()));
+
+			Map<UUID, String> usernames = new HashMap<>();
+			try (ResultSet response = statement.executeQuery()) {
+				while (response.next()) {
+					usernames.put(response.getObject("uuid", UUID.class), response.getString("username"));
+				}
+			}
+
+			for (LeaderboardRankIndex.Entry entry : entries) {
+				String username = usernames.get(entry.uuid());
+				if (username != null) {
+					out.put(entry.rank(), DataObject.empty().put("username", username).put(lbType, entry.value()));
+				}
+			}
+			return out;
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return null;
+	}
+
 	public List<DataObject> getPlayers(List<String> lbTypes, Player.Gamemode mode, List<String> uuids, SlashCommandEvent event) {
 		if (uuids.isEmpty()) {
 			return new ArrayList<>();
@@ -537,6 +843,7 @@ public class LeaderboardDatabase {
 						.put("username", response.getString("username"))
 						.put("uuid", uuid)
 						.put("last_updated", response.getLong("last_updated"));
+					prioritizeRefreshIfStale(uuid, response.getLong("last_updated"));
 					for (String lbType : lbTypes) {
 						playerObj.put(lbType, getDouble(response, lbType));
 					}
@@ -561,45 +868,44 @@ public class LeaderboardDatabase {
 			return new ArrayList<>();
 		}
 
-		List<DataObject> out = new ArrayList<>();
-		List<Player.Profile> players = new ArrayList<>();
-		List<CompletableFuture<DataObject>> futuresList = new ArrayList<>();
+		List<CompletableFuture<Player.Profile>> futuresList = new ArrayList<>();
 		for (String uuid : uuids) {
-			futuresList.add(
-				CompletableFuture.supplyAsync(
-					() -> {
-						Player.Profile player = new Player(uuid, false).getSelectedProfile();
-						if (player.isValid()) {
-							players.add(player);
-
-							DataObject playerObj = DataObject
-								.empty()
-								.put("username", player.getUsername())
-								.put("uuid", uuid)
-								.put("last_updated", Instant.now().toEpochMilli());
-							for (String lbType : lbTypes) {
-								playerObj.put(lbType, player.getHighestAmount(lbType, mode));
-							}
-							return playerObj;
-						}
-						return null;
-					},
-					playerRequestExecutor
-				)
-			);
+			futuresList.add(CompletableFuture.supplyAsync(() -> new Player(uuid, false).getSelectedProfile(), playerRequestExecutor));
 		}
 
-		for (CompletableFuture<DataObject> future : futuresList) {
+		List<String> playerUuids = new ArrayList<>();
+		List<Player.Profile> players = new ArrayList<>();
+		for (int i = 0; i < futuresList.size(); i++) {
 			try {
-				DataObject getFuture = future.get();
-				if (getFuture != null) {
-					out.add(getFuture);
+				Player.Profile player = futuresList.get(i).get();
+				if (player.isValid()) {
+					playerUuids.add(uuids.get(i));
+					players.add(player);
 				}
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
 		}
 
+		// Value all profiles together so they share one price snapshot and pet auction queries
+		if (lbTypes.contains("networth")) {
+			NetworthBatch.cacheNetworths(players);
+		}
+
+		List<DataObject> out = new ArrayList<>();
+		for (int i = 0; i < players.size(); i++) {
+			Player.Profile player = players.get(i);
+			DataObject playerObj = DataObject
+				.empty()
+				.put("username", player.getUsername())
+				.put("uuid", playerUuids.get(i))
+				.put("last_updated", Instant.now().toEpochMilli());
+			for (String lbType : lbTypes) {
+				playerObj.put(lbType, player.getHighestAmount(lbType, mode));
+			}
+			out.add(playerObj);
+		}
+
 		insertIntoLeaderboard(players);
 
 		return out;
@@ -607,6 +913,12 @@ public class LeaderboardDatabase {
 
 	public Future<Integer> getNetworthPosition(Player.Gamemode gamemode, String uuid) {
 		return executor.submit(() -> {
+			LeaderboardRankIndex index = getRankIndex("networth", gamemode);
+			if (index != null) {
+				int rank = index.getRank(stringToUuid(uuid));
+				return rank == 0 ? -1 : rank;
+			}
+
 			try (
 				Connection connection = getConnection();
 				PreparedStatement statement = connection.prepareStatement(
@@ -663,68 +975,90 @@ public class LeaderboardDatabase {
 		return null;
 	}
 
+	/**
+	 * Refreshes stale players, starting with ones seen in recent lookups and then sweeping stranded_lb from least to most
+	 * recently updated. Players are fetched concurrently under the background rate limit and written back in batches
+	 */
 	private void updateLeaderboard() {
 		try {
 			long start = System.currentTimeMillis();
 
-			List<String> out = new ArrayList<>();
-			try (
-				Connection connection = getConnection();
-				PreparedStatement statement = connection.prepareStatement(
-					"SELECT uuid FROM stranded_lb WHERE last_updated < " +
-					Instant.now().minus(3, ChronoUnit.DAYS).toEpochMilli() +
-					" ORDER BY RANDOM() LIMIT 180"
-				)
-			) {
-				try (ResultSet response = statement.executeQuery()) {
-					while (response.next()) {
-						out.add(response.getString("uuid").replace("-", ""));
-					}
+			List<String> prioritizedUuids = new ArrayList<>();
+			for (String uuid : prioritizedRefreshes.asMap().keySet()) {
+				if (prioritizedUuids.size() >= LEADERBOARD_REFRESH_BATCH_SIZE / 2) {
+					break;
 				}
-			} catch (Exception e) {
-				e.printStackTrace();
-				return;
+				prioritizedRefreshes.invalidate(uuid);
+				prioritizedUuids.add(uuid);
+			}
+			int staleLimit = LEADERBOARD_REFRESH_BATCH_SIZE - prioritizedUuids.size();
+			List<StalePlayer> stalePlayers = getStaleLeaderboardPlayers(staleLimit);
+
+			Set<String> uuids = new LinkedHashSet<>(prioritizedUuids);
+			stalePlayers.forEach(stalePlayer -> uuids.add(stalePlayer.id()));
+			uuids.removeIf(uuid -> failedUpdates.getIfPresent(uuid) != null);
+
+			BlockingQueue<CompletableFuture<Player.Profile>> refreshes = new LinkedBlockingQueue<>();
+			Map<String, CompletableFuture<Player.Profile>> futures = new HashMap<>();
+			for (String uuid : uuids) {
+				CompletableFuture<Player.Profile> future = refreshLeaderboardPlayer(uuid);
+				future.whenComplete((profile, e) -> refreshes.add(future));
+				futures.put(uuid, future);
 			}
 
 			int count = 0;
+			Set<CompletableFuture<Player.Profile>> finished = new HashSet<>();
 			List<Player.Profile> players = new ArrayList<>();
-			for (String uuid : out) {
-				if (count >= 90 || System.currentTimeMillis() - start >= 55000) {
+			for (int i = 0; i < futures.size(); i++) {
+				long remaining = start + 55000 - System.currentTimeMillis();
+				CompletableFuture<Player.Profile> future = remaining > 0 ? refreshes.poll(remaining, TimeUnit.MILLISECONDS) : null;
+				if (future == null) {
 					break;
 				}
 
-				if (failedUpdates.getIfPresent(uuid) != null) {
-					continue;
+				count++;
+				finished.add(future);
+				Player.Profile profile = future.getNow(null);
+				if (profile != null) {
+					players.add(profile);
 				}
 
-				UsernameUuidStruct usernameUuidStruct = uuidToUsername(uuid);
-				if (usernameUuidStruct.isValid()) {
-					HypixelResponse profileResponse = skyblockProfilesFromUuid(usernameUuidStruct.uuid(), true, false);
-					count++;
-
-					if (profileResponse.isValid()) {
-						Player player = new Player(
-							usernameUuidStruct.username(),
-							usernameUuidStruct.uuid(),
-							profileResponse.response(),
-							false
-						);
-
-						if (player.isValid()) {
-							Player.Profile profile = player.getSelectedProfile();
-							profile.getHighestAmount("networth");
-							players.add(profile);
-							continue;
-						}
-					}
+				if (players.size() >= LEADERBOARD_REFRESH_WRITE_BATCH_SIZE) {
+					NetworthBatch.cacheNetworths(players);
+					insertIntoLeaderboard(players);
+					players = new ArrayList<>();
 				}
-
-				failedUpdates.put(uuid, true);
 			}
+			// Gives back queued rate limit permits and aborts fetches that are still running
+			futures.values().forEach(f -> f.cancel(true));
 
+			NetworthBatch.cacheNetworths(players);
 			insertIntoLeaderboard(players);
 			numLeaderboardUpdates++;
 
+			// Unfinished players are retried next run, so the cursor only moves past the finished prefix of the sweep
+			for (String uuid : prioritizedUuids) {
+				CompletableFuture<Player.Profile> future = futures.get(uuid);
+				if (future != null && !finished.contains(future)) {
+					prioritizedRefreshes.put(uuid, true);
+				}
+			}
+			boolean sweepFinished = true;
+			for (StalePlayer stalePlayer : stalePlayers) {
+				CompletableFuture<Player.Profile> future = futures.get(stalePlayer.id());
+				if (future != null && !finished.contains(future)) {
+					sweepFinished = false;
+					break;
+				}
+				refreshCursorLastUpdated = stalePlayer.lastUpdated();
+				refreshCursorUuid = stalePlayer.uuid();
+			}
+			if (sweepFinished && stalePlayers.size() < staleLimit) {
+				// Wrap around so players that failed to update do not block the sweep
+				refreshCursorLastUpdated = Long.MIN_VALUE;
+				refreshCursorUuid = new UUID(0, 0);
+			}
+
 			if (numLeaderboardUpdates % 10 == 0) {
 				System.out.println("Update Leaderboard | Time (" + (System.currentTimeMillis() - start) + "ms) | Users (" + count + ")");
 			}
@@ -733,6 +1067,112 @@ public class LeaderboardDatabase {
 		}
 	}
 
+	/**
+	 * @return up to limit stale players after the sweep cursor ordered by last_updated. The cursor is moved by the caller
+	 * once the players are refreshed
+	 */
+	private List<StalePlayer> getStaleLeaderboardPlayers(int limit) {
+		List<StalePlayer> out = new ArrayList<>();
+		if (limit <= 0) {
+			return out;
+		}
+
+		try (
+			Connection connection = getConnection();
+			PreparedStatement statement = connection.prepareStatement(
+				"SELECT uuid, last_updated FROM stranded_lb WHERE last_updated < ? AND (last_updated, uuid) > (?, ?) ORDER BY" +
+				" last_updated, uuid LIMIT ?"
+			)
+		) {
+			statement.setLong(1, Instant.now().minus(3, ChronoUnit.DAYS).toEpochMilli());
+			statement.setLong(2, refreshCursorLastUpdated);
+			statement.setObject(3, refreshCursorUuid);
+			statement.setInt(4, limit);
+
+			try (ResultSet response = statement.executeQuery()) {
+				while (response.next()) {
+					out.add(new StalePlayer(response.getObject("uuid", UUID.class), response.getLong("last_updated")));
+				}
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return out;
+	}
+
+	/**
+	 * @return the selected profile or null if the player failed to update. No thread is held while waiting for a
+	 * background rate limit permit, and cancelling the future cancels the queued permit and the running fetch
+	 */
+	private CompletableFuture<Player.Profile> refreshLeaderboardPlayer(String uuid) {
+		CompletableFuture<Player.Profile> future = new CompletableFuture<>();
+		Queue<CompletableFuture<?>> stages = new ConcurrentLinkedQueue<>();
+		Consumer<CompletableFuture<?>> track = stage -> {
+			stages.add(stage);
+			// Registered before checking so a concurrent cancel sees the stage either way
+			if (future.isCancelled()) {
+				stage.cancel(true);
+			}
+		};
+
+		CompletableFuture<UsernameUuidStruct> usernameStage = CompletableFuture.supplyAsync(
+			() -> uuidToUsername(uuid),
+			leaderboardRefreshExecutor
+		);
+		track.accept(usernameStage);
+		usernameStage
+			.thenCompose(usernameUuidStruct -> {
+				if (!usernameUuidStruct.isValid()) {
+					return CompletableFuture.completedFuture((Player.Profile) null);
+				}
+
+				CompletableFuture<HypixelResponse> profilesStage = HypixelRequestScheduler.withPriority(
+					HypixelRequestScheduler.Priority.BACKGROUND,
+					() -> skyblockProfilesFromUuidAsync(usernameUuidStruct.uuid(), true, false)
+				);
+				track.accept(profilesStage);
+				return profilesStage.thenApplyAsync(
+					profileResponse -> {
+						if (profileResponse.isValid()) {
+							Player player = new Player(
+								usernameUuidStruct.username(),
+								usernameUuidStruct.uuid(),
+								profileResponse.response(),
+								false
+							);
+							if (player.isValid()) {
+								return player.getSelectedProfile();
+							}
+						}
+						return null;
+					},
+					leaderboardRefreshExecutor
+				);
+			})
+			.whenComplete((profile, e) -> {
+				if (profile == null && !future.isCancelled()) {
+					failedUpdates.put(uuid, true);
+				}
+				future.complete(profile);
+			});
+
+		future.whenComplete((profile, e) -> {
+			if (future.isCancelled()) {
+				stages.forEach(stage -> stage.cancel(true));
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Moves the player ahead of the staleness ordered sweep if their leaderboard entry is stale
+	 */
+	private void prioritizeRefreshIfStale(String uuid, long lastUpdated) {
+		if (lastUpdated < Instant.now().minus(3, ChronoUnit.DAYS).toEpochMilli() && failedUpdates.getIfPresent(uuid) == null) {
+			prioritizedRefreshes.put(uuid, true);
+		}
+	}
+
 	/* JSON storage */
 	public void cacheCommandUses() {
 		if (IS_DEV) {
@@ -747,7 +1187,7 @@ public class LeaderboardDatabase {
 			return;
 		}
 
-		insertIntoJsonStorage(JsonStorageId.AUCTION_TRACKER, AuctionTracker.commandAuthorToTrackingUser);
+		insertIntoJsonStorage(JsonStorageId.AUCTION_TRACKER, AuctionTracker.getTrackedPlayers());
 	}
 
 	public void cacheJacob() {
@@ -833,7 +1273,7 @@ public class LeaderboardDatabase {
 				new TypeToken<Map<String, UsernameUuidStruct>>() {}
 			);
 			if (auctionTracker != null) {
-				AuctionTracker.commandAuthorToTrackingUser.putAll(auctionTracker);
+				auctionTracker.forEach(AuctionTracker::insertAhTrack);
 			}
 		} catch (Exception e) {
 			log.error("", e);
@@ -1069,73 +1509,102 @@ public class LeaderboardDatabase {
 	/* JSON cache */
 	public void cacheJson(CacheId id, JsonElement json) {
 		long expiry = Instant.now().plus(90, ChronoUnit.SECONDS).toEpochMilli();
-		executor.submit(() -> {
-			try (
-				Connection connection = getConnection();
-				PreparedStatement statement = connection.prepareStatement(
-					"INSERT INTO json_cache (id, expiry, data) VALUES (?, ?, ?) ON CONFLICT (id) DO UPDATE SET expiry = EXCLUDED.expiry, data = EXCLUDED.data"
-				)
-			) {
-				statement.setString(1, id.getGeneratedId());
-				statement.setLong(2, expiry);
-				statement.setObject(3, json, Types.OTHER);
+		String data = json.toString();
 
-				statement.executeUpdate();
+		id.expiry = expiry;
+		// Callers keep using and mutating their json, so the cache holds its own copy
+		jsonCache.put(id.getGeneratedId(), new CachedJson(json.deepCopy(), data.length()));
+		for (String cacheId : id.ids) {
+			cacheKeyToId.put(new CacheKey(id.cacheType, cacheId), id);
+		}
 
-				cacheIdToExpiry.put(id, expiry);
-			} catch (Exception ignored) {}
-		});
+		try {
+			// Block the producer for a bit when the database falls behind, the entry is still served from memory if dropped
+			if (!jsonCacheWriteQueue.offer(new PendingJsonCache(id.getGeneratedId(), expiry, data), 5, TimeUnit.SECONDS)) {
+				log.warn("Json cache write queue is full, dropping " + id.cacheType.name() + " entry");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (jsonCacheWriteQueue.size() >= JSON_CACHE_BATCH_SIZE && !jsonCacheFlushing.get()) {
+			executor.submit(this::flushJsonCache);
+		}
 	}
 
-	public JsonElement getCachedJson(CacheType cacheType, String id) {
-		Optional<Map.Entry<CacheId, Long>> cacheEntry = cacheIdToExpiry
-			.entrySet()
-			.stream()
-			.filter(e -> e.getKey().matches(cacheType, id))
-			.findAny();
-		if (cacheEntry.isPresent() && cacheEntry.get().getValue() > Instant.now().toEpochMilli()) {
-			try (
-				Connection connection = getConnection();
-				PreparedStatement statement = connection.prepareStatement("SELECT data FROM json_cache WHERE id = ? LIMIT 1")
-			) {
-				statement.setString(1, cacheEntry.get().getKey().getGeneratedId());
+	public void flushJsonCache() {
+		if (!jsonCacheFlushing.compareAndSet(false, true)) {
+			return;
+		}
 
-				try (ResultSet response = statement.executeQuery()) {
-					if (response.next()) {
-						return JsonParser.parseString(response.getString("data"));
+		try {
+			List<PendingJsonCache> batch = new ArrayList<>();
+			while (jsonCacheWriteQueue.drainTo(batch, JSON_CACHE_BATCH_SIZE) > 0) {
+				try (
+					Connection connection = getConnection();
+					PreparedStatement statement = connection.prepareStatement(
+						"INSERT INTO json_cache (id, expiry, data) VALUES " +
+						String.join(",", Collections.nCopies(batch.size(), "(?, ?, ?)")) +
+						" ON CONFLICT (id) DO UPDATE SET expiry = EXCLUDED.expiry, data = EXCLUDED.data"
+					)
+				) {
+					int paramIndex = 1;
+					for (PendingJsonCache pendingJsonCache : batch) {
+						statement.setString(paramIndex++, pendingJsonCache.id());
+						statement.setLong(paramIndex++, pendingJsonCache.expiry());
+						statement.setObject(paramIndex++, pendingJsonCache.data(), Types.OTHER);
 					}
+
+					statement.executeUpdate();
+				} catch (Exception e) {
+					log.error("Failed to flush " + batch.size() + " json cache entries", e);
 				}
-			} catch (Exception ignored) {}
+				batch.clear();
+			}
+		} finally {
+			jsonCacheFlushing.set(false);
 		}
-		return null;
 	}
 
-	public void updateJsonCache() {
-		long now = Instant.now().toEpochMilli();
-		List<String> expiredCacheIds = new ArrayList<>();
+	public JsonElement getCachedJson(CacheType cacheType, String id) {
+		CacheId cacheId = cacheKeyToId.get(new CacheKey(cacheType, id.toLowerCase()));
+		if (cacheId == null || cacheId.expiry <= Instant.now().toEpochMilli()) {
+			return null;
+		}
 
+		CachedJson cachedJson = jsonCache.getIfPresent(cacheId.getGeneratedId());
+		if (cachedJson != null) {
+			return cachedJson.json().deepCopy();
+		}
+
+		// Evicted from memory, so fall back to the database
 		try (
 			Connection connection = getConnection();
-			PreparedStatement statement = connection.prepareStatement("SELECT id FROM json_cache WHERE expiry <= ?")
+			PreparedStatement statement = connection.prepareStatement("SELECT data FROM json_cache WHERE id = ? LIMIT 1")
 		) {
-			statement.setLong(1, now);
+			statement.setString(1, cacheId.getGeneratedId());
 
 			try (ResultSet response = statement.executeQuery()) {
-				while (response.next()) {
-					expiredCacheIds.add(response.getString("id"));
+				if (response.next()) {
+					return JsonParser.parseString(response.getString("data"));
 				}
 			}
 		} catch (Exception ignored) {}
+		return null;
+	}
 
-		if (!expiredCacheIds.isEmpty()) {
-			cacheIdToExpiry.keySet().removeIf(cacheId -> expiredCacheIds.contains(cacheId.getGeneratedId()));
+	public void updateJsonCache() {
+		long now = Instant.now().toEpochMilli();
+		cacheKeyToId.values().removeIf(cacheId -> cacheId.expiry <= now);
 
-			try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
-				statement.executeUpdate(
-					"DELETE FROM json_cache WHERE id IN (" + expiredCacheIds.stream().collect(Collectors.joining("','", "'", "'")) + ")"
-				);
-			} catch (Exception ignored) {}
-		}
+		try (
+			Connection connection = getConnection();
+			PreparedStatement statement = connection.prepareStatement("DELETE FROM json_cache WHERE expiry <= ?")
+		) {
+			statement.setLong(1, now);
+
+			statement.executeUpdate();
+		} catch (Exception ignored) {}
 	}
 
 	public static class CacheId {
@@ -1144,7 +1613,9 @@ public class LeaderboardDatabase {
 		private final List<String> ids = new ArrayList<>();
 
 		@Getter
-		private final String generatedId;
+		private final String generatedId = UUID.randomUUID().toString();
+
+		private volatile long expiry;
 
 		public CacheId(CacheType cacheType, String... ids) {
 			this.cacheType = cacheType;
@@ -1152,27 +1623,28 @@ public class LeaderboardDatabase {
 			for (String id : ids) {
 				this.ids.add(id.toLowerCase());
 			}
-
-			String generatedId;
-			while (true) {
-				String finalGeneratedId = generatedId = UUID.randomUUID().toString();
-				if (leaderboardDatabase.cacheIdToExpiry.keySet().stream().noneMatch(c -> c.generatedId.equals(finalGeneratedId))) {
-					break;
-				}
-			}
-			this.generatedId = generatedId;
 		}
 
 		public CacheId addIds(List<String> ids) {
 			this.ids.addAll(ids);
 			return this;
 		}
+	}
+
+	private record CacheKey(CacheType cacheType, String id) {}
 
-		public boolean matches(CacheType cacheType, String id) {
-			return this.cacheType == cacheType && this.ids.contains(id.toLowerCase());
+	private record StalePlayer(UUID uuid, long lastUpdated) {
+		private String id() {
+			return uuid.toString().replace("-", "");
 		}
 	}
 
+	private record RankIndexKey(String lbType, Player.Gamemode mode) {}
+
+	private record CachedJson(JsonElement json, int size) {}
+
+	private record PendingJsonCache(String id, long expiry, String data) {}
+
 	public enum CacheType {
 		SKYBLOCK_PROFILES,
 		GUILD,
@@ -1237,6 +1709,18 @@ public class LeaderboardDatabase {
 		if (leaderboardUpdateTask != null) {
 			leaderboardUpdateTask.cancel(true);
 		}
+		leaderboardRefreshExecutor.shutdownNow();
+		// A flush already in progress makes flushJsonCache return early, so wait for it and then drain what is left
+		long flushDeadline = System.currentTimeMillis() + 30000;
+		while (jsonCacheFlushing.get() && System.currentTimeMillis() < flushDeadline) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		flushJsonCache();
 		dataSource.close();
 		log.info("Successfully closed leaderboard database");
 	}
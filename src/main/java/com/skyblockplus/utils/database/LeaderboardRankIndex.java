@@ -0,0 +1,471 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils.database;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranks of one leaderboard column, ordered by value descending and then by uuid in the same order as Postgres. Entries
+ * are stored in sorted blocks of primitive arrays with a Fenwick tree over the block sizes, so finding a rank or a value
+ * is a binary search and updates only shift entries within one block
+ */
+public class LeaderboardRankIndex {
+
+	private static final int BLOCK_SIZE = 1024;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final List<Block> blocks = new ArrayList<>();
+	private final UuidValueMap uuidToValue;
+	/** 1-indexed Fenwick tree over the size of each block */
+	private int[] blockSizeTree;
+	private int size;
+	/** Uuids updated while the index catches up with writes made during its load, null outside of a catch-up */
+	private Set<UUID> updatedDuringCatchUp;
+
+	/**
+	 * @param values must be sorted by value descending, then uuid ascending
+	 */
+	public LeaderboardRankIndex(long[] mostSigBits, long[] leastSigBits, double[] values, int size) {
+		this.size = size;
+		this.uuidToValue = new UuidValueMap(size);
+		for (int start = 0; start < size || blocks.isEmpty(); start += BLOCK_SIZE) {
+			Block block = new Block();
+			block.size = Math.min(BLOCK_SIZE, size - start);
+			System.arraycopy(mostSigBits, start, block.mostSigBits, 0, block.size);
+			System.arraycopy(leastSigBits, start, block.leastSigBits, 0, block.size);
+			System.arraycopy(values, start, block.values, 0, block.size);
+			blocks.add(block);
+		}
+		for (int i = 0; i < size; i++) {
+			uuidToValue.put(mostSigBits[i], leastSigBits[i], values[i]);
+		}
+		rebuildBlockSizeTree();
+	}
+
+	private static int compare(double value1, long mostSigBits1, long leastSigBits1, double value2, long mostSigBits2, long leastSigBits2) {
+		int compare = Double.compare(value2, value1);
+		if (compare == 0) {
+			compare = Long.compareUnsigned(mostSigBits1, mostSigBits2);
+		}
+		if (compare == 0) {
+			compare = Long.compareUnsigned(leastSigBits1, leastSigBits2);
+		}
+		return compare;
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return approximate heap used by the index, counting allocated rather than used capacity
+	 */
+	public long estimatedBytes() {
+		lock.readLock().lock();
+		try {
+			// Each block holds a value and two uuid halves per slot, each map slot also has a used flag
+			return (long) blocks.size() * BLOCK_SIZE * 2 * 24 + (long) uuidToValue.capacity() * 25 + (long) blockSizeTree.length * 4;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 1-indexed rank of the uuid or 0 if it is not ranked
+	 */
+	public int getRank(UUID uuid) {
+		lock.readLock().lock();
+		try {
+			double value = uuidToValue.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+			if (Double.isNaN(value)) {
+				return 0;
+			}
+			return position(value, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) + 1;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return number of entries with a value greater than the amount
+	 */
+	public int countGreaterThan(double amount) {
+		lock.readLock().lock();
+		try {
+			return position(amount, 0, 0);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param rankStart Exclusive
+	 * @param rankEnd Inclusive
+	 */
+	public List<Entry> getPage(int rankStart, int rankEnd) {
+		lock.readLock().lock();
+		try {
+			rankStart = Math.max(0, rankStart);
+			rankEnd = Math.min(size, rankEnd);
+			List<Entry> entries = new ArrayList<>();
+			if (rankStart >= rankEnd) {
+				return entries;
+			}
+
+			int blockIndex = findBlock(rankStart);
+			int offset = rankStart - prefixSize(blockIndex);
+			for (int rank = rankStart + 1; rank <= rankEnd; rank++) {
+				Block block = blocks.get(blockIndex);
+				entries.add(
+					new Entry(rank, new UUID(block.mostSigBits[offset], block.leastSigBits[offset]), block.values[offset])
+				);
+				if (++offset == block.size) {
+					blockIndex++;
+					offset = 0;
+				}
+			}
+			return entries;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Sets the value of the uuid, removing it if the value is null
+	 */
+	public void update(UUID uuid, Double value) {
+		lock.writeLock().lock();
+		try {
+			if (updatedDuringCatchUp != null) {
+				updatedDuringCatchUp.add(uuid);
+			}
+			set(uuid, value);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Starts tracking live updates so {@link #catchUp(UUID, Double)} never overwrites a value newer than the row it read
+	 */
+	public void beginCatchUp() {
+		lock.writeLock().lock();
+		try {
+			updatedDuringCatchUp = new HashSet<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Same as {@link #update(UUID, Double)} unless the uuid was updated since the catch-up began
+	 */
+	public void catchUp(UUID uuid, Double value) {
+		lock.writeLock().lock();
+		try {
+			if (updatedDuringCatchUp == null || !updatedDuringCatchUp.contains(uuid)) {
+				set(uuid, value);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void endCatchUp() {
+		lock.writeLock().lock();
+		try {
+			updatedDuringCatchUp = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Must hold the write lock
+	 */
+	private void set(UUID uuid, Double value) {
+		long mostSigBits = uuid.getMostSignificantBits();
+		long leastSigBits = uuid.getLeastSignificantBits();
+
+		double oldValue = uuidToValue.get(mostSigBits, leastSigBits);
+		if (!Double.isNaN(oldValue)) {
+			if (value != null && oldValue == value) {
+				return;
+			}
+			remove(oldValue, mostSigBits, leastSigBits);
+			uuidToValue.remove(mostSigBits, leastSigBits);
+		}
+
+		if (value != null && !Double.isNaN(value)) {
+			insert(value, mostSigBits, leastSigBits);
+			uuidToValue.put(mostSigBits, leastSigBits, value);
+		}
+	}
+
+	/**
+	 * @return number of entries ordered before the key
+	 */
+	private int position(double value, long mostSigBits, long leastSigBits) {
+		int blockIndex = blockFor(value, mostSigBits, leastSigBits);
+		return prefixSize(blockIndex) + blocks.get(blockIndex).lowerBound(value, mostSigBits, leastSigBits);
+	}
+
+	/**
+	 * @return first block whose last entry is not ordered before the key, or the last block
+	 */
+	private int blockFor(double value, long mostSigBits, long leastSigBits) {
+		int low = 0;
+		int high = blocks.size() - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			Block block = blocks.get(mid);
+			int last = block.size - 1;
+			if (
+				compare(value, mostSigBits, leastSigBits, block.values[last], block.mostSigBits[last], block.leastSigBits[last]) <= 0
+			) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+
+	private void insert(double value, long mostSigBits, long leastSigBits) {
+		int blockIndex = blockFor(value, mostSigBits, leastSigBits);
+		Block block = blocks.get(blockIndex);
+		block.insert(block.lowerBound(value, mostSigBits, leastSigBits), value, mostSigBits, leastSigBits);
+		size++;
+
+		if (block.size == block.values.length) {
+			blocks.add(blockIndex + 1, block.split());
+			rebuildBlockSizeTree();
+		} else {
+			addBlockSize(blockIndex, 1);
+		}
+	}
+
+	private void remove(double value, long mostSigBits, long leastSigBits) {
+		int blockIndex = blockFor(value, mostSigBits, leastSigBits);
+		Block block = blocks.get(blockIndex);
+		block.remove(block.lowerBound(value, mostSigBits, leastSigBits));
+		size--;
+
+		if (block.size == 0 && blocks.size() > 1) {
+			blocks.remove(blockIndex);
+			rebuildBlockSizeTree();
+		} else {
+			addBlockSize(blockIndex, -1);
+		}
+	}
+
+	private void rebuildBlockSizeTree() {
+		blockSizeTree = new int[blocks.size() + 1];
+		for (int i = 0; i < blocks.size(); i++) {
+			addBlockSize(i, blocks.get(i).size);
+		}
+	}
+
+	private void addBlockSize(int blockIndex, int delta) {
+		for (int i = blockIndex + 1; i < blockSizeTree.length; i += i & -i) {
+			blockSizeTree[i] += delta;
+		}
+	}
+
+	/**
+	 * @return number of entries in the blocks before the block
+	 */
+	private int prefixSize(int blockIndex) {
+		int sum = 0;
+		for (int i = blockIndex; i > 0; i -= i & -i) {
+			sum += blockSizeTree[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return block containing the 0-indexed position
+	 */
+	private int findBlock(int position) {
+		int blockIndex = 0;
+		for (int step = Integer.highestOneBit(blockSizeTree.length - 1); step > 0; step >>= 1) {
+			if (blockIndex + step < blockSizeTree.length && blockSizeTree[blockIndex + step] <= position) {
+				blockIndex += step;
+				position -= blockSizeTree[blockIndex];
+			}
+		}
+		return blockIndex;
+	}
+
+	public record Entry(int rank, UUID uuid, double value) {}
+
+	private static class Block {
+
+		private double[] values = new double[BLOCK_SIZE * 2];
+		private long[] mostSigBits = new long[BLOCK_SIZE * 2];
+		private long[] leastSigBits = new long[BLOCK_SIZE * 2];
+		private int size;
+
+		private int lowerBound(double value, long mostSigBits, long leastSigBits) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (compare(this.values[mid], this.mostSigBits[mid], this.leastSigBits[mid], value, mostSigBits, leastSigBits) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private void insert(int index, double value, long mostSigBits, long leastSigBits) {
+			System.arraycopy(this.values, index, this.values, index + 1, size - index);
+			System.arraycopy(this.mostSigBits, index, this.mostSigBits, index + 1, size - index);
+			System.arraycopy(this.leastSigBits, index, this.leastSigBits, index + 1, size - index);
+			this.values[index] = value;
+			this.mostSigBits[index] = mostSigBits;
+			this.leastSigBits[index] = leastSigBits;
+			size++;
+		}
+
+		private void remove(int index) {
+			System.arraycopy(values, index + 1, values, index, size - index - 1);
+			System.arraycopy(mostSigBits, index + 1, mostSigBits, index, size - index - 1);
+			System.arraycopy(leastSigBits, index + 1, leastSigBits, index, size - index - 1);
+			size--;
+		}
+
+		/**
+		 * Moves the upper half of this block into a new block
+		 */
+		private Block split() {
+			Block upper = new Block();
+			upper.size = size / 2;
+			int start = size - upper.size;
+			System.arraycopy(values, start, upper.values, 0, upper.size);
+			System.arraycopy(mostSigBits, start, upper.mostSigBits, 0, upper.size);
+			System.arraycopy(leastSigBits, start, upper.leastSigBits, 0, upper.size);
+			size = start;
+			return upper;
+		}
+	}
+
+	/** Open addressing map from uuid to value using linear probing, NaN marks a missing value */
+	private static class UuidValueMap {
+
+		private long[] mostSigBits;
+		private long[] leastSigBits;
+		private double[] values;
+		private boolean[] used;
+		private int size;
+
+		private UuidValueMap(int expectedSize) {
+			allocate(Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1);
+		}
+
+		private static int hash(long mostSigBits, long leastSigBits) {
+			long hash = mostSigBits * 0x9E3779B97F4A7C15L ^ leastSigBits;
+			return (int) (hash ^ (hash >>> 32));
+		}
+
+		private int capacity() {
+			return used.length;
+		}
+
+		private void allocate(int capacity) {
+			mostSigBits = new long[capacity];
+			leastSigBits = new long[capacity];
+			values = new double[capacity];
+			used = new boolean[capacity];
+		}
+
+		private int slot(long mostSigBits, long leastSigBits) {
+			int mask = used.length - 1;
+			int slot = hash(mostSigBits, leastSigBits) & mask;
+			while (used[slot] && (this.mostSigBits[slot] != mostSigBits || this.leastSigBits[slot] != leastSigBits)) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private double get(long mostSigBits, long leastSigBits) {
+			int slot = slot(mostSigBits, leastSigBits);
+			return used[slot] ? values[slot] : Double.NaN;
+		}
+
+		private void put(long mostSigBits, long leastSigBits, double value) {
+			if ((size + 1) * 2 > used.length) {
+				long[] oldMostSigBits = this.mostSigBits;
+				long[] oldLeastSigBits = this.leastSigBits;
+				double[] oldValues = this.values;
+				boolean[] oldUsed = this.used;
+				allocate(used.length * 2);
+				size = 0;
+				for (int i = 0; i < oldUsed.length; i++) {
+					if (oldUsed[i]) {
+						put(oldMostSigBits[i], oldLeastSigBits[i], oldValues[i]);
+					}
+				}
+			}
+
+			int slot = slot(mostSigBits, leastSigBits);
+			if (!used[slot]) {
+				used[slot] = true;
+				this.mostSigBits[slot] = mostSigBits;
+				this.leastSigBits[slot] = leastSigBits;
+				size++;
+			}
+			values[slot] = value;
+		}
+
+		private void remove(long mostSigBits, long leastSigBits) {
+			int slot = slot(mostSigBits, leastSigBits);
+			if (!used[slot]) {
+				return;
+			}
+
+			// Shift later entries of the probe sequence back so lookups never stop at the removed slot
+			int mask = used.length - 1;
+			used[slot] = false;
+			size--;
+			for (int next = (slot + 1) & mask; used[next]; next = (next + 1) & mask) {
+				int home = hash(this.mostSigBits[next], this.leastSigBits[next]) & mask;
+				if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next)) {
+					continue;
+				}
+
+				this.mostSigBits[slot] = this.mostSigBits[next];
+				this.leastSigBits[slot] = this.leastSigBits[next];
+				values[slot] = values[next];
+				used[slot] = true;
+				used[next] = false;
+				slot = next;
+			}
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Skyblock Plus - A Skyblock focused Discord bot with many commands and customizable features to improve the experience of Skyblock players and guild staff!
+ * Copyright (c) 2021-2024 kr45732
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package com.skyblockplus.utils.database;
+
+import com.skyblockplus.api.linkedaccounts.LinkedAccount;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of all linked accounts indexed by discord ID, uuid, and lowercase username. Changes build a new
+ * index which is published by swapping a reference, so readers never see a partially updated snapshot.
+ */
+public final class LinkedAccountIndex {
+
+	public static final LinkedAccountIndex EMPTY = new LinkedAccountIndex(
+		Collections.emptyMap(),
+		Collections.emptyMap(),
+		Collections.emptyMap(),
+		Long.MIN_VALUE
+	);
+
+	private final Map<String, LinkedAccount> byDiscord;
+	private final Map<String, LinkedAccount> byUuid;
+	private final Map<String, LinkedAccount> byUsername;
+	/** Built on the first call to {@link #getAll()} */
+	private volatile List<LinkedAccount> accounts;
+
+	/** Highest last_updated loaded from the database */
+	@Getter
+	private final long watermark;
+
+	private LinkedAccountIndex(
+		Map<String, LinkedAccount> byDiscord,
+		Map<String, LinkedAccount> byUuid,
+		Map<String, LinkedAccount> byUsername,
+		long watermark
+	) {
+		this.byDiscord = byDiscord;
+		this.byUuid = byUuid;
+		this.byUsername = byUsername;
+		this.watermark = watermark;
+	}
+
+	/**
+	 * @param advanceWatermark true if the accounts were read from the database
+	 * @return a new index where each account replaces any account sharing its discord ID, uuid, or username
+	 */
+	public LinkedAccountIndex withUpserts(Collection<LinkedAccount> linkedAccounts, boolean advanceWatermark) {
+		if (linkedAccounts.isEmpty()) {
+			return this;
+		}
+
+		Builder builder = new Builder(this);
+		long updatedWatermark = watermark;
+		for (LinkedAccount linkedAccount : linkedAccounts) {
+			builder.upsert(linkedAccount);
+			if (advanceWatermark) {
+				updatedWatermark = Math.max(updatedWatermark, linkedAccount.lastUpdated());
+			}
+		}
+		return builder.build(updatedWatermark);
+	}
+
+	public LinkedAccountIndex withoutDiscord(String discord) {
+		LinkedAccount linkedAccount = byDiscord.get(discord);
+		if (linkedAccount == null) {
+			return this;
+		}
+
+		Builder builder = new Builder(this);
+		builder.remove(linkedAccount);
+		return builder.build(watermark);
+	}
+
+	public LinkedAccount getByDiscord(String discord) {
+		return byDiscord.get(discord);
+	}
+
+	public LinkedAccount getByUuid(String uuid) {
+		return uuid != null ? byUuid.get(uuid) : null;
+	}
+
+	public LinkedAccount getByUsername(String username) {
+		return username != null ? byUsername.get(toKey(username)) : null;
+	}
+
+	public List<LinkedAccount> getAll() {
+		List<LinkedAccount> accounts = this.accounts;
+		if (accounts == null) {
+			accounts = List.copyOf(byDiscord.values());
+			this.accounts = accounts;
+		}
+		return accounts;
+	}
+
+	public int size() {
+		return byDiscord.size();
+	}
+
+	private static String toKey(String username) {
+		return username != null ? username.toLowerCase() : null;
+	}
+
+	private static class Builder {
+
+		private final Map<String, LinkedAccount> byDiscord;
+		private final Map<String, LinkedAccount> byUuid;
+		private final Map<String, LinkedAccount> byUsername;
+
+		private Builder(LinkedAccountIndex index) {
+			this.byDiscord = new HashMap<>(index.byDiscord);
+			this.byUuid = new HashMap<>(index.byUuid);
+			this.byUsername = new HashMap<>(index.byUsername);
+		}
+
+		private void upsert(LinkedAccount linkedAccount) {
+			remove(byDiscord.get(linkedAccount.discord()));
+			if (linkedAccount.uuid() != null) {
+				remove(byUuid.get(linkedAccount.uuid()));
+			}
+			if (linkedAccount.username() != null) {
+				remove(byUsername.get(toKey(linkedAccount.username())));
+			}
+
+			byDiscord.put(linkedAccount.discord(), linkedAccount);
+			if (linkedAccount.uuid() != null) {
+				byUuid.put(linkedAccount.uuid(), linkedAccount);
+			}
+			if (linkedAccount.username() != null) {
+				byUsername.put(toKey(linkedAccount.username()), linkedAccount);
+			}
+		}
+
+		private void remove(LinkedAccount linkedAccount) {
+			if (linkedAccount != null) {
+				byDiscord.remove(linkedAccount.discord(), linkedAccount);
+				if (linkedAccount.uuid() != null) {
+					byUuid.remove(linkedAccount.uuid(), linkedAccount);
+				}
+				if (linkedAccount.username() != null) {
+					byUsername.remove(toKey(linkedAccount.username()), linkedAccount);
+				}
+			}
+		}
+
+		private LinkedAccountIndex build(long watermark) {
+			return new LinkedAccountIndex(byDiscord, byUuid, byUsername, watermark);
+		}
+	}
+}
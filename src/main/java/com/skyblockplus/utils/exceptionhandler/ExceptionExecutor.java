@@ -33,6 +33,15 @@ public class ExceptionExecutor extends ThreadPoolExecutor {
 		return this;
 	}
 
+	/**
+	 * Executor for tasks that mostly block on network or database calls, with one thread per connection of that
+	 * bottleneck. Extra tasks wait in the queue and idle threads time out
+	 */
+	public static ExceptionExecutor newBlockingExecutor(int concurrencyLimit) {
+		return new ExceptionExecutor(concurrencyLimit, concurrencyLimit, 45L, TimeUnit.SECONDS, new LinkedBlockingQueue<>())
+			.setAllowCoreThreadTimeOut(true);
+	}
+
 	@Override
 	protected void afterExecute(Runnable r, Throwable t) {
 		super.afterExecute(r, t);
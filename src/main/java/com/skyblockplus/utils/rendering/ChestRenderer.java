@@ -18,6 +18,8 @@
 
 package com.skyblockplus.utils.rendering;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import net.dv8tion.jda.api.entities.emoji.Emoji;
 
 import javax.imageio.ImageIO;
@@ -25,19 +27,46 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static com.skyblockplus.utils.utils.Utils.executor;
 import static com.skyblockplus.utils.utils.Utils.getEmoji;
 
 public class ChestRenderer {
 
-	private static final Map<String, BufferedImage> CACHED_IMAGES = new HashMap<>();
+	private static final String IMAGE_CACHE_DIRECTORY = "src/main/java/com/skyblockplus/json/chestrenderer/imagecache/";
+	private static final Cache<String, BufferedImage> itemImageCache = Caffeine.newBuilder().maximumSize(4096).build();
 	private static final int CHEST_SCALE = 3;
 	public static final int CHEST_ROWS = 6;
 	public static final int CHEST_COLUMNS = 9;
+	private static volatile BufferedImage background;
+
+	/**
+	 * Decodes the background and every cached item image in the background so renders never read from disk
+	 */
+	public static void initialize() {
+		executor.submit(() -> {
+			try {
+				getBackground();
+			} catch (Exception ignored) {}
+
+			File[] files = new File(IMAGE_CACHE_DIRECTORY).listFiles((dir, name) -> name.endsWith(".png"));
+			if (files != null) {
+				for (File file : files) {
+					String id = file.getName().substring(0, file.getName().length() - 4);
+					try {
+						itemImageCache.get(id, ignored -> readImage(file));
+					} catch (Exception ignored) {}
+				}
+			}
+		});
+	}
 
 	public static BufferedImage renderChest(List<Image> slots) throws IOException {
 		int marginTop = 18 * CHEST_SCALE;
@@ -45,7 +74,13 @@ public class ChestRenderer {
 		int itemSize = 16 * CHEST_SCALE;
 		int itemSpacing = itemSize + 2 * CHEST_SCALE;
 
-		BufferedImage chestRender = ImageIO.read(new File("src/main/java/com/skyblockplus/json/chestrenderer/background_image.png"));
+		BufferedImage backgroundImage = getBackground();
+		BufferedImage chestRender = new BufferedImage(
+			backgroundImage.getColorModel(),
+			backgroundImage.copyData(null),
+			backgroundImage.isAlphaPremultiplied(),
+			null
+		);
 		Graphics2D graphics = chestRender.createGraphics();
 		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
 
@@ -66,24 +101,100 @@ public class ChestRenderer {
 	}
 
 	public static BufferedImage getItemImage(String id) throws IOException {
-		if (CACHED_IMAGES.containsKey(id)) {
-			return CACHED_IMAGES.get(id);
+		try {
+			return itemImageCache.get(id, ChestRenderer::loadItemImage);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Loads the images in parallel, with null for null ids
+	 */
+	public static List<Image> getItemImages(List<String> ids) throws IOException {
+		List<CompletableFuture<BufferedImage>> futures = new ArrayList<>();
+		for (String id : ids) {
+			BufferedImage image = id == null ? null : itemImageCache.getIfPresent(id);
+			if (id == null || image != null) {
+				futures.add(CompletableFuture.completedFuture(image));
+			} else {
+				futures.add(
+					CompletableFuture.supplyAsync(
+						() -> {
+							try {
+								return getItemImage(id);
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						},
+						executor
+					)
+				);
+			}
 		}
 
-		BufferedImage image;
+		List<Image> images = new ArrayList<>();
 		try {
-			image = ImageIO.read(new File("src/main/java/com/skyblockplus/json/chestrenderer/imagecache/" + id + ".png"));
-		} catch (Exception e) {
-			String emojiId = Emoji.fromFormatted(getEmoji(id)).asCustom().getId();
-			image = ImageIO.read(new URL("https://cdn.discordapp.com/emojis/" + emojiId + ".png?quality=lossless"));
-			File outputfile = new File("src/main/java/com/skyblockplus/json/chestrenderer/imagecache/" + id + ".png");
-			ImageIO.write(image, "png", outputfile);
+			for (CompletableFuture<BufferedImage> future : futures) {
+				images.add(future.join());
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException ex) {
+				throw ex.getCause();
+			}
+			throw e;
 		}
+		return images;
+	}
 
-		if (id.equals("STAINED_GLASS_PANE:15") || id.equals("INK_SACK:8") || id.equals("INK_SACK:10")) {
-			CACHED_IMAGES.put(id, image);
+	/**
+	 * Loads any images that are not cached yet in the background
+	 */
+	public static void prefetchItemImages(Collection<String> ids) {
+		for (String id : ids) {
+			if (id != null && itemImageCache.getIfPresent(id) == null) {
+				executor.submit(() -> {
+					try {
+						getItemImage(id);
+					} catch (Exception ignored) {}
+				});
+			}
 		}
+	}
 
-		return image;
+	private static BufferedImage getBackground() throws IOException {
+		if (background == null) {
+			synchronized (ChestRenderer.class) {
+				if (background == null) {
+					background = ImageIO.read(new File("src/main/java/com/skyblockplus/json/chestrenderer/background_image.png"));
+				}
+			}
+		}
+
+		return background;
+	}
+
+	private static BufferedImage readImage(File file) {
+		try {
+			return ImageIO.read(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static BufferedImage loadItemImage(String id) {
+		try {
+			File file = new File(IMAGE_CACHE_DIRECTORY + id + ".png");
+			if (file.exists()) {
+				return ImageIO.read(file);
+			}
+
+			String emojiId = Emoji.fromFormatted(getEmoji(id)).asCustom().getId();
+			BufferedImage image = ImageIO.read(new URL("https://cdn.discordapp.com/emojis/" + emojiId + ".png?quality=lossless"));
+			ImageIO.write(image, "png", file);
+			return image;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 }
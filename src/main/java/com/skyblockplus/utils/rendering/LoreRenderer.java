@@ -18,11 +18,17 @@
 
 package com.skyblockplus.utils.rendering;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skyblockplus.utils.command.CommandExecutionClass;
+
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -52,96 +58,123 @@ public class LoreRenderer {
 		"ÀÁÂÈÊËÍÓÔÕÚßãõğİıŒœŞşŴŵžȇ\u0000\u0000\u0000\u0000\u0000\u0000\u0000" +
 		" !\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_`abcdefghijklmnopqrstuvwxyz{|}~\u0000ÇüéâäàåçêëèïîìÄÅÉæÆôöòûùÿÖÜø£Ø×ƒáíóúñÑªº¿®¬½¼¡«»░▒▓│┤╡╢╖╕╣║╗╝╜╛┐└┴┬├─┼╞╟╚╔╩╦╠═╬╧╨╤╥╙╘╒╓╫╪┘┌█▄▌▐▀αβΓπΣσμτΦΘΩδ∞∅∈∩≡±≥≤⌠⌡÷≈°∙·√ⁿ²■\u0000";
 	private static final int GLYPH_SIZE = 8;
+	private static final int SCALE = 2;
+	private static final int MARGIN = 10;
+	private static final int LINE_HEIGHT = GLYPH_SIZE * SCALE + 5;
+	private static final MinecraftColors DEFAULT_COLOR = MinecraftColors.DARK_PURPLE;
 	private static final Map<Character, Glyph> glyphCache = new ConcurrentHashMap<>();
+	private static final Cache<String, LineLayout> layoutCache = Caffeine.newBuilder().maximumSize(20000).build();
+	private static final Cache<List<String>, byte[]> pngCache = Caffeine
+		.newBuilder()
+		.maximumWeight(64 * 1024 * 1024)
+		.weigher((List<String> lines, byte[] png) -> png.length)
+		.build();
+
+	/**
+	 * @return PNG of the rendered lore, cached by the lore lines
+	 */
+	public static byte[] renderLorePng(List<String> loreLines) {
+		return pngCache.get(
+			List.copyOf(loreLines),
+			lines -> {
+				try {
+					return CommandExecutionClass.render(() -> {
+						ByteArrayOutputStream out = new ByteArrayOutputStream();
+						ImageIO.write(renderLore(lines), "png", out);
+						return out.toByteArray();
+					});
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		);
+	}
 
 	public static BufferedImage renderLore(List<String> loreLines) {
-		int scale = 2;
-		int margin = 10;
-		MinecraftColors defaultColor = MinecraftColors.DARK_PURPLE;
-
-		List<List<String>> formattedLines = loreLines
-			.stream()
-			.map(line -> {
-				List<String> parts = Arrays.stream(line.split("§")).collect(Collectors.toCollection(ArrayList::new));
-				parts.set(0, "r" + parts.get(0));
-				return parts;
-			})
-			.collect(Collectors.toCollection(ArrayList::new));
-
-		int width = formattedLines
-			.stream()
-			.map(line -> {
-				int x = 0;
-				boolean bold = false;
-
-				for (String part : line) {
-					char colorCode = part.charAt(0);
-					String text = part.substring(1);
-
-					switch (Character.toLowerCase(colorCode)) {
-						case 'l' -> bold = true;
-						case 'r' -> bold = false;
-						default -> {}
-					}
+		List<LineLayout> layouts = loreLines.stream().map(line -> layoutCache.get(line, LoreRenderer::layoutLine)).toList();
+		int width = layouts.stream().mapToInt(LineLayout::width).max().getAsInt();
+		int height = layouts.size() * LINE_HEIGHT;
 
-					for (char ch : text.toCharArray()) {
-						x += getGlyph(ch).getWidth() * scale;
-						if (bold) {
-							x += scale;
-						}
-					}
-				}
-				return x;
-			})
-			.max(Integer::compare)
-			.get();
-		int height = formattedLines.size() * (GLYPH_SIZE * scale + 5);
-
-		BufferedImage image = new BufferedImage(width + margin * 2, height + margin * 2, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage image = new BufferedImage(width + MARGIN * 2, height + MARGIN * 2, BufferedImage.TYPE_INT_ARGB);
 		Graphics2D graphics = image.createGraphics();
 		graphics.setColor(new Color(16, 1, 16));
 		graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
 
-		int y = margin;
-		for (List<String> line : formattedLines) {
-			int x = margin;
-			boolean bold = false;
-			graphics.setColor(defaultColor.awtColor);
-
-			for (String part : line) {
-				char colorCode = part.charAt(0);
-				String text = part.substring(1);
-
-				switch (Character.toLowerCase(colorCode)) {
-					case 'l' -> bold = true;
-					case 'r' -> {
-						bold = false;
-						graphics.setColor(defaultColor.awtColor);
-					}
-					default -> {
-						MinecraftColors color = MinecraftColors.byColorCode(colorCode);
-						if (color != null) {
-							graphics.setColor(color.awtColor);
-						}
-					}
+		int y = MARGIN;
+		for (LineLayout layout : layouts) {
+			for (int i = 0; i < layout.glyphs().length; i++) {
+				int x = MARGIN + layout.xs()[i];
+				if (layout.bold()[i]) {
+					layout.glyphs()[i].renderOnto(graphics, x + SCALE, y, layout.colors()[i]);
 				}
+				layout.glyphs()[i].renderOnto(graphics, x, y, layout.colors()[i]);
+			}
+			y += LINE_HEIGHT;
+		}
 
-				for (char ch : text.toCharArray()) {
-					Glyph glpyh = getGlyph(ch);
-					if (bold) {
-						glpyh.renderOnto(graphics, x + scale, y, scale);
-					}
-					glpyh.renderOnto(graphics, x, y, scale);
-					x += glpyh.getWidth() * scale;
-					if (bold) {
-						x += scale;
+		graphics.dispose();
+		return image;
+	}
+
+	/** Positions and colors of every glyph in a line, which only depend on the line itself */
+	private static LineLayout layoutLine(String line) {
+		List<String> parts = Arrays.stream(line.split("§")).collect(Collectors.toCollection(ArrayList::new));
+		parts.set(0, "r" + parts.get(0));
+
+		List<Glyph> glyphs = new ArrayList<>();
+		List<Integer> xs = new ArrayList<>();
+		List<MinecraftColors> colors = new ArrayList<>();
+		List<Boolean> bolds = new ArrayList<>();
+		int x = 0;
+		boolean bold = false;
+		MinecraftColors currentColor = DEFAULT_COLOR;
+
+		for (String part : parts) {
+			char colorCode = part.charAt(0);
+			String text = part.substring(1);
+
+			switch (Character.toLowerCase(colorCode)) {
+				case 'l' -> bold = true;
+				case 'r' -> {
+					bold = false;
+					currentColor = DEFAULT_COLOR;
+				}
+				default -> {
+					MinecraftColors color = MinecraftColors.byColorCode(colorCode);
+					if (color != null) {
+						currentColor = color;
 					}
 				}
 			}
-			y += GLYPH_SIZE * scale + 5;
+
+			for (char ch : text.toCharArray()) {
+				Glyph glyph = getGlyph(ch);
+				glyphs.add(glyph);
+				xs.add(x);
+				colors.add(currentColor);
+				bolds.add(bold);
+				x += glyph.getWidth() * SCALE;
+				if (bold) {
+					x += SCALE;
+				}
+			}
 		}
 
-		return image;
+		boolean[] boldArray = new boolean[bolds.size()];
+		for (int i = 0; i < boldArray.length; i++) {
+			boldArray[i] = bolds.get(i);
+		}
+		return new LineLayout(
+			glyphs.toArray(new Glyph[0]),
+			xs.stream().mapToInt(Integer::intValue).toArray(),
+			colors.toArray(new MinecraftColors[0]),
+			boldArray,
+			x
+		);
 	}
 
 	private static Glyph getGlyph(char char1) {
@@ -232,7 +265,7 @@ public class LoreRenderer {
 	}
 
 	private interface Glyph {
-		void renderOnto(Graphics2D graphics, int xPos, int yPos, int scale);
+		void renderOnto(Graphics2D graphics, int xPos, int yPos, MinecraftColors color);
 
 		int getWidth();
 	}
@@ -240,7 +273,7 @@ public class LoreRenderer {
 	private static class SpaceGlyph implements Glyph {
 
 		@Override
-		public void renderOnto(Graphics2D graphics, int xPos, int yPos, int scale) {}
+		public void renderOnto(Graphics2D graphics, int xPos, int yPos, MinecraftColors color) {}
 
 		@Override
 		public int getWidth() {
@@ -251,8 +284,9 @@ public class LoreRenderer {
 	private static class MissingGlyph implements Glyph {
 
 		@Override
-		public void renderOnto(Graphics2D graphics, int xPos, int yPos, int scale) {
-			graphics.drawRect(xPos, yPos, GLYPH_SIZE * scale, GLYPH_SIZE * scale);
+		public void renderOnto(Graphics2D graphics, int xPos, int yPos, MinecraftColors color) {
+			graphics.setColor(color.awtColor);
+			graphics.drawRect(xPos, yPos, GLYPH_SIZE * SCALE, GLYPH_SIZE * SCALE);
 		}
 
 		@Override
@@ -261,34 +295,44 @@ public class LoreRenderer {
 		}
 	}
 
+	/** Glyph pre-scaled to the render scale and pre-tinted in every color */
 	private static class RealGlyph implements Glyph {
 
 		private final int width;
-		private final int scale;
-		private final BufferedImage thinTexture;
+		private final BufferedImage[] tintedTextures = new BufferedImage[MinecraftColors.values().length];
 
 		public RealGlyph(BufferedImage texture, int xOffset, int yOffset, int width, int scale) {
 			this.width = width;
-			this.scale = scale;
-			this.thinTexture = texture.getSubimage(xOffset, yOffset, GLYPH_SIZE * scale, GLYPH_SIZE * scale);
-		}
 
-		@Override
-		public void renderOnto(Graphics2D graphics, int xPos, int yPos, int scale) {
-			int actualScale = scale / this.scale;
-			for (int x = 0; x < GLYPH_SIZE * this.scale; x++) {
-				for (int y = 0; y < GLYPH_SIZE * this.scale; y++) {
-					boolean isSet = ((thinTexture.getRGB(x, y) >> 24) & 0xFF) != 0x00;
-					if (isSet) {
-						graphics.fillRect(xPos + x * actualScale, yPos + y * actualScale, actualScale, actualScale);
+			int actualScale = SCALE / scale;
+			for (MinecraftColors color : MinecraftColors.values()) {
+				BufferedImage tintedTexture = new BufferedImage(GLYPH_SIZE * SCALE, GLYPH_SIZE * SCALE, BufferedImage.TYPE_INT_ARGB);
+				int rgb = color.awtColor.getRGB();
+				for (int x = 0; x < GLYPH_SIZE * scale; x++) {
+					for (int y = 0; y < GLYPH_SIZE * scale; y++) {
+						if (((texture.getRGB(xOffset + x, yOffset + y) >> 24) & 0xFF) != 0x00) {
+							for (int dx = 0; dx < actualScale; dx++) {
+								for (int dy = 0; dy < actualScale; dy++) {
+									tintedTexture.setRGB(x * actualScale + dx, y * actualScale + dy, rgb);
+								}
+							}
+						}
 					}
 				}
+				tintedTextures[color.ordinal()] = tintedTexture;
 			}
 		}
 
+		@Override
+		public void renderOnto(Graphics2D graphics, int xPos, int yPos, MinecraftColors color) {
+			graphics.drawImage(tintedTextures[color.ordinal()], xPos, yPos, null);
+		}
+
 		@Override
 		public int getWidth() {
 			return width;
 		}
 	}
+
+	private record LineLayout(Glyph[] glyphs, int[] xs, MinecraftColors[] colors, boolean[] bold, int width) {}
 }
@@ -23,6 +23,7 @@ import net.dv8tion.jda.api.events.interaction.command.CommandAutoCompleteInterac
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.ApiHandler.leaderboardDatabase;
 import static com.skyblockplus.utils.utils.Utils.ignore;
@@ -41,6 +42,23 @@ public class AutoCompleteEvent extends CommandAutoCompleteInteractionEvent {
 		}
 	}
 
+	/**
+	 * Replies with the names of the closest matching ids. Prefer this over mapping ids to names before each reply so the
+	 * search index for ids is reused
+	 */
+	public void replyClosestMatchFromIds(String toMatch, Collection<String> ids) {
+		List<String> matches = StringUtils
+			.getClosestMatchesFromIds(toMatch, ids, 25)
+			.stream()
+			.map(StringUtils::idToName)
+			.filter(e -> !e.isEmpty())
+			.distinct()
+			.collect(Collectors.toList());
+		if (!matches.isEmpty()) {
+			replyChoiceStrings(matches).queue(ignore, ignore);
+		}
+	}
+
 	public void replyClosestPlayer() {
 		replyChoiceStrings(leaderboardDatabase.getClosestPlayers(getOption("player").getAsString())).queue(ignore, ignore);
 	}
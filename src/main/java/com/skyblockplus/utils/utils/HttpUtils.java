@@ -38,9 +38,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.*;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -48,6 +46,8 @@ import java.net.http.HttpResponse;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.skyblockplus.utils.utils.JsonUtils.higherDepth;
@@ -55,7 +55,12 @@ import static com.skyblockplus.utils.utils.Utils.*;
 
 public class HttpUtils {
 
-	public static final CloseableHttpClient httpClient = HttpClientBuilder.create().build();
+	public static final int MAX_HTTP_CONNECTIONS_PER_ROUTE = 50;
+	public static final CloseableHttpClient httpClient = HttpClientBuilder
+		.create()
+		.setMaxConnPerRoute(MAX_HTTP_CONNECTIONS_PER_ROUTE)
+		.setMaxConnTotal(MAX_HTTP_CONNECTIONS_PER_ROUTE * 4)
+		.build();
 	public static final OkHttpClient okHttpClient = new OkHttpClient().newBuilder().build();
 	private static final Logger log = LoggerFactory.getLogger(HttpUtils.class);
 	private static final HttpClient asyncHttpClient = HttpClient
@@ -89,14 +94,83 @@ public class HttpUtils {
 	}
 
 	public static JsonResponse getJsonResponse(String jsonUrl) {
+		if (!jsonUrl.contains(HYPIXEL_API_KEY)) {
+			return sendJsonRequest(jsonUrl);
+		}
+
+		// Waits once for the whole request instead of parking on the permit and then blocking on the send
+		CompletableFuture<JsonResponse> response = asyncGetJsonResponse(jsonUrl);
 		try {
-			if (jsonUrl.contains(HYPIXEL_API_KEY) && hypixelRateLimiter.isRateLimited()) {
-				long timeTillReset = hypixelRateLimiter.getTimeTillReset();
-				log.info("Sleeping for " + timeTillReset + " seconds");
-				TimeUnit.SECONDS.sleep(timeTillReset);
-			}
+			return response.get();
+		} catch (InterruptedException e) {
+			// Gives the queued permit back instead of sending without a caller
+			response.cancel(true);
+			Thread.currentThread().interrupt();
 		} catch (Exception ignored) {}
+		return null;
+	}
+
+	/**
+	 * Queues for a Hypixel permit and sends the request on the async http client without holding a thread
+	 */
+	public static CompletableFuture<JsonResponse> asyncGetJsonResponse(String jsonUrl) {
+		return asyncGetJsonResponse(
+			jsonUrl,
+			jsonUrl.contains(HYPIXEL_API_KEY) ? hypixelRateLimiter.acquire() : CompletableFuture.completedFuture(null)
+		);
+	}
+
+	/**
+	 * @param permit Hypixel permit reserved for this request. Cancelling the returned future gives the permit back if it is
+	 * still queued and aborts the exchange if it was sent
+	 */
+	public static CompletableFuture<JsonResponse> asyncGetJsonResponse(String jsonUrl, CompletableFuture<Void> permit) {
+		HttpRequest.Builder request = HttpRequest
+			.newBuilder(URI.create(jsonUrl))
+			.header("content-type", "application/json; charset=UTF-8");
+		if (jsonUrl.contains("raw.githubusercontent.com")) {
+			request.header("Authorization", "token " + GITHUB_TOKEN);
+		}
 
+		AtomicReference<CompletableFuture<?>> exchange = new AtomicReference<>();
+		CompletableFuture<JsonResponse> response = permit
+			.thenCompose(ignored -> {
+				CompletableFuture<HttpResponse<byte[]>> send = asyncHttpClient.sendAsync(
+					request.build(),
+					HttpResponse.BodyHandlers.ofByteArray()
+				);
+				exchange.set(send);
+				return send;
+			})
+			// The body is already read, so parsing on the http client's pool never blocks it
+			.thenApply(httpResponse -> {
+				try (InputStream body = new ByteArrayInputStream(httpResponse.body())) {
+					return toJsonResponse(
+						jsonUrl,
+						httpResponse.uri(),
+						httpResponse.statusCode(),
+						name -> httpResponse.headers().firstValue(name).orElse(null),
+						body
+					);
+				} catch (Exception e) {
+					return null;
+				}
+			})
+			.exceptionally(e -> null);
+
+		response.whenComplete((r, e) -> {
+			if (response.isCancelled()) {
+				permit.cancel(false);
+				CompletableFuture<?> send = exchange.get();
+				if (send != null) {
+					send.cancel(true);
+				}
+			}
+		});
+		return response;
+	}
+
+	private static JsonResponse sendJsonRequest(String jsonUrl) {
 		try {
 			HttpGet httpGet = new HttpGet(jsonUrl);
 			if (jsonUrl.contains("raw.githubusercontent.com")) {
@@ -104,50 +178,66 @@ public class HttpUtils {
 			}
 			httpGet.addHeader("content-type", "application/json; charset=UTF-8");
 
-			try (CloseableHttpResponse httpResponse = httpClient.execute(httpGet)) {
-				if (jsonUrl.contains("api.hypixel.net")) {
-					if (jsonUrl.contains(HYPIXEL_API_KEY)) {
-						try {
-							hypixelRateLimiter.update(
-								Integer.parseInt(httpResponse.getFirstHeader("RateLimit-Remaining").getValue()),
-								Integer.parseInt(httpResponse.getFirstHeader("RateLimit-Reset").getValue())
-							);
-						} catch (Exception ignored) {}
-					}
+			try (
+				CloseableHttpResponse httpResponse = httpClient.execute(httpGet);
+				InputStream body = httpResponse.getEntity().getContent()
+			) {
+				return toJsonResponse(
+					jsonUrl,
+					httpGet.getURI(),
+					httpResponse.getStatusLine().getStatusCode(),
+					name -> {
+						Header header = httpResponse.getFirstHeader(name);
+						return header != null ? header.getValue() : null;
+					},
+					body
+				);
+			}
+		} catch (Exception ignored) {}
+		return null;
+	}
 
-					if (httpResponse.getStatusLine().getStatusCode() == 502) {
-						JsonObject obj = new JsonObject();
-						obj.addProperty("cause", "Hypixel API returned 502 bad gateway. The API may be down.");
-						return new JsonResponse(obj, httpResponse.getStatusLine().getStatusCode());
-					} else if (httpResponse.getStatusLine().getStatusCode() == 522) {
-						JsonObject obj = new JsonObject();
-						obj.addProperty("cause", "Hypixel API returned 522 connection timed out. The API may be down.");
-						return new JsonResponse(obj, httpResponse.getStatusLine().getStatusCode());
-					}
-				}
+	/**
+	 * Parses a response from either http client, updating the Hypixel rate limit from its headers
+	 *
+	 * @param header returns the first value of a header or null if it is missing
+	 */
+	private static JsonResponse toJsonResponse(String jsonUrl, URI uri, int statusCode, Function<String, String> header, InputStream body)
+		throws IOException {
+		if (jsonUrl.contains("api.hypixel.net")) {
+			if (jsonUrl.contains(HYPIXEL_API_KEY)) {
+				try {
+					hypixelRateLimiter.update(
+						Integer.parseInt(header.apply("RateLimit-Remaining")),
+						Integer.parseInt(header.apply("RateLimit-Reset"))
+					);
+				} catch (Exception ignored) {}
+			}
 
-				try (
-					InputStreamReader in = new InputStreamReader(httpResponse.getEntity().getContent());
-					JsonReader jsonIn = new JsonReader(in)
-				) {
-					JsonElement json = httpGet.getURI().getPath().equals("/v2/skyblock/profiles")
-						? SkyblockProfilesParser.parse(jsonIn, httpGet.getURI().getQuery().split("uuid=")[1])
-						: JsonParser.parseReader(jsonIn);
-
-					if (jsonUrl.contains("api.hypixel.net") && higherDepth(json, "throttle", false) && higherDepth(json, "global", false)) {
-						JsonObject obj = new JsonObject();
-						obj.addProperty(
-							"cause",
-							"Hypixel API returned 429 too many requests. The API is globally throttled and may be down."
-						);
-						return new JsonResponse(obj, httpResponse.getStatusLine().getStatusCode());
-					}
+			if (statusCode == 502) {
+				JsonObject obj = new JsonObject();
+				obj.addProperty("cause", "Hypixel API returned 502 bad gateway. The API may be down.");
+				return new JsonResponse(obj, statusCode);
+			} else if (statusCode == 522) {
+				JsonObject obj = new JsonObject();
+				obj.addProperty("cause", "Hypixel API returned 522 connection timed out. The API may be down.");
+				return new JsonResponse(obj, statusCode);
+			}
+		}
 
-					return new JsonResponse(json, httpResponse.getStatusLine().getStatusCode());
-				}
+		try (InputStreamReader in = new InputStreamReader(body); JsonReader jsonIn = new JsonReader(in)) {
+			JsonElement json = uri.getPath().equals("/v2/skyblock/profiles")
+				? SkyblockProfilesParser.parse(jsonIn, uri.getQuery().split("uuid=")[1])
+				: JsonParser.parseReader(jsonIn);
+
+			if (jsonUrl.contains("api.hypixel.net") && higherDepth(json, "throttle", false) && higherDepth(json, "global", false)) {
+				JsonObject obj = new JsonObject();
+				obj.addProperty("cause", "Hypixel API returned 429 too many requests. The API is globally throttled and may be down.");
+				return new JsonResponse(obj, statusCode);
 			}
-		} catch (Exception ignored) {}
-		return null;
+
+			return new JsonResponse(json, statusCode);
+		}
 	}
 
 	public static JsonObject getJsonObject(URIBuilder url) {
@@ -163,6 +253,14 @@ public class HttpUtils {
 	}
 
 	public static CompletableFuture<HttpResponse<InputStream>> asyncGet(String url) {
+		if (url.contains(HYPIXEL_API_KEY)) {
+			return hypixelRateLimiter
+				.acquire()
+				.thenCompose(ignored ->
+					asyncHttpClient.sendAsync(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofInputStream())
+				);
+		}
+
 		return asyncHttpClient.sendAsync(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofInputStream());
 	}
 
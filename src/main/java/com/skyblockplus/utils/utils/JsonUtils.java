@@ -22,6 +22,12 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.skyblockplus.utils.DataSnapshot;
+import com.skyblockplus.utils.HypixelRequestScheduler;
+import com.skyblockplus.utils.JsonPath;
+import com.skyblockplus.utils.MarketSnapshot;
+import com.skyblockplus.utils.PriceFeed;
 import org.apache.http.client.utils.URIBuilder;
 
 import java.io.FileReader;
@@ -29,6 +35,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -48,13 +55,49 @@ public class JsonUtils {
 	private static List<String> queryItems = new ArrayList<>();
 	public static final List<String> vanillaItems = new ArrayList<>();
 	private static final Set<String> dungeonLootItems = new HashSet<>();
-	private static Instant lowestBinJsonLastUpdated = Instant.now();
-	private static Instant averagePriceJsonLastUpdated = Instant.now();
-	private static Instant averageAuctionJsonLastUpdated = Instant.now();
-	private static Instant averageBinJsonLastUpdated = Instant.now();
 	private static Instant bingoJsonLastUpdated = Instant.now();
-	private static Instant bazaarJsonLastUpdated = Instant.now();
-	private static Instant extraPricesJsonLastUpdated = Instant.now();
+	private static final PriceFeed lowestBinFeed = new PriceFeed(
+		"lowest bin",
+		1,
+		TimeUnit.MINUTES,
+		() -> {
+			JsonObject lowestBinJson = getJsonObject(getQueryApiUrl("lowestbin").toString());
+			if (lowestBinJson == null || !higherDepth(lowestBinJson, "success", true)) {
+				lowestBinJson = getJsonObject("https://moulberry.codes/lowestbin.json");
+			}
+			return lowestBinJson;
+		}
+	);
+	private static final PriceFeed averagePriceFeed = new PriceFeed(
+		"average price",
+		1,
+		TimeUnit.MINUTES,
+		() -> fetchAverageJson("average")
+	);
+	private static final PriceFeed averageAuctionFeed = new PriceFeed(
+		"average auction",
+		1,
+		TimeUnit.MINUTES,
+		() -> fetchAverageJson("average_auction")
+	);
+	private static final PriceFeed averageBinFeed = new PriceFeed(
+		"average bin",
+		1,
+		TimeUnit.MINUTES,
+		() -> fetchAverageJson("average_bin")
+	);
+	private static final PriceFeed bazaarFeed = new PriceFeed(
+		"bazaar",
+		1,
+		TimeUnit.MINUTES,
+		() -> HypixelRequestScheduler.withPriority(HypixelRequestScheduler.Priority.BACKGROUND, JsonUtils::fetchBazaarJson)
+	);
+	private static final PriceFeed extraPricesFeed = new PriceFeed(
+		"extra prices",
+		15,
+		TimeUnit.MINUTES,
+		() -> getJsonObject("https://raw.githubusercontent.com/SkyHelperBot/Prices/main/prices.json")
+	);
 	private static JsonObject essenceCostsJson;
 	private static JsonObject levelingJson;
 	private static JsonObject collectionsJson;
@@ -66,12 +109,6 @@ public class JsonUtils {
 	private static JsonObject bitsJson;
 	private static JsonObject copperJson;
 	private static JsonObject miscJson;
-	private static JsonObject lowestBinJson;
-	private static JsonObject averagePriceJson;
-	private static JsonObject averageAuctionJson;
-	private static JsonObject averageBinJson;
-	private static JsonObject bazaarJson;
-	private static JsonObject extraPricesJson;
 	private static JsonObject emojiMap;
 	private static Map<String, JsonElement> skyblockItemsJson;
 	private static JsonObject internalJsonMappings;
@@ -85,23 +122,83 @@ public class JsonUtils {
 	private static JsonObject museumCategoriesJson;
 	private static JsonObject bestiaryJson;
 
+	/**
+	 * Starts refreshing all price feeds in the background
+	 */
+	public static void initializePriceFeeds() {
+		Stream.of(lowestBinFeed, bazaarFeed, averagePriceFeed).forEach(feed -> feed.onRefresh(MarketSnapshot::rebuild));
+		Stream
+			.of(lowestBinFeed, averagePriceFeed, averageAuctionFeed, averageBinFeed, bazaarFeed, extraPricesFeed)
+			.forEach(PriceFeed::start);
+	}
+
 	public static JsonObject getLowestBinJson() {
-		if (lowestBinJson == null || Duration.between(lowestBinJsonLastUpdated, Instant.now()).toMinutes() >= 1) {
-			lowestBinJson = getJsonObject(getQueryApiUrl("lowestbin").toString());
+		return lowestBinFeed.get();
+	}
 
-			if (lowestBinJson == null || !higherDepth(lowestBinJson, "success", true)) {
-				lowestBinJson = getJsonObject("https://moulberry.codes/lowestbin.json");
-			}
-			lowestBinJsonLastUpdated = Instant.now();
+	public static JsonObject getAveragePriceJson() {
+		return averagePriceFeed.get();
+	}
+
+	public static JsonObject getAverageAuctionJson() {
+		return averageAuctionFeed.get();
+	}
+
+	public static JsonObject getAverageBinJson() {
+		return averageBinFeed.get();
+	}
+
+	public static JsonObject getBazaarJson() {
+		return bazaarFeed.get();
+	}
+
+	public static JsonObject getExtraPricesJson() {
+		return extraPricesFeed.get();
+	}
+
+	private static JsonObject fetchAverageJson(String endpoint) {
+		URIBuilder uriBuilder = getQueryApiUrl(endpoint).addParameter("center", "modified_median").addParameter("step", "60");
+		if (!currentMayor.equals("Derpy")) {
+			uriBuilder.addParameter("time", "" + Instant.now().minus(4, ChronoUnit.DAYS).getEpochSecond());
 		}
 
-		return lowestBinJson;
+		JsonObject averageJson = getJsonObject(uriBuilder.toString());
+		return averageJson != null ? averageJson : getJsonObject("https://moulberry.codes/auction_averages/3day.json");
+	}
+
+	private static JsonObject fetchBazaarJson() {
+		JsonObject bazaarJson = new JsonObject();
+		for (Map.Entry<String, JsonElement> entry : getJsonObject(getHypixelApiUrl("/skyblock/bazaar", false))
+			.get("products")
+			.getAsJsonObject()
+			.entrySet()) {
+			String id = entry.getKey();
+
+			Matcher matcher = bazaarEnchantPattern.matcher(entry.getKey());
+			if (matcher.matches()) {
+				id = matcher.group(1) + ";" + matcher.group(2);
+			}
+
+			if (!getInternalJsonMappings().has(id)) {
+				continue;
+			}
+
+			JsonObject j = new JsonObject();
+			j.addProperty("buy_summary", higherDepth(entry.getValue(), "buy_summary.[0].pricePerUnit", 0.0));
+			j.addProperty("sell_summary", higherDepth(entry.getValue(), "sell_summary.[0].pricePerUnit", 0.0));
+			j.addProperty("buyVolume", higherDepth(entry.getValue(), "quick_status.buyVolume", 0L));
+			j.addProperty("sellVolume", higherDepth(entry.getValue(), "quick_status.sellVolume", 0L));
+			bazaarJson.add(id, j);
+		}
+		return bazaarJson;
 	}
 
 	public static JsonObject getInternalJsonMappings() {
 		if (internalJsonMappings == null) {
 			internalJsonMappings =
-				getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/InternalNameMappings.json");
+				DataSnapshot.getJsonObject(
+					"https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/InternalNameMappings.json"
+				);
 		}
 
 		return internalJsonMappings;
@@ -122,7 +219,7 @@ public class JsonUtils {
 		if (bestiaryJson == null) {
 			try {
 				JsonObject bestiaryJsonParsed = new JsonObject();
-				for (Map.Entry<String, JsonElement> entry : getJsonObject(
+				for (Map.Entry<String, JsonElement> entry : DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/bestiary.json"
 				)
 					.entrySet()) {
@@ -143,88 +240,6 @@ public class JsonUtils {
 		return bestiaryJson;
 	}
 
-	public static JsonObject getAveragePriceJson() {
-		if (averagePriceJson == null || Duration.between(averagePriceJsonLastUpdated, Instant.now()).toMinutes() >= 1) {
-			// Other requests will use the old json while the new json is being fetched (since it takes a
-			// few seconds)
-			averagePriceJsonLastUpdated = Instant.now();
-
-			URIBuilder uriBuilder = getQueryApiUrl("average").addParameter("center", "modified_median").addParameter("step", "60");
-			if (!currentMayor.equals("Derpy")) {
-				uriBuilder.addParameter("time", "" + Instant.now().minus(4, ChronoUnit.DAYS).getEpochSecond());
-			}
-
-			asyncGetJson(uriBuilder.toString())
-				.thenAcceptAsync(
-					e -> {
-						try {
-							averagePriceJson = e.getAsJsonObject();
-						} catch (Exception ex) {
-							averagePriceJson = getJsonObject("https://moulberry.codes/auction_averages/3day.json");
-						}
-					},
-					executor
-				);
-		}
-
-		return averagePriceJson;
-	}
-
-	public static JsonObject getAverageAuctionJson() {
-		if (averageAuctionJson == null || Duration.between(averageAuctionJsonLastUpdated, Instant.now()).toMinutes() >= 1) {
-			// Other requests will use the old json while the new json is being fetched (since it takes a
-			// few seconds)
-			averageAuctionJsonLastUpdated = Instant.now();
-
-			URIBuilder uriBuilder = getQueryApiUrl("average_auction").addParameter("center", "modified_median").addParameter("step", "60");
-			if (!currentMayor.equals("Derpy")) {
-				uriBuilder.addParameter("time", "" + Instant.now().minus(4, ChronoUnit.DAYS).getEpochSecond());
-			}
-
-			asyncGetJson(uriBuilder.toString())
-				.thenAcceptAsync(
-					e -> {
-						try {
-							averageAuctionJson = e.getAsJsonObject();
-						} catch (Exception ex) {
-							averageAuctionJson = getJsonObject("https://moulberry.codes/auction_averages/3day.json");
-						}
-					},
-					executor
-				);
-		}
-
-		return averageAuctionJson;
-	}
-
-	public static JsonObject getAverageBinJson() {
-		if (averageBinJson == null || Duration.between(averageBinJsonLastUpdated, Instant.now()).toMinutes() >= 1) {
-			// Other requests will use the old json while the new json is being fetched (since it takes a
-			// few seconds)
-			averageBinJsonLastUpdated = Instant.now();
-
-			URIBuilder uriBuilder = getQueryApiUrl("average_bin").addParameter("center", "modified_median").addParameter("step", "60");
-			if (!currentMayor.equals("Derpy")) {
-				uriBuilder.addParameter("time", "" + Instant.now().minus(4, ChronoUnit.DAYS).getEpochSecond());
-			}
-			averageBinJson = getJsonObject(uriBuilder.toString());
-
-			asyncGetJson(uriBuilder.toString())
-				.thenAcceptAsync(
-					e -> {
-						try {
-							averageBinJson = e.getAsJsonObject();
-						} catch (Exception ex) {
-							averageBinJson = getJsonObject("https://moulberry.codes/auction_averages/3day.json");
-						}
-					},
-					executor
-				);
-		}
-
-		return averageBinJson;
-	}
-
 	public static JsonObject getBingoInfoJson() {
 		if (bingoInfoJson == null || Duration.between(bingoJsonLastUpdated, Instant.now()).toMinutes() >= 5) {
 			bingoInfoJson = getJsonObject(getHypixelApiUrl("/resources/skyblock/bingo", false));
@@ -234,40 +249,6 @@ public class JsonUtils {
 		return bingoInfoJson;
 	}
 
-	public static JsonObject getBazaarJson() {
-		if (bazaarJson == null || Duration.between(bazaarJsonLastUpdated, Instant.now()).toMinutes() >= 1) {
-			try {
-				JsonObject tempBazaarJson = new JsonObject();
-				for (Map.Entry<String, JsonElement> entry : getJsonObject(getHypixelApiUrl("/skyblock/bazaar", false))
-					.get("products")
-					.getAsJsonObject()
-					.entrySet()) {
-					String id = entry.getKey();
-
-					Matcher matcher = bazaarEnchantPattern.matcher(entry.getKey());
-					if (matcher.matches()) {
-						id = matcher.group(1) + ";" + matcher.group(2);
-					}
-
-					if (!getInternalJsonMappings().has(id)) {
-						continue;
-					}
-
-					JsonObject j = new JsonObject();
-					j.addProperty("buy_summary", higherDepth(entry.getValue(), "buy_summary.[0].pricePerUnit", 0.0));
-					j.addProperty("sell_summary", higherDepth(entry.getValue(), "sell_summary.[0].pricePerUnit", 0.0));
-					j.addProperty("buyVolume", higherDepth(entry.getValue(), "quick_status.buyVolume", 0L));
-					j.addProperty("sellVolume", higherDepth(entry.getValue(), "quick_status.sellVolume", 0L));
-					tempBazaarJson.add(id, j);
-				}
-				bazaarJson = tempBazaarJson;
-				bazaarJsonLastUpdated = Instant.now();
-			} catch (Exception ignored) {}
-		}
-
-		return bazaarJson;
-	}
-
 	public static List<String> getQueryItems() {
 		if (queryItems == null) {
 			try {
@@ -312,19 +293,10 @@ public class JsonUtils {
 		return skyblockItemsJson;
 	}
 
-	public static JsonObject getExtraPricesJson() {
-		if (extraPricesJson == null || Duration.between(extraPricesJsonLastUpdated, Instant.now()).toMinutes() >= 15) {
-			extraPricesJson = getJson("https://raw.githubusercontent.com/SkyHelperBot/Prices/main/prices.json").getAsJsonObject();
-			extraPricesJsonLastUpdated = Instant.now();
-		}
-
-		return extraPricesJson;
-	}
-
 	public static JsonObject getMiscJson() {
 		if (miscJson == null) {
 			miscJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/misc.json"
 				);
 		}
@@ -334,7 +306,8 @@ public class JsonUtils {
 
 	public static JsonObject getDungeonLootJson() {
 		if (dungeonLootJson == null) {
-			dungeonLootJson = getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/DungeonLoot.json");
+			dungeonLootJson =
+				DataSnapshot.getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/DungeonLoot.json");
 			for (Map.Entry<String, JsonElement> floor : dungeonLootJson.entrySet()) {
 				for (Map.Entry<String, JsonElement> chest : floor.getValue().getAsJsonObject().entrySet()) {
 					for (JsonElement item : chest.getValue().getAsJsonArray()) {
@@ -351,7 +324,8 @@ public class JsonUtils {
 
 	public static JsonObject getDragonLootJson() {
 		if (dragonLootJson == null) {
-			dragonLootJson = getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/DragonLoot.json");
+			dragonLootJson =
+				DataSnapshot.getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/DragonLoot.json");
 		}
 
 		return dragonLootJson;
@@ -360,7 +334,7 @@ public class JsonUtils {
 	public static JsonObject getWeightJson() {
 		if (weightJson == null) {
 			weightJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/weight.json"
 				);
 		}
@@ -371,7 +345,9 @@ public class JsonUtils {
 	public static JsonObject getSbLevelsJson() {
 		if (sbLevelsJson == null) {
 			sbLevelsJson =
-				getJsonObject("https://github.com/NotEnoughUpdates/NotEnoughUpdates-REPO/raw/" + NEU_BRANCH + "/constants/sblevels.json");
+				DataSnapshot.getJsonObject(
+					"https://github.com/NotEnoughUpdates/NotEnoughUpdates-REPO/raw/" + NEU_BRANCH + "/constants/sblevels.json"
+				);
 		}
 
 		return sbLevelsJson;
@@ -380,7 +356,7 @@ public class JsonUtils {
 	public static JsonObject getEssenceShopsJson() {
 		if (essenceShopsJson == null) {
 			essenceShopsJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" +
 					NEU_BRANCH +
 					"/constants/essenceshops.json"
@@ -394,7 +370,7 @@ public class JsonUtils {
 		if (museumCategoriesJson == null) {
 			try {
 				museumCategoriesJson =
-					getJsonObject(
+					DataSnapshot.getJsonObject(
 						"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/museum.json"
 					);
 			} catch (Exception ignored) {}
@@ -405,7 +381,7 @@ public class JsonUtils {
 
 	public static JsonObject getBitsJson() {
 		if (bitsJson == null) {
-			bitsJson = getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/BitPrices.json");
+			bitsJson = DataSnapshot.getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/BitPrices.json");
 		}
 
 		return bitsJson;
@@ -413,7 +389,7 @@ public class JsonUtils {
 
 	public static JsonObject getCopperJson() {
 		if (copperJson == null) {
-			copperJson = getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/CopperPrices.json");
+			copperJson = DataSnapshot.getJsonObject("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/CopperPrices.json");
 		}
 
 		return copperJson;
@@ -422,7 +398,7 @@ public class JsonUtils {
 	public static JsonObject getReforgeStonesJson() {
 		if (reforgeStonesJson == null) {
 			reforgeStonesJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" +
 					NEU_BRANCH +
 					"/constants/reforgestones.json"
@@ -435,7 +411,7 @@ public class JsonUtils {
 	public static JsonObject getPetJson() {
 		if (petsJson == null) {
 			petsJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/pets.json"
 				);
 		}
@@ -445,7 +421,7 @@ public class JsonUtils {
 	public static JsonObject getParentsJson() {
 		if (parentsJson == null) {
 			parentsJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/parents.json"
 				);
 		}
@@ -455,7 +431,7 @@ public class JsonUtils {
 	public static JsonObject getPetNumsJson() {
 		if (petNumsJson == null) {
 			petNumsJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/petnums.json"
 				);
 		}
@@ -465,7 +441,7 @@ public class JsonUtils {
 	public static JsonObject getEnchantsJson() {
 		if (enchantsJson == null) {
 			enchantsJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/enchants.json"
 				);
 		}
@@ -475,7 +451,7 @@ public class JsonUtils {
 	public static JsonObject getLevelingJson() {
 		if (levelingJson == null) {
 			levelingJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" + NEU_BRANCH + "/constants/leveling.json"
 				);
 		}
@@ -485,7 +461,7 @@ public class JsonUtils {
 	public static JsonObject getEssenceCostsJson() {
 		if (essenceCostsJson == null) {
 			essenceCostsJson =
-				getJsonObject(
+				DataSnapshot.getJsonObject(
 					"https://raw.githubusercontent.com/NotEnoughUpdates/NotEnoughUpdates-REPO/" +
 					NEU_BRANCH +
 					"/constants/essencecosts.json"
@@ -526,7 +502,8 @@ public class JsonUtils {
 
 	public static JsonObject getPriceOverrideJson() {
 		if (priceOverrideJson == null) {
-			JsonElement splitPriceOverrides = getJson("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/PriceOverrides.json")
+			JsonElement splitPriceOverrides = DataSnapshot
+				.getJson("https://raw.githubusercontent.com/" + DATA_REPO_GITHUB + "/main/PriceOverrides.json")
 				.getAsJsonObject();
 			priceOverrideJson = higherDepth(splitPriceOverrides, "automatic").getAsJsonObject();
 			vanillaItems.addAll(priceOverrideJson.keySet());
@@ -543,67 +520,141 @@ public class JsonUtils {
 		priceOverrideJson = null;
 	}
 
+	/**
+	 * Resets every dataset read from the {@link DataSnapshot} so it is parsed again from the current snapshot
+	 */
+	public static void resetDataJsons() {
+		resetSbPlusData();
+		essenceCostsJson = null;
+		levelingJson = null;
+		enchantsJson = null;
+		petNumsJson = null;
+		petsJson = null;
+		parentsJson = null;
+		reforgeStonesJson = null;
+		bitsJson = null;
+		copperJson = null;
+		miscJson = null;
+		dungeonLootJson = null;
+		dragonLootJson = null;
+		weightJson = null;
+		sbLevelsJson = null;
+		essenceShopsJson = null;
+		museumCategoriesJson = null;
+		bestiaryJson = null;
+	}
+
 	public static void resetQueryItems() {
 		queryItems = null;
 	}
 
 	/* Miscellaneous */
 	public static JsonElement higherDepth(JsonElement element, String path) {
-		String[] paths = path.split("\\.");
-
-		try {
-			for (String key : paths) {
-				if (key.length() >= 3 && key.startsWith("[") && key.endsWith("]")) {
-					int idx = Integer.parseInt(key.substring(1, key.length() - 1));
-					element = element.getAsJsonArray().get(idx == -1 ? element.getAsJsonArray().size() - 1 : idx);
-				} else {
-					element = element.getAsJsonObject().get(key);
-				}
-			}
-			return element;
-		} catch (Exception e) {
-			return null;
-		}
+		return JsonPath.compile(path).get(element);
 	}
 
 	public static String higherDepth(JsonElement element, String path, String defaultValue) {
-		try {
-			return higherDepth(element, path).getAsString();
-		} catch (Exception e) {
-			return defaultValue;
-		}
+		return getAsString(higherDepth(element, path), defaultValue);
 	}
 
 	public static boolean higherDepth(JsonElement element, String path, boolean defaultValue) {
-		try {
-			return higherDepth(element, path).getAsBoolean();
-		} catch (Exception e) {
-			return defaultValue;
-		}
+		return getAsBoolean(higherDepth(element, path), defaultValue);
 	}
 
 	public static long higherDepth(JsonElement element, String path, long defaultValue) {
-		try {
-			return higherDepth(element, path).getAsLong();
-		} catch (Exception e) {
-			return defaultValue;
-		}
+		return getAsLong(higherDepth(element, path), defaultValue);
 	}
 
 	public static int higherDepth(JsonElement element, String path, int defaultValue) {
-		try {
-			return higherDepth(element, path).getAsInt();
-		} catch (Exception e) {
-			return defaultValue;
-		}
+		return getAsInt(higherDepth(element, path), defaultValue);
 	}
 
 	public static double higherDepth(JsonElement element, String path, double defaultValue) {
-		try {
-			return higherDepth(element, path).getAsDouble();
-		} catch (Exception e) {
-			return defaultValue;
+		return getAsDouble(higherDepth(element, path), defaultValue);
+	}
+
+	public static JsonElement higherDepth(JsonElement element, JsonPath path) {
+		return path.get(element);
+	}
+
+	public static String higherDepth(JsonElement element, JsonPath path, String defaultValue) {
+		return getAsString(path.get(element), defaultValue);
+	}
+
+	public static boolean higherDepth(JsonElement element, JsonPath path, boolean defaultValue) {
+		return getAsBoolean(path.get(element), defaultValue);
+	}
+
+	public static long higherDepth(JsonElement element, JsonPath path, long defaultValue) {
+		return getAsLong(path.get(element), defaultValue);
+	}
+
+	public static int higherDepth(JsonElement element, JsonPath path, int defaultValue) {
+		return getAsInt(path.get(element), defaultValue);
+	}
+
+	public static double higherDepth(JsonElement element, JsonPath path, double defaultValue) {
+		return getAsDouble(path.get(element), defaultValue);
+	}
+
+	/** Gson's typed getters read the only element of a single element array, so keep doing the same */
+	private static JsonElement unwrapSingleElement(JsonElement element) {
+		while (element != null && element.isJsonArray() && element.getAsJsonArray().size() == 1) {
+			element = element.getAsJsonArray().get(0);
+		}
+		return element;
+	}
+
+	private static String getAsString(JsonElement element, String defaultValue) {
+		element = unwrapSingleElement(element);
+		return element != null && element.isJsonPrimitive() ? element.getAsString() : defaultValue;
+	}
+
+	private static boolean getAsBoolean(JsonElement element, boolean defaultValue) {
+		element = unwrapSingleElement(element);
+		return element != null && element.isJsonPrimitive() ? element.getAsBoolean() : defaultValue;
+	}
+
+	private static long getAsLong(JsonElement element, long defaultValue) {
+		element = unwrapSingleElement(element);
+		if (element != null && element.isJsonPrimitive()) {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if (primitive.isNumber()) {
+				return primitive.getAsNumber().longValue();
+			}
+			try {
+				return primitive.getAsLong();
+			} catch (Exception ignored) {}
+		}
+		return defaultValue;
+	}
+
+	private static int getAsInt(JsonElement element, int defaultValue) {
+		element = unwrapSingleElement(element);
+		if (element != null && element.isJsonPrimitive()) {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if (primitive.isNumber()) {
+				return primitive.getAsNumber().intValue();
+			}
+			try {
+				return primitive.getAsInt();
+			} catch (Exception ignored) {}
+		}
+		return defaultValue;
+	}
+
+	private static double getAsDouble(JsonElement element, double defaultValue) {
+		element = unwrapSingleElement(element);
+		if (element != null && element.isJsonPrimitive()) {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if (primitive.isNumber()) {
+				return primitive.getAsNumber().doubleValue();
+			}
+			try {
+				return primitive.getAsDouble();
+			} catch (Exception ignored) {}
 		}
+		return defaultValue;
 	}
 
 	public static ArrayList<String> getJsonKeys(JsonElement jsonElement) {
@@ -19,15 +19,14 @@
 package com.skyblockplus.utils.utils;
 
 import com.google.gson.JsonElement;
+import com.skyblockplus.utils.FuzzyIndex;
 import me.xdrop.fuzzywuzzy.FuzzySearch;
-import me.xdrop.fuzzywuzzy.model.ExtractedResult;
 
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.Instant;
 import java.util.*;
-import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -231,14 +230,7 @@ public class StringUtils {
 			return toMatch;
 		}
 
-		return FuzzySearch
-			.extractOne(
-				toMatch,
-				matchFrom.stream().collect(Collectors.toMap(Function.identity(), StringUtils::idToName)).entrySet(),
-				Map.Entry::getValue
-			)
-			.getReferent()
-			.getKey();
+		return FuzzyIndex.ofIds(matchFrom).search(toMatch, 1).get(0);
 	}
 
 	public static List<String> getClosestMatchesFromIds(String toMatch, Collection<String> matchFrom, int numMatches) {
@@ -246,16 +238,7 @@ public class StringUtils {
 			return new ArrayList<>(List.of(toMatch));
 		}
 
-		return FuzzySearch
-			.extractTop(
-				toMatch,
-				matchFrom.stream().collect(Collectors.toMap(Function.identity(), StringUtils::idToName)).entrySet(),
-				Map.Entry::getValue,
-				numMatches
-			)
-			.stream()
-			.map(e -> e.getReferent().getKey())
-			.collect(Collectors.toCollection(ArrayList::new));
+		return FuzzyIndex.ofIds(matchFrom).search(toMatch, numMatches);
 	}
 
 	public static String getClosestMatch(String toMatch, List<String> matchFrom) {
@@ -279,11 +262,7 @@ public class StringUtils {
 			return new ArrayList<>(List.of(toMatch));
 		}
 
-		return FuzzySearch
-			.extractTop(toMatch, matchFrom, numMatches)
-			.stream()
-			.map(ExtractedResult::getString)
-			.collect(Collectors.toCollection(ArrayList::new));
+		return FuzzyIndex.ofNames(matchFrom).search(toMatch, numMatches);
 	}
 
 	public static String getItemThumbnail(String id) {
@@ -27,15 +27,17 @@ import com.skyblockplus.api.serversettings.managers.ServerSettingsModel;
 import com.skyblockplus.features.apply.ApplyGuild;
 import com.skyblockplus.features.apply.ApplyUser;
 import com.skyblockplus.features.listeners.AutomaticGuild;
+import com.skyblockplus.utils.DataSnapshot;
 import com.skyblockplus.utils.ExposeExclusionStrategy;
+import com.skyblockplus.utils.HypixelRequestScheduler;
 import com.skyblockplus.utils.command.CustomPaginator;
+import com.skyblockplus.utils.command.InteractionRouter;
 import com.skyblockplus.utils.command.SlashCommandClient;
 import com.skyblockplus.utils.database.Database;
 import com.skyblockplus.utils.exceptionhandler.ExceptionExecutor;
 import com.skyblockplus.utils.exceptionhandler.ExceptionScheduler;
 import com.skyblockplus.utils.exceptionhandler.GlobalExceptionHandler;
 import com.skyblockplus.utils.oauth.OAuthClient;
-import com.skyblockplus.utils.structs.HypixelKeyRecord;
 import com.skyblockplus.utils.structs.InvItem;
 import me.nullicorn.nedit.NBTReader;
 import me.nullicorn.nedit.type.NBTCompound;
@@ -79,6 +81,7 @@ import java.util.stream.Collectors;
 import static com.skyblockplus.features.listeners.MainListener.guildMap;
 import static com.skyblockplus.utils.ApiHandler.leaderboardDatabase;
 import static com.skyblockplus.utils.Constants.*;
+import static com.skyblockplus.utils.utils.HttpUtils.MAX_HTTP_CONNECTIONS_PER_ROUTE;
 import static com.skyblockplus.utils.utils.HttpUtils.getJson;
 import static com.skyblockplus.utils.utils.HypixelUtils.getNpcSellPrice;
 import static com.skyblockplus.utils.utils.HypixelUtils.isCrimsonArmor;
@@ -102,23 +105,18 @@ public class Utils {
 		new SynchronousQueue<>()
 	);
 	public static final ScheduledExecutorService scheduler = new ExceptionScheduler(7);
-	public static final ExceptionExecutor playerRequestExecutor = new ExceptionExecutor(
-		2,
-		2,
-		45L,
-		TimeUnit.SECONDS,
-		new LinkedBlockingQueue<>()
-	)
-		.setAllowCoreThreadTimeOut(true);
-	public static final ExceptionExecutor leaderboardDbInsertQueue = new ExceptionExecutor(
-		20,
-		20,
+	public static final int LEADERBOARD_DB_POOL_SIZE = 20;
+	public static final ExceptionExecutor playerRequestExecutor = ExceptionExecutor.newBlockingExecutor(MAX_HTTP_CONNECTIONS_PER_ROUTE);
+	public static final ExceptionExecutor leaderboardDbInsertQueue = ExceptionExecutor.newBlockingExecutor(LEADERBOARD_DB_POOL_SIZE);
+	public static final ExceptionExecutor guildRequestExecutor = new ExceptionExecutor(
+		1,
+		1,
 		45L,
 		TimeUnit.SECONDS,
 		new LinkedBlockingQueue<>()
 	)
 		.setAllowCoreThreadTimeOut(true);
-	public static final ExceptionExecutor guildRequestExecutor = new ExceptionExecutor(
+	public static final ExceptionExecutor updateGuildExecutor = new ExceptionExecutor(
 		1,
 		1,
 		45L,
@@ -126,9 +124,9 @@ public class Utils {
 		new LinkedBlockingQueue<>()
 	)
 		.setAllowCoreThreadTimeOut(true);
-	public static final ExceptionExecutor updateGuildExecutor = new ExceptionExecutor(
-		1,
-		1,
+	public static final ExceptionExecutor inventoryDecodeExecutor = new ExceptionExecutor(
+		Runtime.getRuntime().availableProcessors(),
+		Runtime.getRuntime().availableProcessors(),
 		45L,
 		TimeUnit.SECONDS,
 		new LinkedBlockingQueue<>()
@@ -136,7 +134,7 @@ public class Utils {
 		.setAllowCoreThreadTimeOut(true);
 	public static final List<String> hypixelGuildRequestQueue = Collections.synchronizedList(new ArrayList<>());
 	public static final List<String> hypixelGuildFetchQueue = Collections.synchronizedList(new ArrayList<>());
-	public static final HypixelKeyRecord hypixelRateLimiter = new HypixelKeyRecord(600, 0);
+	public static final HypixelRequestScheduler hypixelRateLimiter = new HypixelRequestScheduler(600);
 	public static final Gson gson = new GsonBuilder()
 		.addSerializationExclusionStrategy(new ExposeExclusionStrategy(true))
 		.addDeserializationExclusionStrategy(new ExposeExclusionStrategy(false))
@@ -198,6 +196,7 @@ public class Utils {
 	public static ShardManager jda;
 	public static Database database;
 	public static EventWaiter waiter;
+	public static InteractionRouter interactionRouter;
 	public static GlobalExceptionHandler globalExceptionHandler;
 	public static JDAWebhookClient botStatusWebhook;
 	public static CommandClient client;
@@ -271,7 +270,7 @@ public class Utils {
 
 	public static CustomPaginator.Builder defaultPaginator(User... eventAuthor) {
 		return new CustomPaginator.Builder()
-			.setEventWaiter(waiter)
+			.setInteractionRouter(interactionRouter)
 			.setColumns(1)
 			.setItemsPerPage(1)
 			.setFinalAction(m -> {
@@ -862,7 +861,7 @@ public class Utils {
 			neuRepo.close();
 			skyblockPlusDataRepo.close();
 
-			resetSbPlusData();
+			DataSnapshot.refresh();
 		} catch (Exception e) {
 			log.error("Exception while automatically updating item mappings", e);
 		}